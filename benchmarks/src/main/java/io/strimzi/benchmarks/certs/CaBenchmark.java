@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.certs;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.certs.CertAndKey;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.JavaCertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Ca;
+import io.strimzi.operator.common.model.CertificateCache;
+import io.strimzi.operator.common.model.ClientsCa;
+import io.strimzi.operator.common.model.PasswordGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the certificate operations done by the operators during the reconciliations on top of the
+ * {@link CertManager}:
+ * <ul>
+ *     <li>{@code generateSignedCert} issues a certificate signed by the clients CA, as the User Operator does for a new
+ *         TLS user, including the temporary files and the PKCS12 keystore</li>
+ *     <li>{@code addKeyAndCertToKeyStore} builds the PKCS12 keystore for an existing key and certificate with
+ *         {@link Ca#addKeyAndCertToKeyStore(String, byte[], byte[])}</li>
+ *     <li>{@code parseCertificate} decodes a PEM certificate</li>
+ *     <li>{@code cachedCertificate} gets the same certificate from an unchanged Secret through the
+ *         {@link CertificateCache}</li>
+ *     <li>{@code createFileTrustStore} builds a PKCS12 truststore file with {@link Util#createFileTrustStore}</li>
+ * </ul>
+ * Only the first two depend on the certificate manager implementation, so only they are run with both of them.
+ * Run with {@code -prof gc} to see the allocation per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class CaBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", "KafkaUser", "my-namespace", "my-user");
+    private static final Subject CA_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("clients-ca")
+            .build();
+
+    /**
+     * Clients CA with the certificate manager implementation given by the parameter
+     */
+    @State(Scope.Benchmark)
+    public static class CaState {
+        @Param({"OPENSSL", "JAVA"})
+        public CertManagerType certManagerType;
+
+        private ClientsCa clientsCa;
+        private CertAndKey userCertAndKey;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            CertManager certManager = certManagerType.create();
+            CaSecrets secrets = CaSecrets.generate(certManager);
+
+            clientsCa = new ClientsCa(RECONCILIATION, certManager, new PasswordGenerator(12),
+                    "my-cluster-clients-ca-cert", secrets.caCertSecret,
+                    "my-cluster-clients-ca", secrets.caKeySecret,
+                    365, 30, false, null);
+            userCertAndKey = clientsCa.generateSignedCert("my-user");
+        }
+    }
+
+    /**
+     * PEM encoded certificate and the Secret with it
+     */
+    @State(Scope.Benchmark)
+    public static class CertificateState {
+        private byte[] certificate;
+        private Secret secret;
+        private Set<X509Certificate> certificates;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, CertificateException {
+            CaSecrets secrets = CaSecrets.generate(new JavaCertManager());
+
+            secret = secrets.caCertSecret;
+            certificate = Base64.getDecoder().decode(secret.getData().get(Ca.CA_CRT));
+            certificates = Set.of(Ca.x509Certificate(certificate));
+        }
+    }
+
+    /**
+     * Secrets with a new CA certificate and its key
+     *
+     * @param caCertSecret  Secret with the CA certificate
+     * @param caKeySecret   Secret with the CA key
+     */
+    private record CaSecrets(Secret caCertSecret, Secret caKeySecret) {
+        static CaSecrets generate(CertManager certManager) throws IOException {
+            File keyFile = Files.createTempFile("ca", ".key").toFile();
+            File certFile = Files.createTempFile("ca", ".crt").toFile();
+
+            try {
+                certManager.generateSelfSignedCert(keyFile, certFile, CA_SUBJECT, 365);
+
+                return new CaSecrets(
+                        secret("my-cluster-clients-ca-cert", Ca.CA_CRT, Files.readAllBytes(certFile.toPath())),
+                        secret("my-cluster-clients-ca", Ca.CA_KEY, Files.readAllBytes(keyFile.toPath())));
+            } finally {
+                Files.deleteIfExists(keyFile.toPath());
+                Files.deleteIfExists(certFile.toPath());
+            }
+        }
+
+        private static Secret secret(String name, String key, byte[] value) {
+            return new SecretBuilder()
+                    .withNewMetadata()
+                        .withName(name)
+                        .withNamespace("my-namespace")
+                        .withUid(name + "-uid")
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .withData(Map.of(key, Base64.getEncoder().encodeToString(value)))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public CertAndKey generateSignedCert(CaState state) throws IOException {
+        return state.clientsCa.generateSignedCert("my-user");
+    }
+
+    @Benchmark
+    public CertAndKey addKeyAndCertToKeyStore(CaState state) throws IOException {
+        return state.clientsCa.addKeyAndCertToKeyStore("my-user", state.userCertAndKey.key(), state.userCertAndKey.cert());
+    }
+
+    @Benchmark
+    public X509Certificate parseCertificate(CertificateState state) throws CertificateException {
+        return Ca.x509Certificate(state.certificate);
+    }
+
+    @Benchmark
+    public X509Certificate cachedCertificate(CertificateState state) throws CertificateException {
+        return CertificateCache.certificate(state.secret, Ca.CA_CRT);
+    }
+
+    @Benchmark
+    public void createFileTrustStore(CertificateState state) throws IOException {
+        File trustStore = Util.createFileTrustStore("benchmark", ".p12", state.certificates, "changeit".toCharArray());
+        Files.delete(trustStore.toPath());
+    }
+}
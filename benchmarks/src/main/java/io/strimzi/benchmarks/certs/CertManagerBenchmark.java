@@ -0,0 +1,160 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.certs;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.CertManagerType;
+import io.strimzi.certs.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@link CertManager} operations used by the operators to manage the CAs and the certificates signed by
+ * them, for the openssl based ({@code OPENSSL}) and the in-process ({@code JAVA}) implementation:
+ * <ul>
+ *     <li>{@code generateSelfSignedCert} creates a new CA with a new 4096-bit key</li>
+ *     <li>{@code renewSelfSignedCert} renews the CA certificate with the existing key</li>
+ *     <li>{@code generateCsrAndCert} generates a new 2048-bit key with its CSR and signs it with the CA</li>
+ *     <li>{@code generateCert} only signs an existing CSR</li>
+ *     <li>{@code addKeyAndCertToKeyStore} builds a PKCS12 keystore with a key and its certificate</li>
+ *     <li>{@code addCertToTrustStore} builds a PKCS12 truststore with the CA certificate</li>
+ * </ul>
+ * The operations read and write files in a temporary directory, as they do in the operators. Run with
+ * {@code -prof gc} to see the allocation per operation. With the openssl implementation, most of the work is done in
+ * the forked openssl processes, so their CPU time and memory are not included in the allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class CertManagerBenchmark {
+    private static final Subject CA_SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("cluster-ca")
+            .build();
+    private static final Subject SUBJECT = new Subject.Builder()
+            .withOrganizationName("io.strimzi")
+            .withCommonName("my-cluster-kafka")
+            .addDnsName("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc")
+            .addDnsName("my-cluster-kafka-bootstrap.my-namespace.svc")
+            .build();
+    private static final String PASSWORD = "changeit";
+
+    @Param({"OPENSSL", "JAVA"})
+    public CertManagerType certManagerType;
+
+    private CertManager certManager;
+    private Path dir;
+    private File caKey;
+    private File caCert;
+    private byte[] caKeyBytes;
+    private byte[] caCertBytes;
+    private File key;
+    private File csr;
+    private File cert;
+    private File newCaKey;
+    private File newCaCert;
+    private File renewedCaCert;
+    private File keyStore;
+    private File trustStore;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        certManager = certManagerType.create();
+        dir = Files.createTempDirectory("cert-manager-benchmark-");
+
+        caKey = dir.resolve("ca.key").toFile();
+        caCert = dir.resolve("ca.crt").toFile();
+        key = dir.resolve("tls.key").toFile();
+        csr = dir.resolve("tls.csr").toFile();
+        cert = dir.resolve("tls.crt").toFile();
+        newCaKey = dir.resolve("new-ca.key").toFile();
+        newCaCert = dir.resolve("new-ca.crt").toFile();
+        renewedCaCert = dir.resolve("renewed-ca.crt").toFile();
+        keyStore = dir.resolve("tls.p12").toFile();
+        trustStore = dir.resolve("ca.p12").toFile();
+
+        Files.createFile(caKey.toPath());
+        certManager.generateSelfSignedCert(caKey, caCert, CA_SUBJECT, 365);
+        certManager.generateCsr(key, csr, SUBJECT);
+        certManager.generateCert(csr, caKey, caCert, cert, SUBJECT, 365);
+        caKeyBytes = Files.readAllBytes(caKey.toPath());
+        caCertBytes = Files.readAllBytes(caCert.toPath());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateSelfSignedCert() throws IOException {
+        // An empty key file makes the certificate manager generate a new key
+        Files.write(newCaKey.toPath(), new byte[0]);
+        certManager.generateSelfSignedCert(newCaKey, newCaCert, CA_SUBJECT, 365);
+    }
+
+    @Benchmark
+    public void renewSelfSignedCert() throws IOException {
+        Files.copy(caCert.toPath(), renewedCaCert.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        certManager.renewSelfSignedCert(caKey, renewedCaCert, CA_SUBJECT, 365);
+    }
+
+    @Benchmark
+    public void generateCsrAndCert() throws IOException {
+        File newKey = dir.resolve("new-tls.key").toFile();
+        File newCsr = dir.resolve("new-tls.csr").toFile();
+        File newCert = dir.resolve("new-tls.crt").toFile();
+
+        certManager.generateCsr(newKey, newCsr, SUBJECT);
+        certManager.generateCert(newCsr, caKeyBytes, caCertBytes, newCert, SUBJECT, 365);
+    }
+
+    @Benchmark
+    public void generateCert() throws IOException {
+        certManager.generateCert(csr, caKeyBytes, caCertBytes, dir.resolve("signed-tls.crt").toFile(), SUBJECT, 365);
+    }
+
+    @Benchmark
+    public void addKeyAndCertToKeyStore() throws IOException {
+        certManager.addKeyAndCertToKeyStore(key, cert, SUBJECT.commonName(), keyStore, PASSWORD);
+    }
+
+    @Benchmark
+    public void addCertToTrustStore() throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // An empty truststore file makes the certificate manager create a new truststore instead of adding to it
+        Files.write(trustStore.toPath(), new byte[0]);
+        certManager.addCertToTrustStore(caCert, "ca.crt", trustStore, PASSWORD);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.controller.AbstractControllerLoop;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of running the reconciliations of the {@link AbstractControllerLoop}: a fixed pool of
+ * controller loops each reconciling in its own thread ({@code FIXED}, the User Operator's default with 50 loops), and
+ * a single loop dispatching the reconciliations to threads created on demand with a concurrency limit
+ * ({@code ON_DEMAND}, enabled in the User Operator by {@code STRIMZI_CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS}).
+ * <p>
+ * Each invocation reconciles all the users once. The reconciliation just blocks for a fixed time, like a
+ * reconciliation waiting for the Kafka Admin API and the Kubernetes API does, so the score shows how the throughput
+ * scales with the parallelism. The cost of the parallelism is printed after each iteration: the peak number of live
+ * threads during the iteration and the resident set size of the JVM at its end (read from {@code /proc}, so
+ * available only on Linux).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ControllerLoopBenchmark {
+
+    /**
+     * How the reconciliations are run.
+     */
+    public enum ExecutionMode {
+        /**
+         * {@code parallelism} controller loops, each reconciling in its own thread.
+         */
+        FIXED,
+        /**
+         * A single controller loop dispatching up to {@code parallelism} reconciliations to threads created on demand.
+         */
+        ON_DEMAND
+    }
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"FIXED", "ON_DEMAND"})
+    public ExecutionMode mode;
+
+    @Param({"50", "500"})
+    public int parallelism;
+
+    @Param({"5"})
+    public long reconciliationMs;
+
+    private ControllerQueue queue;
+    private ScheduledExecutorService scheduledExecutor;
+    private ExecutorService reconciliationExecutor;
+    private List<AbstractControllerLoop> loops;
+    private final Semaphore reconciled = new Semaphore(0);
+
+    /**
+     * A controller loop whose reconciliations just block for a fixed time.
+     */
+    private class BlockingLoop extends AbstractControllerLoop {
+        private final ControllerMetricsHolder metrics;
+
+        BlockingLoop(String name, ControllerMetricsHolder metrics, ExecutorService reconciliationExecutor, int maxConcurrentReconciliations) {
+            super(name, queue, new ReconciliationLockManager(), scheduledExecutor, reconciliationExecutor, maxConcurrentReconciliations);
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void reconcile(Reconciliation reconciliation) {
+            try {
+                Thread.sleep(reconciliationMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reconciled.release();
+        }
+
+        @Override
+        protected ControllerMetricsHolder metrics() {
+            return metrics;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        var metrics = new ControllerMetricsHolder("KafkaUser", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        queue = new ControllerQueue(users, metrics);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        loops = new ArrayList<>();
+
+        if (mode == ExecutionMode.FIXED) {
+            for (int i = 0; i < parallelism; i++) {
+                loops.add(new BlockingLoop("loop-" + i, metrics, null, 1));
+            }
+        } else {
+            reconciliationExecutor = Executors.newCachedThreadPool();
+            loops.add(new BlockingLoop("loop", metrics, reconciliationExecutor, parallelism));
+        }
+
+        loops.forEach(AbstractControllerLoop::start);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws InterruptedException {
+        for (var loop : loops) {
+            loop.stop();
+        }
+        if (reconciliationExecutor != null) {
+            reconciliationExecutor.shutdown();
+        }
+        scheduledExecutor.shutdownNow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        var threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%npeak threads: %d, RSS: %d MiB%n", threads.getPeakThreadCount(), rssKiB() / 1024);
+        threads.resetPeakThreadCount();
+    }
+
+    @Benchmark
+    public void reconcileAll() throws InterruptedException {
+        for (int i = 0; i < users; i++) {
+            queue.enqueue(new SimplifiedReconciliation("KafkaUser", "my-namespace", "user-" + i, "timer"));
+        }
+        reconciled.acquire(users);
+    }
+
+    private static long rssKiB() {
+        try {
+            for (var line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not on Linux
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.topic.v2.BenchmarkTopics;
+import org.apache.kafka.clients.admin.Admin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@code BatchingLoop} itself (queueing, coalescing, batching and the item store lookups),
+ * normalized per event, by using a controller which only counts the topics it's asked to reconcile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BatchingLoopBenchmark {
+
+    /**
+     * The number of events offered by each invocation.
+     */
+    static final int EVENTS = 1_000;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    @Param({"100"})
+    public int maxBatchSize;
+
+    @Param({"false", "true"})
+    public boolean adaptiveBatching;
+
+    private Admin admin;
+    private BenchmarkTopics.Loop loop;
+    private final Semaphore reconciled = new Semaphore(0);
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws ExecutionException, InterruptedException {
+        List<KafkaTopic> kafkaTopics = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            kafkaTopics.add(BenchmarkTopics.kafkaTopic(i, 3_600_000L));
+        }
+        admin = BenchmarkTopics.admin();
+        loop = BenchmarkTopics.countingLoop(admin, kafkaTopics, threads, maxBatchSize, adaptiveBatching, reconciled);
+        loop.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws InterruptedException {
+        loop.stop();
+        admin.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void offerAndReconcile() throws InterruptedException {
+        loop.offerAll();
+        reconciled.acquire(EVENTS);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.topic;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.topic.v2.BenchmarkTopics;
+import org.apache.kafka.clients.admin.Admin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reconciling a batch of KafkaTopics in {@code BatchingTopicController}, normalized per topic,
+ * for different numbers of KafkaTopics in the namespace.
+ * <p>
+ * Each invocation reconciles the next batch of {@link #BATCH_SIZE} KafkaTopics, cycling through all of them.
+ * Run with {@code -prof gc} to also get the allocation rate per reconciled topic.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BatchingTopicControllerBenchmark {
+
+    /**
+     * The number of KafkaTopics reconciled by each invocation (the default maximum batch size).
+     */
+    static final int BATCH_SIZE = 100;
+
+    /**
+     * What happens to the topics being reconciled
+     */
+    public enum Scenario {
+        /** The topics don't exist in Kafka, and are created. */
+        CREATE,
+        /** The topics exist in Kafka and are unchanged, as in the periodic resync of the informer. */
+        NOOP_RESYNC,
+        /** The retention.ms of the topics is changed. */
+        CONFIG_CHANGE,
+        /** The KafkaTopics have been deleted, and the topics are deleted from Kafka. */
+        DELETE
+    }
+
+    @Param({"1000", "10000", "100000"})
+    public int topics;
+
+    @Param({"CREATE", "NOOP_RESYNC", "CONFIG_CHANGE", "DELETE"})
+    public Scenario scenario;
+
+    @Param({"0"})
+    public long topicSnapshotMaxAgeMs;
+
+    private List<KafkaTopic> kafkaTopics;
+    // the batches of KafkaTopics, with the original retention.ms and with the changed retention.ms
+    private List<BenchmarkTopics.Batch> batches;
+    private List<BenchmarkTopics.Batch> changedBatches;
+
+    private Admin admin;
+    private BenchmarkTopics.Controller controller;
+    private int cursor;
+    private int pass;
+    private BenchmarkTopics.Batch batch;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws ExecutionException, InterruptedException {
+        kafkaTopics = new ArrayList<>(topics);
+        List<KafkaTopic> changedTopics = new ArrayList<>(topics);
+        for (int i = 0; i < topics; i++) {
+            kafkaTopics.add(BenchmarkTopics.kafkaTopic(i, 3_600_000L));
+            changedTopics.add(BenchmarkTopics.kafkaTopic(i, 7_200_000L));
+        }
+        batches = toBatches(kafkaTopics);
+        changedBatches = toBatches(changedTopics);
+        reset();
+    }
+
+    private static List<BenchmarkTopics.Batch> toBatches(List<KafkaTopic> kts) {
+        List<BenchmarkTopics.Batch> result = new ArrayList<>(kts.size() / BATCH_SIZE + 1);
+        for (int i = 0; i < kts.size(); i += BATCH_SIZE) {
+            result.add(BenchmarkTopics.batch(kts.subList(i, Math.min(kts.size(), i + BATCH_SIZE))));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new cluster (and controller) with the state the scenario starts from.
+     */
+    private void reset() throws ExecutionException, InterruptedException {
+        if (controller != null) {
+            controller.stop();
+            admin.close();
+        }
+        admin = BenchmarkTopics.admin();
+        if (scenario != Scenario.CREATE) {
+            for (int i = 0; i < topics; i += 1_000) {
+                BenchmarkTopics.createTopics(admin, kafkaTopics.subList(i, Math.min(topics, i + 1_000)));
+            }
+        }
+        controller = BenchmarkTopics.controller(admin, topicSnapshotMaxAgeMs);
+        cursor = 0;
+        pass = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void nextBatch() throws ExecutionException, InterruptedException {
+        if (cursor == batches.size()) {
+            cursor = 0;
+            pass++;
+            if (scenario == Scenario.CREATE || scenario == Scenario.DELETE) {
+                // every topic has been created (or deleted), so start again from an empty (or full) cluster
+                reset();
+            }
+        }
+        // the retention.ms of each topic alternates between the two values on successive passes
+        batch = scenario == Scenario.CONFIG_CHANGE && pass % 2 == 0 ? changedBatches.get(cursor) : batches.get(cursor);
+        cursor++;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        controller.stop();
+        admin.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void reconcile() throws InterruptedException {
+        if (scenario == Scenario.DELETE) {
+            controller.onDelete(batch);
+        } else {
+            controller.onUpdate(batch);
+        }
+    }
+}
@@ -0,0 +1,565 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks.topic;
+
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinitionBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.BenchmarkTopics;
+import okhttp3.mockwebserver.MockWebServer;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.TopicCollection;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Simulates the load of a large namespace on a single unidirectional Topic Operator, to find how many KafkaTopics it
+ * can sustain before its resyncs no longer fit within the full reconciliation interval.
+ * <p>
+ * The whole Topic Operator ({@code TopicOperatorMain}) is started against an in-process Kube API server
+ * (the fabric8 mock server, in CRUD mode) and an in-memory Kafka {@link Admin} (Kafka's {@code MockAdminClient}).
+ * The simulation first creates the initial KafkaTopics and waits for them to become {@code Ready}, then generates
+ * a seeded, and so reproducible, sequence of creates, updates and deletes at a fixed rate, while the informer's
+ * periodic resyncs happen as they would in a real cluster.
+ * It reports, as markdown:</p>
+ * <ul>
+ *     <li>The event-to-Ready latency percentiles of the initial KafkaTopics, creates and updates,
+ *     and the event-to-Admin.deleteTopics latency percentiles of deletes,</li>
+ *     <li>The depth of the operator's queues over time, and the longest period they were never empty,</li>
+ *     <li>The number of requests made to the Admin client, by method.</li>
+ * </ul>
+ * <p>
+ * The simulation is configured using system properties:</p>
+ * <ul>
+ *     <li>{@code sim.topics}: The number of initial KafkaTopics (default 1000).</li>
+ *     <li>{@code sim.durationSeconds}: The duration of the churn (default 120).</li>
+ *     <li>{@code sim.churnPerSecond}: The number of creates, updates and deletes per second (default 20).</li>
+ *     <li>{@code sim.createWeight}, {@code sim.updateWeight} and {@code sim.deleteWeight}: The relative frequency
+ *     of each kind of change (default 1, 2 and 1).</li>
+ *     <li>{@code sim.seed}: The seed of the sequence of changes (default 1).</li>
+ *     <li>{@code sim.settleSeconds}: How long to wait for the outstanding changes to be reconciled,
+ *     after the churn (default 60).</li>
+ *     <li>{@code sim.report}: The file to write the report to (default standard output).</li>
+ *     <li>Any {@code STRIMZI_*} property is passed to the operator as its environment variable of the same name.</li>
+ * </ul>
+ * For example:
+ * <pre>
+ * java -Dsim.topics=10000 -DSTRIMZI_FULL_RECONCILIATION_INTERVAL_MS=60000 \
+ *     -cp benchmarks/target/benchmarks.jar io.strimzi.benchmarks.topic.TopicOperatorScaleSimulation
+ * </pre>
+ */
+public class TopicOperatorScaleSimulation {
+
+    private static final String NAMESPACE = "sim";
+    private static final long SAMPLE_PERIOD_MS = 100;
+    private static final long UNKNOWN_GENERATION = Long.MAX_VALUE;
+    // MockWebServer logs every request at INFO, using java.util.logging (held here so the level isn't garbage collected)
+    private static final Logger MOCK_WEB_SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+    /**
+     * The kinds of operation whose latency is measured
+     */
+    enum Op {
+        /** A KafkaTopic which existed when the operator started */
+        INITIAL,
+        /** A KafkaTopic created during the churn */
+        CREATE,
+        /** A change to the spec of an existing KafkaTopic */
+        UPDATE,
+        /** The deletion of an existing KafkaTopic */
+        DELETE
+    }
+
+    /**
+     * @param op The operation
+     * @param startNanoTime When the operation was requested
+     * @param generation The generation which needs to become Ready
+     */
+    private record Pending(Op op, long startNanoTime, long generation) { }
+
+    private final int topics;
+    private final int durationSeconds;
+    private final int churnPerSecond;
+    private final int createWeight;
+    private final int updateWeight;
+    private final int deleteWeight;
+    private final long seed;
+    private final int settleSeconds;
+    private final Map<String, String> operatorEnv;
+
+    private final Map<String, Pending> pending = new HashMap<>(); // guarded by this
+    private final List<String> idle = new ArrayList<>(); // guarded by this
+    private final Map<Op, List<Long>> latenciesNs = new EnumMap<>(Op.class); // guarded by this
+    private long lastInitialReadyNanoTime; // guarded by this
+
+    private final Map<String, LongAdder> adminRequests = new ConcurrentHashMap<>();
+    private final AtomicLong adminRequestsTotal = new AtomicLong();
+    private final List<long[]> queueDepthSeries = new ArrayList<>(); // only accessed by the sampler thread, until it stops
+    private long longestBacklogMs;
+    private long maxQueueDepth;
+
+    private TopicOperatorScaleSimulation(Map<String, String> properties) {
+        this.topics = Integer.parseInt(properties.getOrDefault("sim.topics", "1000"));
+        this.durationSeconds = Integer.parseInt(properties.getOrDefault("sim.durationSeconds", "120"));
+        this.churnPerSecond = Integer.parseInt(properties.getOrDefault("sim.churnPerSecond", "20"));
+        this.createWeight = Integer.parseInt(properties.getOrDefault("sim.createWeight", "1"));
+        this.updateWeight = Integer.parseInt(properties.getOrDefault("sim.updateWeight", "2"));
+        this.deleteWeight = Integer.parseInt(properties.getOrDefault("sim.deleteWeight", "1"));
+        this.seed = Long.parseLong(properties.getOrDefault("sim.seed", "1"));
+        this.settleSeconds = Integer.parseInt(properties.getOrDefault("sim.settleSeconds", "60"));
+        this.operatorEnv = new TreeMap<>(Map.of(
+                "STRIMZI_NAMESPACE", NAMESPACE,
+                "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS", "30000"));
+        properties.forEach((key, value) -> {
+            if (key.startsWith("STRIMZI_")) {
+                operatorEnv.put(key, value);
+            }
+        });
+        for (var op : Op.values()) {
+            latenciesNs.put(op, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Runs the simulation
+     * @param args Ignored, the simulation is configured using system properties.
+     * @throws Exception If the simulation fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        System.getProperties().stringPropertyNames().forEach(name -> properties.put(name, System.getProperty(name)));
+        var simulation = new TopicOperatorScaleSimulation(properties);
+        String reportFile = properties.get("sim.report");
+        if (reportFile != null) {
+            try (var out = new PrintStream(Files.newOutputStream(Path.of(reportFile)), false, StandardCharsets.UTF_8)) {
+                simulation.run(out);
+            }
+        } else {
+            simulation.run(System.out);
+        }
+    }
+
+    private void run(PrintStream out) throws Exception {
+        MOCK_WEB_SERVER_LOGGER.setLevel(Level.WARNING);
+        var mockWebServer = new MockWebServer();
+        mockWebServer.setServerSocketFactory(new NoDelayServerSocketFactory());
+        var server = new KubernetesMockServer(new Context(), mockWebServer, new HashMap<>(), new KubernetesCrudDispatcher(), false);
+        server.init();
+        try (var operatorClient = server.createClient();
+             var simClient = server.createClient()) {
+            // the CRD enables the status subresource of KafkaTopics in the mock server
+            simClient.apiextensions().v1().customResourceDefinitions().resource(kafkaTopicCrd()).create();
+
+            for (int i = 0; i < topics; i++) {
+                Crds.topicOperation(simClient).resource(kafkaTopic(BenchmarkTopics.name(i), 3_600_000L)).create();
+            }
+            var informer = Crds.topicOperation(simClient).inNamespace(NAMESPACE).inform(readyHandler(), 1_000);
+
+            var operator = BenchmarkTopics.operator(operatorEnv, operatorClient, countingAdmin(BenchmarkTopics.admin()));
+            long operatorStartNanoTime = System.nanoTime();
+            synchronized (this) {
+                for (int i = 0; i < topics; i++) {
+                    pending.put(BenchmarkTopics.name(i), new Pending(Op.INITIAL, operatorStartNanoTime, 1));
+                }
+            }
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            operator.start();
+            try {
+                sampler.scheduleAtFixedRate(sampleQueueDepth(operator, operatorStartNanoTime), 0, SAMPLE_PERIOD_MS, TimeUnit.MILLISECONDS);
+                awaitPending(Op.INITIAL, TimeUnit.SECONDS.toNanos(settleSeconds));
+                long initialMs;
+                synchronized (this) {
+                    initialMs = (lastInitialReadyNanoTime - operatorStartNanoTime) / 1_000_000;
+                }
+                int opsRequested = churn(simClient, informer);
+                awaitPending(null, TimeUnit.SECONDS.toNanos(settleSeconds));
+                sampler.shutdown();
+                sampler.awaitTermination(10, TimeUnit.SECONDS);
+                report(out, initialMs, opsRequested, operator.fullReconciliationIntervalMs(), server.getRequestCount());
+            } finally {
+                sampler.shutdownNow();
+                operator.stop();
+                informer.close();
+            }
+        } finally {
+            server.destroy();
+        }
+    }
+
+    private static CustomResourceDefinition kafkaTopicCrd() {
+        return new CustomResourceDefinitionBuilder()
+                .withNewMetadata()
+                    .withName(KafkaTopic.CRD_NAME)
+                .endMetadata()
+                .withNewSpec()
+                    .withGroup(KafkaTopic.RESOURCE_GROUP)
+                    .withScope(KafkaTopic.SCOPE)
+                    .withNewNames()
+                        .withKind(KafkaTopic.RESOURCE_KIND)
+                        .withListKind(KafkaTopic.RESOURCE_LIST_KIND)
+                        .withPlural(KafkaTopic.RESOURCE_PLURAL)
+                        .withSingular(KafkaTopic.RESOURCE_SINGULAR)
+                    .endNames()
+                    .addNewVersion()
+                        .withName(KafkaTopic.V1BETA2)
+                        .withServed(true)
+                        .withStorage(true)
+                        .withNewSubresources()
+                            .withNewStatus()
+                            .endStatus()
+                        .endSubresources()
+                    .endVersion()
+                .endSpec()
+                .build();
+    }
+
+    private static KafkaTopic kafkaTopic(String name, long retentionMs) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                    .addToConfig(BenchmarkTopics.RETENTION_MS, retentionMs)
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * @param admin The Admin client
+     * @return An Admin client which counts the requests made to the given Admin client,
+     * and records the latency of deleted KafkaTopics.
+     */
+    @SuppressWarnings("unchecked")
+    private Admin countingAdmin(Admin admin) {
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (!"close".equals(name)) {
+                adminRequests.computeIfAbsent(name, k -> new LongAdder()).increment();
+                adminRequestsTotal.incrementAndGet();
+            }
+            if ("deleteTopics".equals(name)) {
+                Collection<String> topicNames = args[0] instanceof TopicCollection.TopicNameCollection names ?
+                        names.topicNames() : (Collection<String>) args[0];
+                onDeleteTopics(topicNames);
+            }
+            try {
+                return method.invoke(admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private ResourceEventHandler<KafkaTopic> readyHandler() {
+        return new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(KafkaTopic kt) {
+                onTopic(kt);
+            }
+
+            @Override
+            public void onUpdate(KafkaTopic oldKt, KafkaTopic kt) {
+                onTopic(kt);
+            }
+
+            @Override
+            public void onDelete(KafkaTopic kt, boolean deletedFinalStateUnknown) {
+            }
+        };
+    }
+
+    private synchronized void onTopic(KafkaTopic kt) {
+        if (kt == null) {
+            return;
+        }
+        String name = kt.getMetadata().getName();
+        var p = pending.get(name);
+        if (p == null || p.op() == Op.DELETE || !isReady(kt, p.generation())) {
+            return;
+        }
+        long now = System.nanoTime();
+        pending.remove(name);
+        latenciesNs.get(p.op()).add(now - p.startNanoTime());
+        if (p.op() == Op.INITIAL) {
+            lastInitialReadyNanoTime = now;
+        }
+        idle.add(name);
+        notifyAll();
+    }
+
+    private static boolean isReady(KafkaTopic kt, long generation) {
+        var status = kt.getStatus();
+        return status != null
+                && status.getObservedGeneration() >= generation
+                && status.getConditions() != null
+                && status.getConditions().stream().anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+
+    private synchronized void onDeleteTopics(Collection<String> topicNames) {
+        long now = System.nanoTime();
+        for (var name : topicNames) {
+            var p = pending.get(name);
+            if (p != null && p.op() == Op.DELETE) {
+                pending.remove(name);
+                latenciesNs.get(Op.DELETE).add(now - p.startNanoTime());
+                notifyAll();
+            }
+        }
+    }
+
+    private Runnable sampleQueueDepth(BenchmarkTopics.Operator operator, long startNanoTime) {
+        long[] backlogStart = {-1};
+        long[] second = {0, 0, 0}; // second, max queue depth, Admin requests at the start of the second
+        return () -> {
+            long now = System.nanoTime();
+            int depth = operator.queueSize();
+            long s = (now - startNanoTime) / 1_000_000_000L;
+            if (s != second[0]) {
+                long requests = adminRequestsTotal.get();
+                queueDepthSeries.add(new long[] {second[0], second[1], requests - second[2]});
+                second[0] = s;
+                second[1] = 0;
+                second[2] = requests;
+            }
+            second[1] = Math.max(second[1], depth);
+            maxQueueDepth = Math.max(maxQueueDepth, depth);
+            if (depth > 0) {
+                if (backlogStart[0] < 0) {
+                    backlogStart[0] = now;
+                }
+                longestBacklogMs = Math.max(longestBacklogMs, (now - backlogStart[0]) / 1_000_000);
+            } else {
+                backlogStart[0] = -1;
+            }
+        };
+    }
+
+    /**
+     * Makes the seeded sequence of changes, at a fixed rate.
+     * @return The number of changes requested
+     */
+    private int churn(KubernetesClient client, SharedIndexInformer<KafkaTopic> informer) throws InterruptedException {
+        var random = new Random(seed);
+        int totalWeight = createWeight + updateWeight + deleteWeight;
+        long periodNs = 1_000_000_000L / churnPerSecond;
+        int count = durationSeconds * churnPerSecond;
+        int nextId = topics;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long sleepNs = start + i * periodNs - System.nanoTime();
+            if (sleepNs > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleepNs);
+            }
+            int choice = random.nextInt(totalWeight);
+            if (choice < createWeight) {
+                String name = BenchmarkTopics.name(nextId++);
+                synchronized (this) {
+                    pending.put(name, new Pending(Op.CREATE, System.nanoTime(), UNKNOWN_GENERATION));
+                }
+                var created = Crds.topicOperation(client).resource(kafkaTopic(name, 3_600_000L)).create();
+                expectGeneration(informer, name, created.getMetadata().getGeneration());
+            } else {
+                String name = takeIdle(random);
+                if (name == null) {
+                    // every KafkaTopic has a change in progress; the choice is still made, so the sequence doesn't change
+                    continue;
+                }
+                if (choice < createWeight + updateWeight) {
+                    long retentionMs = 3_600_000L + random.nextInt(1_000) * 1_000L;
+                    synchronized (this) {
+                        pending.put(name, new Pending(Op.UPDATE, System.nanoTime(), UNKNOWN_GENERATION));
+                    }
+                    var updated = Crds.topicOperation(client).inNamespace(NAMESPACE).withName(name).edit(kt -> new KafkaTopicBuilder(kt)
+                            .editSpec()
+                                .addToConfig(BenchmarkTopics.RETENTION_MS, retentionMs)
+                            .endSpec()
+                            .build());
+                    expectGeneration(informer, name, updated.getMetadata().getGeneration());
+                } else {
+                    synchronized (this) {
+                        pending.put(name, new Pending(Op.DELETE, System.nanoTime(), UNKNOWN_GENERATION));
+                    }
+                    Crds.topicOperation(client).inNamespace(NAMESPACE).withName(name).delete();
+                }
+            }
+        }
+        return count;
+    }
+
+    private synchronized String takeIdle(Random random) {
+        if (idle.isEmpty()) {
+            return null;
+        }
+        int index = random.nextInt(idle.size());
+        String name = idle.get(index);
+        idle.set(index, idle.get(idle.size() - 1));
+        idle.remove(idle.size() - 1);
+        return name;
+    }
+
+    private void expectGeneration(SharedIndexInformer<KafkaTopic> informer, String name, long generation) {
+        synchronized (this) {
+            var p = pending.get(name);
+            if (p != null) {
+                pending.put(name, new Pending(p.op(), p.startNanoTime(), generation));
+            }
+        }
+        // the KafkaTopic might already have become Ready
+        onTopic(informer.getStore().getByKey(NAMESPACE + "/" + name));
+    }
+
+    private synchronized void awaitPending(Op op, long timeoutNs) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNs;
+        while (pending.values().stream().anyMatch(p -> op == null || p.op() == op)) {
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMs <= 0) {
+                return;
+            }
+            wait(remainingMs);
+        }
+    }
+
+    private synchronized void report(PrintStream out, long initialMs, int opsRequested, long fullReconciliationIntervalMs, int kubeRequests) {
+        out.println("# Topic Operator scale simulation");
+        out.println();
+        out.println("## Parameters");
+        out.println();
+        out.println("| Parameter | Value |");
+        out.println("|---|---|");
+        out.println("| sim.topics | " + topics + " |");
+        out.println("| sim.durationSeconds | " + durationSeconds + " |");
+        out.println("| sim.churnPerSecond | " + churnPerSecond + " |");
+        out.println("| sim.createWeight | " + createWeight + " |");
+        out.println("| sim.updateWeight | " + updateWeight + " |");
+        out.println("| sim.deleteWeight | " + deleteWeight + " |");
+        out.println("| sim.seed | " + seed + " |");
+        out.println("| sim.settleSeconds | " + settleSeconds + " |");
+        operatorEnv.forEach((key, value) -> out.println("| " + key + " | " + value + " |"));
+        out.println();
+        out.println("## Latency");
+        out.println();
+        out.println("Event-to-Ready latency of the KafkaTopics, except for DELETE, which is the event-to-Admin.deleteTopics latency.");
+        out.println("The latency of INITIAL KafkaTopics is from the start of the operator.");
+        out.println();
+        out.println("| Operation | Count | Incomplete | p50 (ms) | p90 (ms) | p99 (ms) | p99.9 (ms) | Max (ms) |");
+        out.println("|---|---|---|---|---|---|---|---|");
+        for (var op : Op.values()) {
+            long[] sorted = latenciesNs.get(op).stream().mapToLong(Long::longValue).sorted().toArray();
+            long incomplete = pending.values().stream().filter(p -> p.op() == op).count();
+            out.println("| " + op + " | " + sorted.length + " | " + incomplete
+                    + " | " + percentileMs(sorted, 0.5) + " | " + percentileMs(sorted, 0.9)
+                    + " | " + percentileMs(sorted, 0.99) + " | " + percentileMs(sorted, 0.999)
+                    + " | " + percentileMs(sorted, 1.0) + " |");
+        }
+        out.println();
+        out.println("Initial reconciliation of " + topics + " KafkaTopics: " + initialMs + " ms");
+        out.println();
+        out.println("Changes requested during the churn: " + opsRequested);
+        out.println();
+        out.println("## Queue depth");
+        out.println();
+        out.println("Maximum queue depth: " + maxQueueDepth);
+        out.println();
+        out.println("Longest backlog (queue never empty): " + longestBacklogMs + " ms, of a full reconciliation interval of "
+                + fullReconciliationIntervalMs + " ms");
+        out.println();
+        out.println("| Second | Max queue depth | Admin requests |");
+        out.println("|---|---|---|");
+        for (long[] row : queueDepthSeries) {
+            out.println("| " + row[0] + " | " + row[1] + " | " + row[2] + " |");
+        }
+        out.println();
+        out.println("## Admin requests");
+        out.println();
+        out.println("| Method | Requests |");
+        out.println("|---|---|");
+        new TreeMap<>(adminRequests).forEach((method, requests) -> out.println("| " + method + " | " + requests.sum() + " |"));
+        out.println("| Total | " + adminRequestsTotal.get() + " |");
+        out.println();
+        out.println("Kube API requests (by the operator and the simulation): " + kubeRequests);
+        out.flush();
+    }
+
+    private static String percentileMs(long[] sortedNs, double percentile) {
+        if (sortedNs.length == 0) {
+            return "-";
+        }
+        int index = (int) Math.ceil(percentile * sortedNs.length) - 1;
+        return String.valueOf(sortedNs[Math.max(0, index)] / 1_000_000);
+    }
+
+    /**
+     * Creates server sockets whose connections have {@code TCP_NODELAY} set, because MockWebServer writes the headers
+     * and body of its responses separately, so otherwise every request is delayed by the client's delayed ACK.
+     */
+    private static class NoDelayServerSocketFactory extends ServerSocketFactory {
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = super.accept();
+                    socket.setTcpNoDelay(true);
+                    return socket;
+                }
+            };
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            return createServerSocket(port, 50);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            return createServerSocket(port, backlog, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            ServerSocket serverSocket = createServerSocket();
+            serverSocket.bind(new InetSocketAddress(address, port), backlog);
+            return serverSocket;
+        }
+    }
+}
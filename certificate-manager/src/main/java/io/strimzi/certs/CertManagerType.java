@@ -0,0 +1,30 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * Types of the certificate manager implementations which can be used by the operators
+ */
+public enum CertManagerType {
+    /**
+     * Certificate manager running the openssl binary
+     */
+    OPENSSL,
+
+    /**
+     * Certificate manager generating everything in-process
+     */
+    JAVA;
+
+    /**
+     * @return  New instance of the certificate manager of this type
+     */
+    public CertManager create() {
+        return switch (this) {
+            case OPENSSL -> new OpenSslCertManager();
+            case JAVA -> new JavaCertManager();
+        };
+    }
+}
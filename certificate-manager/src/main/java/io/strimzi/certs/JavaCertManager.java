@@ -0,0 +1,562 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A certificate manager which generates the keys, CSRs and certificates in-process using the JDK and the Bouncy Castle
+ * libraries instead of running the {@code openssl} binary. It does not need any temporary files and it can be used from
+ * multiple threads at the same time.
+ * <p>
+ * The certificates it generates use the same key sizes, signature algorithm, subjects and extensions as the
+ * certificates generated by the {@link OpenSslCertManager} and the keys and certificates are stored in the same PEM
+ * formats. The two implementations can therefore be switched without renewing the existing certificates. The PKCS12
+ * stores are created using the JDK defaults for the encryption and integrity algorithms.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class JavaCertManager implements CertManager {
+    /* test */ static final int CA_KEY_SIZE = 4096;
+    /* test */ static final int KEY_SIZE = 2048;
+
+    private static final String SIGNATURE_DIGEST = "SHA512";
+    private static final String CSR_SIGNATURE_DIGEST = "SHA256";
+    // Same as the "rand_serial" option of OpenSSL => 159 random bits to keep the serial number positive in 20 bytes
+    private static final int SERIAL_NUMBER_BITS = 159;
+    private static final int PEM_LINE_LENGTH = 64;
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the JavaCertManager with the system time
+     */
+    public JavaCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the JavaCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public JavaCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a root or intermediate CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            KeyPair keyPair;
+            boolean newKey = subjectKeyFile.length() == 0;
+            if (newKey) {
+                keyPair = generateKeyPair(CA_KEY_SIZE);
+            } else {
+                keyPair = readKeyPair(Files.readAllBytes(subjectKeyFile.toPath()));
+            }
+
+            X500Name subjectName = x500Name(subject);
+            X509Certificate issuerCert = null;
+            PrivateKey issuerKey = keyPair.getPrivate();
+            if (issuerCaCertFile != null) {
+                issuerCert = readCertificate(Files.readAllBytes(issuerCaCertFile.toPath()));
+                issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+            }
+
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            X509v3CertificateBuilder builder = certificateBuilder(issuerCert, subjectName, notBefore, notAfter, keyPair.getPublic());
+            builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(pathLength));
+            builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+            if (issuerCert != null) {
+                builder.addExtension(Extension.authorityKeyIdentifier, false, authorityKeyIdentifier(extensionUtils, issuerCert));
+            }
+
+            Files.writeString(subjectCertFile.toPath(), pem("CERTIFICATE", sign(builder, issuerKey).getEncoded()), StandardCharsets.US_ASCII);
+
+            if (newKey) {
+                Files.writeString(subjectKeyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), StandardCharsets.US_ASCII);
+            }
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CA certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        X509Certificate certificate = readCertificate(Files.readAllBytes(certFile.toPath()));
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the input stream is null
+        try (InputStream isTrustStore = trustStoreFile.length() > 0 ? Files.newInputStream(trustStoreFile.toPath()) : null) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+
+        try (OutputStream osTrustStore = Files.newOutputStream(trustStoreFile.toPath())) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(alias);
+        Objects.requireNonNull(keyStoreFile);
+        Objects.requireNonNull(keyStorePassword);
+
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            List<Certificate> chain = new ArrayList<>();
+            try (InputStream isCertificate = Files.newInputStream(certFile.toPath())) {
+                chain.addAll(CertificateFactory.getInstance("X.509").generateCertificates(isCertificate));
+            }
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+
+            try (OutputStream osKeyStore = Files.newOutputStream(keyStoreFile.toPath())) {
+                keyStore.store(osKeyStore, keyStorePassword.toCharArray());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to create the PKCS12 store", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream isTrustStore = Files.newInputStream(trustStoreFile.toPath())) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+
+        try (OutputStream osTrustStore = Files.newOutputStream(trustStoreFile.toPath())) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+            String csr = csr(keyPair, subject);
+
+            Files.writeString(keyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), StandardCharsets.US_ASCII);
+            Files.writeString(csrFile.toPath(), csr, StandardCharsets.US_ASCII);
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CSR", e);
+        }
+    }
+
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        Objects.requireNonNull(keyFile);
+
+        try {
+            Files.writeString(keyFile.toPath(), pem("PRIVATE KEY", generateKeyPair(KEY_SIZE).getPrivate().getEncoded()), StandardCharsets.US_ASCII);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate the private key", e);
+        }
+    }
+
+    @Override
+    public void generateCsrWithExistingKey(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            Files.writeString(csrFile.toPath(), csr(readKeyPair(Files.readAllBytes(keyFile.toPath())), subject), StandardCharsets.US_ASCII);
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new RuntimeException("Failed to generate the CSR", e);
+        }
+    }
+
+    private static String csr(KeyPair keyPair, Subject subject) throws GeneralSecurityException, OperatorCreationException, IOException {
+        JcaPKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(x500Name(subject), keyPair.getPublic());
+
+        if (subject.hasSubjectAltNames()) {
+            ExtensionsGenerator extensions = new ExtensionsGenerator();
+            extensions.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(subject));
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions.generate());
+        }
+
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(CSR_SIGNATURE_DIGEST, keyPair.getPrivate())).build(keyPair.getPrivate());
+
+        return pem("CERTIFICATE REQUEST", builder.build(signer).getEncoded());
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
+        ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, notBefore, notAfter);
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Cert of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            PKCS10CertificationRequest csr;
+            try (PEMParser parser = new PEMParser(Files.newBufferedReader(csrFile.toPath(), StandardCharsets.US_ASCII))) {
+                csr = (PKCS10CertificationRequest) parser.readObject();
+            }
+            if (csr == null || !csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IllegalArgumentException("Invalid CSR in " + csrFile);
+            }
+
+            X509Certificate issuerCert = readCertificate(caCert);
+            PrivateKey issuerKey = readPrivateKey(caKey);
+            PublicKey publicKey = new JcaPEMKeyConverter().getPublicKey(csr.getSubjectPublicKeyInfo());
+
+            JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+            X509v3CertificateBuilder builder = certificateBuilder(issuerCert, policySubject(csr.getSubject()), notBefore, notAfter, publicKey);
+            if (sbj.hasSubjectAltNames()) {
+                // The SANs replace the default extensions in the same way as in the OpenSslCertManager
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+                builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey));
+            } else {
+                builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(publicKey));
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
+                builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature | KeyUsage.keyEncipherment));
+            }
+            builder.addExtension(Extension.authorityKeyIdentifier, false, authorityKeyIdentifier(extensionUtils, issuerCert));
+
+            Files.writeString(crtFile.toPath(), pem("CERTIFICATE", sign(builder, issuerKey).getEncoded()), StandardCharsets.US_ASCII);
+        } catch (GeneralSecurityException | OperatorCreationException | PKCSException e) {
+            throw new RuntimeException("Failed to generate the certificate", e);
+        }
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    private X509v3CertificateBuilder certificateBuilder(X509Certificate issuerCert, X500Name subject, ZonedDateTime notBefore, ZonedDateTime notAfter, PublicKey publicKey) throws CertificateException {
+        // The issuer name is copied from the issuer certificate to keep its exact encoding
+        X500Name issuer = issuerCert != null ? new JcaX509CertificateHolder(issuerCert).getSubject() : subject;
+
+        return new JcaX509v3CertificateBuilder(issuer,
+                new BigInteger(SERIAL_NUMBER_BITS, random),
+                Date.from(notBefore.toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                Date.from(notAfter.toInstant().truncatedTo(ChronoUnit.SECONDS)),
+                subject,
+                publicKey);
+    }
+
+    private static X509Certificate sign(X509v3CertificateBuilder builder, PrivateKey issuerKey) throws OperatorCreationException, CertificateException {
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm(SIGNATURE_DIGEST, issuerKey)).build(issuerKey);
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+
+    private static String signatureAlgorithm(String digest, PrivateKey key) {
+        return digest + "with" + ("EC".equals(key.getAlgorithm()) ? "ECDSA" : key.getAlgorithm());
+    }
+
+    /**
+     * The authority key identifier contains only the subject key identifier of the issuer (the same as the OpenSSL
+     * default). It is taken from the issuer certificate when it has one.
+     */
+    private static AuthorityKeyIdentifier authorityKeyIdentifier(JcaX509ExtensionUtils extensionUtils, X509Certificate issuerCert) throws IOException {
+        byte[] issuerKeyIdentifier = issuerCert.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+
+        if (issuerKeyIdentifier != null) {
+            byte[] keyIdentifier = SubjectKeyIdentifier.getInstance(ASN1OctetString.getInstance(issuerKeyIdentifier).getOctets()).getKeyIdentifier();
+            return new AuthorityKeyIdentifier(keyIdentifier);
+        } else {
+            return extensionUtils.createAuthorityKeyIdentifier(issuerCert.getPublicKey());
+        }
+    }
+
+    /**
+     * @return  Name with the organization name followed by the common name, in the same order and encoding as the
+     *          {@code openssl} DN used by the OpenSslCertManager
+     */
+    private static X500Name x500Name(Subject subject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        if (subject.organizationName() != null) {
+            builder.addRDN(BCStyle.O, subject.organizationName());
+        }
+
+        if (subject.commonName() != null) {
+            builder.addRDN(BCStyle.CN, subject.commonName());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @return  Subject of the signed certificate: the organization name and common name from the CSR as selected by the
+     *          policy used by the OpenSslCertManager
+     */
+    private static X500Name policySubject(X500Name csrSubject) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+
+        for (ASN1ObjectIdentifier type : List.of(BCStyle.O, BCStyle.CN)) {
+            for (RDN rdn : csrSubject.getRDNs(type)) {
+                ASN1Encodable value = rdn.getFirst().getValue();
+                builder.addRDN(type, value);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static GeneralNames subjectAltNames(Subject subject) {
+        List<GeneralName> names = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : subject.subjectAltNames().entrySet()) {
+            int type = entry.getKey().startsWith("IP.") ? GeneralName.iPAddress : GeneralName.dNSName;
+            names.add(new GeneralName(type, entry.getValue()));
+        }
+
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+    }
+
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException {
+        return readKeyPair(pem).getPrivate();
+    }
+
+    /**
+     * Reads the private key in the PKCS#8 or PKCS#1 PEM format. For PKCS#8 keys, only the private key is set in the
+     * returned key pair.
+     */
+    private static KeyPair readKeyPair(byte[] pem) throws IOException {
+        try (Reader reader = new StringReader(new String(pem, StandardCharsets.US_ASCII));
+             PEMParser parser = new PEMParser(reader)) {
+            Object object = parser.readObject();
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+
+            if (object instanceof PEMKeyPair keyPair) {
+                return converter.getKeyPair(keyPair);
+            } else if (object instanceof PrivateKeyInfo privateKeyInfo) {
+                PrivateKey privateKey = converter.getPrivateKey(privateKeyInfo);
+                return new KeyPair(publicKey(privateKey), privateKey);
+            } else {
+                throw new IllegalArgumentException("Unsupported private key format");
+            }
+        }
+    }
+
+    /**
+     * Derives the public key from an RSA private key. It is needed when reusing an existing CA key.
+     */
+    private static PublicKey publicKey(PrivateKey privateKey) throws IOException {
+        if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+            try {
+                return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Failed to derive the public key", e);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported private key algorithm " + privateKey.getAlgorithm());
+        }
+    }
+
+    /**
+     * Encodes the DER data to PEM with 64 characters long lines as OpenSSL does
+     */
+    /* test */ static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(PEM_LINE_LENGTH, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
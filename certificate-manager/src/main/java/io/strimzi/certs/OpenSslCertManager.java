@@ -438,6 +438,44 @@ public class OpenSslCertManager implements CertManager {
         }
     }
 
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        Objects.requireNonNull(keyFile);
+
+        // genpkey writes the key in the PKCS#8 format, the same as req does in generateCsr
+        new OpensslArgs("openssl", "genpkey")
+                .optArg("-algorithm", "RSA")
+                .optArg("-pkeyopt", "rsa_keygen_bits:2048")
+                .optArg("-out", keyFile)
+                .exec();
+    }
+
+    @Override
+    public void generateCsrWithExistingKey(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        OpensslArgs cmd = new OpensslArgs("openssl", "req")
+                .opt("-new").opt("-batch")
+                .optArg("-key", keyFile)
+                .optArg("-out", csrFile);
+
+        Path sna = null;
+        try {
+            if (subject.hasSubjectAltNames()) {
+                // subject alt names need to be in an openssl configuration file
+                sna = buildConfigFile(subject, false);
+                cmd.optArg("-config", sna, true).optArg("-extensions", "v3_req");
+            }
+
+            cmd.optArg("-subj", subject);
+            cmd.exec();
+        } finally {
+            delete(sna);
+        }
+    }
+
     @Override
     public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
         Instant now = clock.instant();
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LOCAL_OBJECT_REFERENCE_LIST;
@@ -197,6 +199,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "10", CONFIG_VALUES);
 
+    /**
+     * The size of the thread pool used to generate the node certificates in parallel
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_GENERATION_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CERTIFICATE_GENERATION_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+
     /**
      * Session timeout for the Zookeeper Admin client used in ZK scaling operations
      */
@@ -229,6 +236,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<String> POD_SECURITY_PROVIDER_CLASS = new ConfigParameter<>("STRIMZI_POD_SECURITY_PROVIDER_CLASS", STRING, "io.strimzi.plugin.security.profiles.impl.BaselinePodSecurityProvider", CONFIG_VALUES);
 
+    /**
+     * Certificate manager implementation used to generate the CA and component certificates (openssl or java)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
     /**
      * Configuration of the Cluster Operator leader election
      */
@@ -561,6 +573,13 @@ public class ClusterOperatorConfig {
         return get(OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return Thread Pool size used by the operator to generate the node certificates in parallel
+     */
+    public int getCertificateGenerationThreadPoolSize() {
+        return get(CERTIFICATE_GENERATION_THREAD_POOL_SIZE);
+    }
+
     /**
      * @return Number of seconds to cache a successful DNS name lookup
      */
@@ -596,6 +615,13 @@ public class ClusterOperatorConfig {
         return parsePodSecurityProviderClass(get(POD_SECURITY_PROVIDER_CLASS));
     }
 
+    /**
+     * @return  Type of the certificate manager used to generate the CA and component certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
     /**
      * @return Returns the Leader Election Manager configuration
      */
@@ -629,6 +655,8 @@ public class ClusterOperatorConfig {
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tcertificateGenerationThreadPoolSize=" + getCertificateGenerationThreadPoolSize() +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
                 "}";
     }
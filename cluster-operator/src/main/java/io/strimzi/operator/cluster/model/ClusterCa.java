@@ -15,23 +15,29 @@ import io.strimzi.certs.IpAndDnsValidation;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Ca;
+import io.strimzi.operator.common.model.CertificateCache;
 import io.strimzi.operator.common.model.PasswordGenerator;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Represents the Cluster CA
@@ -53,6 +59,10 @@ public class ClusterCa extends Ca {
     private Secret brokersSecret;
     private Secret zkNodesSecret;
 
+    // By default, the node certificates are generated one after another in the calling thread
+    private Executor nodeCertGenerationExecutor = Runnable::run;
+    private LongConsumer nodeCertGenerationTimer = durationNanos -> { };
+
     /**
      * Constructor
      *
@@ -104,6 +114,19 @@ public class ClusterCa extends Ca {
         return "cluster-ca";
     }
 
+    /**
+     * Configures how the node certificates are generated. The executor is used to generate the certificates of the
+     * different nodes in parallel. The methods generating the node certificates wait for all of them to be generated,
+     * so they should not be called from a thread which is used by the executor (or from the Vert.x event loop).
+     *
+     * @param executor      Executor used to generate the node certificates
+     * @param timer         Consumer which is called with the duration (in nanoseconds) of each node certificate generation
+     */
+    public void setNodeCertGeneration(Executor executor, LongConsumer timer) {
+        this.nodeCertGenerationExecutor = executor;
+        this.nodeCertGenerationTimer = timer;
+    }
+
     /**
      * Initializes the CA Secrets inside this class
      *
@@ -306,12 +329,8 @@ public class ClusterCa extends Ca {
     ) throws IOException {
         // Maps for storing the certificates => will be used in the new or updated secret. This map is filled in this method and returned at the end.
         Map<String, CertAndKey> certs = new HashMap<>();
-
-        // Temp files used when we need to generate new certificates
-        File brokerCsrFile = Files.createTempFile("tls", "broker-csr").toFile();
-        File brokerKeyFile = Files.createTempFile("tls", "broker-key").toFile();
-        File brokerCertFile = Files.createTempFile("tls", "broker-cert").toFile();
-        File brokerKeyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
+        // Nodes for which new certificates need to be generated
+        Map<NodeRef, Subject> newCerts = new LinkedHashMap<>();
 
         for (NodeRef node : nodes)  {
             String podName = node.podName();
@@ -339,7 +358,7 @@ public class ClusterCa extends Ca {
 
                 List<String> reasons = new ArrayList<>(2);
 
-                if (certSubjectChanged(certAndKey, subject, podName))   {
+                if (certSubjectChanged(secret, subject, podName))   {
                     reasons.add("DNS names changed");
                 }
 
@@ -353,29 +372,98 @@ public class ClusterCa extends Ca {
 
                 if (!reasons.isEmpty())  {
                     LOGGER.infoCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                    CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                    certs.put(podName, newCertAndKey);
+                    newCerts.put(node, subject);
                 }   else {
                     certs.put(podName, certAndKey);
                 }
             } else {
                 // A certificate for this node does not exist or it the CA got renewed, so we will generate new certificate
                 LOGGER.debugCr(reconciliation, "Generating new certificate for node {}", node);
-                CertAndKey k = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, k);
+                newCerts.put(node, subject);
             }
         }
 
-        // Delete the temp files used to generate new certificates
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+        certs.putAll(generateNodeCerts(reconciliation, newCerts));
 
         return certs;
     }
 
+    /**
+     * Generates new certificates for the given nodes. The certificates are generated in parallel using the node
+     * certificate generation executor. This method waits until all certificates are generated.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param nodes             Map with the nodes for which the certificates should be generated and their subjects
+     *
+     * @return  Map with the new node certificates
+     *
+     * @throws IOException  Throws IOException when working with files fails
+     */
+    private Map<String, CertAndKey> generateNodeCerts(Reconciliation reconciliation, Map<NodeRef, Subject> nodes) throws IOException {
+        if (nodes.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, CertAndKey> certs = new ConcurrentHashMap<>(nodes.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>(nodes.size());
+
+        for (Map.Entry<NodeRef, Subject> node : nodes.entrySet()) {
+            futures.add(CompletableFuture.runAsync(() -> certs.put(node.getKey().podName(), generateNodeCert(reconciliation, node.getValue())), nodeCertGenerationExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uioe) {
+                throw uioe.getCause();
+            } else if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            } else {
+                throw new IOException("Failed to generate node certificates", e.getCause());
+            }
+        }
+
+        return certs;
+    }
+
+    /**
+     * Generates a new certificate for a single node. Each node uses its own temporary files, so that the certificates
+     * for different nodes can be generated in parallel.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param subject           Subject of the node certificate
+     *
+     * @return  The new node certificate
+     */
+    private CertAndKey generateNodeCert(Reconciliation reconciliation, Subject subject) {
+        long start = System.nanoTime();
+        File csrFile = null;
+        File keyFile = null;
+        File certFile = null;
+        File keyStoreFile = null;
+
+        try {
+            // Temp files used to generate the new certificate
+            csrFile = Files.createTempFile("tls", "broker-csr").toFile();
+            keyFile = Files.createTempFile("tls", "broker-key").toFile();
+            certFile = Files.createTempFile("tls", "broker-cert").toFile();
+            keyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
+
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Delete the temp files used to generate the new certificate
+            for (File file : new File[] {csrFile, keyFile, certFile, keyStoreFile}) {
+                if (file != null) {
+                    delete(reconciliation, file);
+                }
+            }
+
+            nodeCertGenerationTimer.accept(System.nanoTime() - start);
+        }
+    }
+
     /**
      * Check if this secret is coming from newer versions of the operator or older ones. Secrets from an older version
      * don't have a keystore and password.
@@ -410,15 +498,15 @@ public class ClusterCa extends Ca {
     /**
      * Checks whether subject alternate names changed and certificate needs a renewal
      *
-     * @param certAndKey        Current certificate
+     * @param secret            Secret with the current certificate
      * @param desiredSubject    Desired subject alternate names
-     * @param podName           Name of the pod to which this certificate belongs (used for log messages)
+     * @param podName           Name of the pod to which this certificate belongs
      *
      * @return  True if the subjects are different, false otherwise
      */
-    /* test */ boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+    /* test */ boolean certSubjectChanged(Secret secret, Subject desiredSubject, String podName)    {
         Collection<String> desiredAltNames = desiredSubject.subjectAltNames().values();
-        Collection<String> currentAltNames = getSubjectAltNames(certAndKey.cert());
+        Collection<String> currentAltNames = getSubjectAltNames(secret, podName);
 
         if (currentAltNames != null && desiredAltNames.containsAll(currentAltNames) && currentAltNames.containsAll(desiredAltNames))   {
             LOGGER.traceCr(reconciliation, "Alternate subjects match. No need to refresh cert for pod {}.", podName);
@@ -434,20 +522,16 @@ public class ClusterCa extends Ca {
     /**
      * Extracts the alternate subject names out of existing certificate
      *
-     * @param certificate   Existing X509 certificate as a byte array
+     * @param secret    Secret with the existing certificate
+     * @param podName   Name of the pod to which the certificate belongs
      *
      * @return  List of certificate Subject Alternate Names
      */
-    private List<String> getSubjectAltNames(byte[] certificate) {
+    private List<String> getSubjectAltNames(Secret secret, String podName) {
         List<String> subjectAltNames = null;
 
         try {
-            X509Certificate cert = x509Certificate(certificate);
-            Collection<List<?>> altNames = cert.getSubjectAlternativeNames();
-            subjectAltNames = altNames.stream()
-                    .filter(name -> name.get(1) instanceof String)
-                    .map(item -> (String) item.get(1))
-                    .collect(Collectors.toList());
+            subjectAltNames = CertificateCache.subjectAltNames(secret, SecretEntry.CRT.asKey(podName));
         } catch (CertificateException | RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
             LOGGER.debugCr(reconciliation, "Failed to parse existing certificate", e);
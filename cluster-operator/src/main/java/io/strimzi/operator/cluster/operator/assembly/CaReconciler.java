@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.common.CertificateAuthority;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
@@ -32,6 +33,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -48,6 +50,7 @@ import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 
 import java.time.Clock;
 import java.util.ArrayList;
@@ -55,6 +58,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -64,6 +68,11 @@ import java.util.function.Function;
 public class CaReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CaReconciler.class.getName());
 
+    /**
+     * Name of the shared worker pool used to generate the node certificates in parallel
+     */
+    public static final String CERT_GENERATION_POOL_NAME = "certificate-generation-pool";
+
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
@@ -78,6 +87,8 @@ public class CaReconciler {
     private final CertManager certManager;
     private final PasswordGenerator passwordGenerator;
     private final KubernetesRestartEventPublisher eventPublisher;
+    private final MetricsProvider metricsProvider;
+    private final WorkerExecutor certGenerationExecutor;
 
     // Fields based on the Kafka CR required for the reconciliation
     private final List<String> maintenanceWindows;
@@ -107,6 +118,8 @@ public class CaReconciler {
      * @param vertx             Vert.x instance
      * @param certManager       Certificate Manager for managing certificates
      * @param passwordGenerator Password generator for generating passwords
+     * @param certGenerationExecutor    Shared worker executor used to generate the node certificates in parallel or
+     *                                  null to generate them one after another
      */
     public CaReconciler(
             Reconciliation reconciliation,
@@ -115,7 +128,8 @@ public class CaReconciler {
             ResourceOperatorSupplier supplier,
             Vertx vertx,
             CertManager certManager,
-            PasswordGenerator passwordGenerator
+            PasswordGenerator passwordGenerator,
+            WorkerExecutor certGenerationExecutor
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -133,6 +147,8 @@ public class CaReconciler {
         this.passwordGenerator = passwordGenerator;
 
         this.eventPublisher = supplier.restartEventsPublisher;
+        this.metricsProvider = supplier.metricsProvider;
+        this.certGenerationExecutor = certGenerationExecutor;
 
         // Extract required information from the Kafka CR
         this.maintenanceWindows = kafkaCr.getSpec().getMaintenanceTimeWindows();
@@ -257,6 +273,7 @@ public class CaReconciler {
                             ModelUtils.getRenewalDays(clusterCaConfig),
                             clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
                     clusterCa.initCaSecrets(clusterSecrets);
+                    configureNodeCertGeneration(clusterCa);
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
                             clusterCaCertLabels, clusterCaCertAnnotations,
@@ -327,6 +344,32 @@ public class CaReconciler {
         }
     }
 
+    /**
+     * Configures the Cluster CA to generate the node certificates in parallel in the shared certificate generation
+     * worker pool and to record the time it takes to generate each of them. Without the worker pool, the Cluster CA
+     * generates them one after another.
+     *
+     * @param clusterCa     The Cluster CA instance
+     */
+    private void configureNodeCertGeneration(ClusterCa clusterCa) {
+        if (certGenerationExecutor == null) {
+            return;
+        }
+
+        Timer certGenerationTimer = Timer.builder("strimzi.certificate.generation")
+                .description("Time it takes to generate a node certificate")
+                .publishPercentileHistogram()
+                .tags("kind", Kafka.RESOURCE_KIND, "namespace", reconciliation.namespace())
+                .register(metricsProvider.meterRegistry());
+
+        clusterCa.setNodeCertGeneration(
+                task -> certGenerationExecutor.executeBlocking(() -> {
+                    task.run();
+                    return null;
+                }, false),
+                durationNanos -> certGenerationTimer.record(durationNanos, TimeUnit.NANOSECONDS));
+    }
+
     Future<Void> clusterOperatorSecret(Clock clock) {
         oldCoSecret = clusterCa.clusterOperatorSecret();
         if (oldCoSecret != null && this.isClusterCaNeedFullTrust) {
@@ -38,6 +38,8 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.StatusDiff;
@@ -51,8 +53,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +61,7 @@ import java.util.stream.Collectors;
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
 
+    private static final String RESOURCE_KIND = "StrimziPodSet";
     private static final long DEFAULT_RESYNC_PERIOD_MS = 5 * 60 * 1_000L; // 5 minutes by default
     private static final LabelSelector POD_LABEL_SELECTOR = new LabelSelectorBuilder()
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
@@ -76,7 +77,7 @@ public class StrimziPodSetController implements Runnable {
     private final LabelSelector crSelector;
     private final String watchedNamespace;
 
-    private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final ControllerQueue workQueue;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -119,10 +120,10 @@ public class StrimziPodSetController implements Runnable {
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, crSelectorLabels.toMap());
         this.watchedNamespace = watchedNamespace;
-        this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
         // Set up the metrics holder
-        this.metrics = new ControllerMetricsHolder("StrimziPodSet", crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.metrics = new ControllerMetricsHolder(RESOURCE_KIND, crSelectorLabels != null ? crSelectorLabels : Labels.EMPTY, metricsProvider);
+        this.workQueue = new ControllerQueue(podSetControllerWorkQueueSize, metrics);
 
         // Kafka, KafkaConnect and KafkaMirrorMaker2 informers and listers are used to get the CRs quickly.
         // This is needed for verification of the CR selector labels.
@@ -190,12 +191,13 @@ public class StrimziPodSetController implements Runnable {
      *
      * @param podSet    StrimziPodSet which should be checked and possibly enqueued
      * @param action    The action from the event which triggered this
+     * @param trigger   The trigger of the reconciliation (watch or timer)
      */
-    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action)   {
+    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action, String trigger)   {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, podSet.getMetadata().getNamespace(), podSet.getMetadata().getName(), trigger));
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -210,15 +212,16 @@ public class StrimziPodSetController implements Runnable {
      *
      * @param pod      Pod which should be checked and possibly enqueued
      * @param action   The action from the event which triggered this
+     * @param trigger  The trigger of the reconciliation (watch or timer)
      */
-    private void enqueuePod(Pod pod, String action) {
+    private void enqueuePod(Pod pod, String action, String trigger) {
         LOGGER.debugOp("Pod {} in namespace {} was {}", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
 
         StrimziPodSet parentPodSet = findParentPodSetForPod(pod);
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName(), trigger));
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -528,22 +531,6 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
-    /**
-     * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
-     *
-     * @param reconciliation    Reconciliation identifier
-     */
-    private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
-            LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
-            workQueue.add(reconciliation);
-        } else {
-            metrics().alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debugOp("StrimziPodSet {} in namespace {} is already enqueued => ignoring", reconciliation.name, reconciliation.name);
-        }
-    }
-
     /**
      * The run loop of the controller thread. It picks reconciliations from the work queue and executes them.
      */
@@ -562,8 +549,14 @@ public class StrimziPodSetController implements Runnable {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation reconciliation = workQueue.take();
+
+                try {
+                    reconcile(reconciliation.toReconciliation());
+                } finally {
+                    // Makes the StrimziPodSet available again if it was enqueued while being reconciled
+                    workQueue.done(reconciliation);
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
@@ -609,67 +602,6 @@ public class StrimziPodSetController implements Runnable {
         int currentPods = 0;
     }
 
-    /**
-     * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
-     * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
-     * to detect if the same resource is already enqueued or not. It doesn't yet request the reconciliation ID. Not
-     * issuing the reconciliation ID right away makes the IDs more linear and means they are not requested unless a
-     * reconciliation really starts.
-     */
-    static class SimplifiedReconciliation    {
-        private final String namespace;
-        private final String name;
-
-        public SimplifiedReconciliation(String namespace, String name) {
-            this.namespace = namespace;
-            this.name = name;
-        }
-
-        /**
-         * Converts the simplified reconciliation to a proper reconciliation
-         *
-         * @return  Reconciliation object
-         */
-        public Reconciliation toReconciliation()    {
-            return new Reconciliation("watch", "StrimziPodSet", namespace, name);
-        }
-
-        /**
-         * Compares two SimplifiedReconciliation objects. This is used to avoid having the same resource queued multiple
-         * times.
-         *
-         * @param o     SimplifiedReconciliation to be compared
-         *
-         * @return      True if the objects equal, false otherwise
-         */
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)  {
-                return true;
-            } else if (o == null || getClass() != o.getClass())   {
-                return false;
-            } else {
-                SimplifiedReconciliation reconciliation = (SimplifiedReconciliation) o;
-
-                return this.name.equals(reconciliation.name)
-                        && this.namespace.equals(reconciliation.namespace);
-            }
-        }
-
-        /**
-         * Generates the hashcode based on the name and namespace hash codes.
-         *
-         * @return  The hashcode of this object
-         */
-        @Override
-        public int hashCode() {
-            int result = 17;
-            result = 31 * result + (name != null ? name.hashCode() : 0);
-            result = 31 * result + (namespace != null ? namespace.hashCode() : 0);
-            return result;
-        }
-    }
-
     /**
      * Event handler used in the StrimziPodSet informer which decides what to do with the incoming events.
      */
@@ -680,12 +612,12 @@ public class StrimziPodSetController implements Runnable {
                 metrics.resourceCounter(podSet.getMetadata().getNamespace()).incrementAndGet();
             }
 
-            enqueueStrimziPodSet(podSet, "ADDED");
+            enqueueStrimziPodSet(podSet, "ADDED", "watch");
         }
 
         @Override
         public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
-            enqueueStrimziPodSet(newPodSet, "MODIFIED");
+            enqueueStrimziPodSet(newPodSet, "MODIFIED", InformerUtils.updateTrigger(oldPodSet, newPodSet));
         }
 
         @Override
@@ -705,17 +637,17 @@ public class StrimziPodSetController implements Runnable {
     private class PodEventHandler implements ResourceEventHandler<Pod> {
         @Override
         public void onAdd(Pod pod) {
-            enqueuePod(pod, "ADDED");
+            enqueuePod(pod, "ADDED", "watch");
         }
 
         @Override
         public void onUpdate(Pod oldPod, Pod newPod) {
-            enqueuePod(newPod, "MODIFIED");
+            enqueuePod(newPod, "MODIFIED", InformerUtils.updateTrigger(oldPod, newPod));
         }
 
         @Override
         public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
-            enqueuePod(pod, "DELETED");
+            enqueuePod(pod, "DELETED", "watch");
         }
     }
 }
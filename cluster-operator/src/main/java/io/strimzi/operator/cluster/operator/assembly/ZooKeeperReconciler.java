@@ -410,9 +410,9 @@ public class ZooKeeperReconciler {
     protected Future<Void> certificateSecret(Clock clock) {
         return secretOperator.getAsync(reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()))
                 .compose(oldSecret -> {
-                    return secretOperator
-                            .reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()),
-                                    zk.generateCertificatesSecret(clusterCa, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant())))
+                    // The node certificates are generated in a worker thread as generating them might take a while
+                    return vertx.executeBlocking(() -> zk.generateCertificatesSecret(clusterCa, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant())))
+                            .compose(secret -> secretOperator.reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()), secret))
                             .compose(patchResult -> {
                                 if (patchResult != null) {
                                     for (int podNum = 0; podNum < zk.getReplicas(); podNum++) {
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.UnsupportedVersionException;
@@ -72,6 +73,8 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isPodSetReconciliationOnly(), is(false));
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.defaultValue()));
         assertThat(config.getLeaderElectionConfig(), is(nullValue()));
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
+        assertThat(config.getCertificateGenerationThreadPoolSize(), is(4));
     }
 
     @Test
@@ -233,6 +236,20 @@ public class ClusterOperatorConfigTest {
         );
     }
 
+    @Test
+    public void testCertManagerType() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "java");
+
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(ClusterOperatorConfig.CERT_MANAGER.key(), "bouncycastle");
+
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
     @Test
     public void testImagePullSecrets() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -19,13 +19,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -535,6 +542,35 @@ public class ClusterCaRenewalTest {
         assertThat(newCerts.get("pod2").storePassword(), is("new-password2"));
     }
 
+    @ParallelTest
+    public void parallelGenerationOfCertificates() throws IOException {
+        MockedClusterCa mockedCa = new MockedClusterCa(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, 2, 1, true, null);
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Long> durations = Collections.synchronizedList(new ArrayList<>());
+        mockedCa.setNodeCertGeneration(task -> pool.execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            task.run();
+        }), durations::add);
+
+        try {
+            Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(
+                    Reconciliation.DUMMY_RECONCILIATION,
+                    NODES,
+                    SUBJECT_FN,
+                    null,
+                    true);
+
+            assertThat(newCerts.keySet(), is(Set.of("pod0", "pod1", "pod2")));
+            assertThat(newCerts.values().stream().map(certAndKey -> new String(certAndKey.cert())).collect(Collectors.toSet()), is(Set.of("new-cert0", "new-cert1", "new-cert2")));
+            assertThat(threads.contains(Thread.currentThread().getName()), is(false));
+            assertThat(durations.size(), is(3));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     public static Secret initialSecret(Map<String, String> data)   {
         return initialSecret(0, data);
     }
@@ -571,7 +607,7 @@ public class ClusterCaRenewalTest {
         }
 
         @Override
-        protected boolean certSubjectChanged(CertAndKey certAndKey, Subject desiredSubject, String podName)    {
+        protected boolean certSubjectChanged(Secret secret, Subject desiredSubject, String podName)    {
             // When differs from the default we use, we indicate change
             return !new Subject.Builder().build().equals(desiredSubject);
         }
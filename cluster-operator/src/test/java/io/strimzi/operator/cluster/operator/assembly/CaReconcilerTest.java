@@ -176,7 +176,7 @@ public class CaReconcilerTest {
         Promise<ArgumentCaptor<Secret>> reconcileCasComplete = Promise.promise();
 
         new CaReconciler(reconciliation, kafka, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build(),
-                supplier, vertx, certManager, passwordGenerator)
+                supplier, vertx, certManager, passwordGenerator, vertx.createSharedWorkerExecutor(CaReconciler.CERT_GENERATION_POOL_NAME, 2))
                 .reconcile(clock)
                 .onComplete(ar -> {
                     // If succeeded return the argument captor object instead of the Reconciliation state
@@ -1280,7 +1280,7 @@ public class CaReconcilerTest {
         Checkpoint async = context.checkpoint();
 
         new CaReconciler(reconciliation, kafka, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build(),
-                supplier, vertx, certManager, passwordGenerator)
+                supplier, vertx, certManager, passwordGenerator, null)
                 .reconcile(Clock.systemUTC())
                 .onComplete(context.succeeding(c -> context.verify(() -> {
                     assertThat(clusterCaCert.getAllValues(), hasSize(1));
@@ -1366,7 +1366,7 @@ public class CaReconcilerTest {
         Checkpoint async = context.checkpoint();
 
         new CaReconciler(reconciliation, kafka, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build(),
-                supplier, vertx, certManager, passwordGenerator)
+                supplier, vertx, certManager, passwordGenerator, null)
                 .reconcile(Clock.systemUTC())
                 .onComplete(context.succeeding(c -> context.verify(() -> {
                     assertThat(clusterCaCert.getAllValues(), hasSize(1));
@@ -1446,7 +1446,7 @@ public class CaReconcilerTest {
         Checkpoint async = context.checkpoint();
 
         new CaReconciler(reconciliation, kafka, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build(),
-                supplier, vertx, certManager, passwordGenerator)
+                supplier, vertx, certManager, passwordGenerator, null)
                 .reconcile(Clock.systemUTC())
                 .onComplete(context.succeeding(c -> context.verify(() -> {
                     assertThat(clusterCaCert.getAllValues(), hasSize(1));
@@ -1538,7 +1538,7 @@ public class CaReconcilerTest {
         Checkpoint async = context.checkpoint();
 
         CaReconciler caReconciler = new CaReconciler(reconciliation, kafka, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build(),
-                supplier, vertx, certManager, passwordGenerator);
+                supplier, vertx, certManager, passwordGenerator, null);
         caReconciler
                 .reconcileCas(Clock.systemUTC())
                 .compose(i -> caReconciler.verifyClusterCaFullyTrustedAndUsed())
@@ -1651,7 +1651,7 @@ public class CaReconcilerTest {
         List<String> deploymentRollReason = new ArrayList<>();
 
         public MockCaReconciler(Reconciliation reconciliation, Kafka kafkaCr, ClusterOperatorConfig config, ResourceOperatorSupplier supplier, Vertx vertx, CertManager certManager, PasswordGenerator passwordGenerator) {
-            super(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator);
+            super(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator, null);
         }
 
         @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.strimzi.operator.common.model.CertificateCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the metrics of the shared certificate cache: the number of cache hits and misses, the hit ratio and the time
+ * spent parsing the certificates.
+ */
+public class CertificateCacheMetrics implements MeterBinder {
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("strimzi.certificate.cache.requests", CertificateCache.class, ignore -> CertificateCache.hits())
+                .description("Number of certificates requested from the certificate cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("strimzi.certificate.cache.requests", CertificateCache.class, ignore -> CertificateCache.misses())
+                .description("Number of certificates requested from the certificate cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("strimzi.certificate.cache.hit.ratio", CertificateCache::hitRatio)
+                .description("Ratio of the certificates found in the certificate cache")
+                .register(registry);
+        FunctionTimer.builder("strimzi.certificate.parse", CertificateCache.class, ignore -> CertificateCache.parses(), ignore -> CertificateCache.parseTimeNanos(), TimeUnit.NANOSECONDS)
+                .description("Time spent parsing the certificates from Secrets")
+                .register(registry);
+    }
+}
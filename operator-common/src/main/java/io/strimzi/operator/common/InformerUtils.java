@@ -4,8 +4,10 @@
  */
 package io.strimzi.operator.common;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
+import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,6 +33,21 @@ public class InformerUtils {
         return true;
     }
 
+    /**
+     * Decides the trigger of a reconciliation enqueued because of an update event from an informer. The periodic
+     * resync of the informers delivers update events with the same resource version for all resources. These are
+     * enqueued with the timer trigger, so that they do not delay the reconciliations of the resources which really
+     * changed.
+     *
+     * @param oldResource   The resource before the update
+     * @param newResource   The resource after the update
+     *
+     * @return  The timer trigger for resync events and the watch trigger otherwise
+     */
+    public static String updateTrigger(HasMetadata oldResource, HasMetadata newResource) {
+        return Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion()) ? "timer" : "watch";
+    }
+
     /**
      * Watches for informers to not stop unless we are shutting down the controller. If it stops unexpectedly, we will
      * terminate the operator.
@@ -9,13 +9,20 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract controller loop provides the shared functionality for reconciling resources in Strimzi controllers. It takes
  * an event from a queue passed in controller and reconciles it.
+ *
+ * By default, the reconciliation runs in the thread of the controller loop, so that each loop reconciles one resource
+ * at a time. Alternatively, the loop can dispatch the reconciliations to an executor service. It then runs up to the
+ * given number of reconciliations in parallel, and the threads of the executor service can be created only when needed.
  */
 public abstract class AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractControllerLoop.class);
@@ -26,6 +33,9 @@ public abstract class AbstractControllerLoop {
     private final ControllerQueue workQueue;
     private final ReconciliationLockManager lockManager;
     private final ScheduledExecutorService scheduledExecutor;
+    private final ExecutorService reconciliationExecutor;
+    private final int maxConcurrentReconciliations;
+    private final Semaphore reconciliationPermits;
 
     private volatile boolean stop = false;
     private volatile boolean running = false;
@@ -41,10 +51,36 @@ public abstract class AbstractControllerLoop {
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
     public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, lockManager, scheduledExecutor, null, 1);
+    }
+
+    /**
+     * Creates the controller which dispatches the reconciliations to an executor service. When the executor service is
+     * null, the reconciliations run in the thread of the controller loop, one at a time.
+     *
+     * @param name                          The name of this controller loop. The name should help to identify what
+     *                                      kind of look this is and what does it control / reconciler.
+     * @param workQueue                     Queue from which events should be consumed
+     * @param lockManager                   Lock manager for making sure no parallel reconciliations for a given
+     *                                      resource can happen
+     * @param scheduledExecutor             Scheduled executor service used to run the progress warnings
+     * @param reconciliationExecutor        Executor service used to run the reconciliations or null to run them in the
+     *                                      thread of the controller loop
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running in the executor service in parallel
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor,
+                                  ExecutorService reconciliationExecutor, int maxConcurrentReconciliations) {
+        if (maxConcurrentReconciliations < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent reconciliations has to be at least 1");
+        }
+
         this.name = name;
         this.workQueue = workQueue;
         this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
+        this.reconciliationExecutor = reconciliationExecutor;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.reconciliationPermits = new Semaphore(maxConcurrentReconciliations);
         this.controllerThread = new Thread(new Runner(), name);
     }
 
@@ -116,6 +152,7 @@ public abstract class AbstractControllerLoop {
             if (locked) {
                 try {
                     reconcileWrapper(reconciliation.toReconciliation());
+                    workQueue.forget(reconciliation);
                 } finally {
                     // We have to unlock the resource in any situation
                     lockManager.unlock(lockName);
@@ -133,9 +170,59 @@ public abstract class AbstractControllerLoop {
             requeue = true;
         }
 
-        // Failed to get the lock. We will requeue the resource for next time
+        // Failed to get the lock. We will requeue the resource for next time with a backoff
         if (requeue) {
-            workQueue.enqueue(reconciliation);
+            workQueue.requeue(reconciliation);
+        }
+    }
+
+    /**
+     * Reconciles the resource taken from the work queue and marks it as done in the queue.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    private void reconcileAndMarkDone(SimplifiedReconciliation reconciliation) {
+        try {
+            reconcileWithLock(reconciliation);
+        } finally {
+            // Makes the resource available again if it was enqueued while being reconciled
+            workQueue.done(reconciliation);
+        }
+    }
+
+    /**
+     * Waits until fewer than the maximal number of reconciliations are running, takes the next event from the queue
+     * and dispatches its reconciliation to the executor service.
+     *
+     * @throws InterruptedException InterruptedException is thrown when interrupted while waiting for the next event
+     */
+    private void dispatch() throws InterruptedException {
+        reconciliationPermits.acquire();
+        SimplifiedReconciliation reconciliation;
+
+        try {
+            reconciliation = workQueue.take();
+        } catch (InterruptedException e) {
+            reconciliationPermits.release();
+            throw e;
+        }
+
+        try {
+            reconciliationExecutor.execute(() -> {
+                try {
+                    reconcileAndMarkDone(reconciliation);
+                } catch (Exception e) {
+                    LOGGER.warnOp("{}: reconciliation failed", name, e);
+                } finally {
+                    reconciliationPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The executor is shutting down => we requeue the resource to not lose it
+            workQueue.requeue(reconciliation);
+            workQueue.done(reconciliation);
+            reconciliationPermits.release();
+            throw e;
         }
     }
 
@@ -179,8 +266,12 @@ public abstract class AbstractControllerLoop {
             while (!stop) {
                 try {
                     LOGGER.debugOp("{}: Waiting for next event from work queue", name);
-                    SimplifiedReconciliation reconciliation = workQueue.take();
-                    reconcileWithLock(reconciliation);
+
+                    if (reconciliationExecutor == null) {
+                        reconcileAndMarkDone(workQueue.take());
+                    } else {
+                        dispatch();
+                    }
                 } catch (InterruptedException e) {
                     LOGGER.debugOp("{}: was interrupted", name, e);
                 } catch (Exception e) {
@@ -188,6 +279,12 @@ public abstract class AbstractControllerLoop {
                 }
             }
 
+            if (reconciliationExecutor != null) {
+                // Waits for the dispatched reconciliations to finish
+                reconciliationPermits.acquireUninterruptibly(maxConcurrentReconciliations);
+                reconciliationPermits.release(maxConcurrentReconciliations);
+            }
+
             LOGGER.infoOp("{}: Stopping", name);
             running = false; // We indicate that we are exiting the controller loop
         }
@@ -8,18 +8,30 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class wraps a keyed work queue and exposes the methods used by controllers. This includes taking
+ * events from the queue, enqueueing events into the queue and marking them as done once they are reconciled.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
-    private final ControllerMetricsHolder metrics;
+    /**
+     * Delay used when a reconciliation is requeued for the first time
+     */
+    public static final long REQUEUE_BASE_DELAY_MS = 100L;
+
+    /**
+     * Maximal delay used when a reconciliation is requeued
+     */
+    public static final long REQUEUE_MAX_DELAY_MS = 60_000L;
+
+    /**
+     * Maximal number of reconciliations triggered by watch events which are taken from the queue in a row while periodic
+     * reconciliations are waiting
+     */
+    public static final int MAX_WATCH_RECONCILIATIONS_IN_ROW = 10;
+
+    /*test*/ final WorkQueue<SimplifiedReconciliation> queue;
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
@@ -29,11 +41,14 @@ public class ControllerQueue {
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
-        this.metrics = metrics;
+        this.queue = new WorkQueue<>(queueSize, REQUEUE_BASE_DELAY_MS, REQUEUE_MAX_DELAY_MS, MAX_WATCH_RECONCILIATIONS_IN_ROW,
+                reconciliation -> reconciliation.namespace, reconciliation -> "timer".equals(reconciliation.trigger), metrics);
     }
 
     /**
+     * Takes the next item from the queue. The resource is then considered to be reconciled until done(...) is called
+     * for it, and it is not taken from the queue again before that.
+     *
      * @return  Takes the next item from the queue. Blocks if the queue is empty.
      *
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
@@ -42,22 +57,48 @@ public class ControllerQueue {
         return queue.take();
     }
 
+    /**
+     * Marks the reconciliation taken from the queue as done. If the resource was enqueued again while it was being
+     * reconciled, it will be available in the queue again.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void done(SimplifiedReconciliation reconciliation) {
+        queue.done(reconciliation);
+    }
+
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. Reconciliations triggered by watch events are
+     * taken from the queue before the periodic reconciliations (with the timer trigger).
      *
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
-                LOGGER.warn("Failed to enqueue an event because the controller queue is full");
-            }
+        if (queue.add(reconciliation)) {
+            LOGGER.debug("Enqueued {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
         } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
             LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
         }
     }
 
+    /**
+     * Enqueues the reconciliation again after a delay, which grows exponentially with the number of times the resource
+     * was requeued since its last successful reconciliation.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void requeue(SimplifiedReconciliation reconciliation) {
+        LOGGER.debug("Requeueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+        queue.addRateLimited(reconciliation);
+    }
+
+    /**
+     * Resets the requeue delay of the resource. This should be called when the resource was reconciled.
+     *
+     * @param reconciliation    Reconciliation identifier
+     */
+    public void forget(SimplifiedReconciliation reconciliation) {
+        queue.forget(reconciliation);
+    }
 }
@@ -0,0 +1,411 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Keyed work queue used by the controllers. It is modelled after the work queue from the Kubernetes client-go library:
+ *     - Items are taken in FIFO order, and an index of the enqueued items makes checking whether an item is already
+ *       enqueued an O(1) operation.
+ *     - An item which is taken from the queue is being processed until {@link #done(Object)} is called for it. An item
+ *       which is added while it is being processed is marked as dirty and is enqueued again only once its processing
+ *       is done. So the same item is never processed by two threads at the same time.
+ *     - Items can be requeued with a delay, which grows exponentially with the number of times they were requeued
+ *       until {@link #forget(Object)} is called for them.
+ *     - Items are kept in two lanes: the watch lane for the items triggered by events and the timer lane for the
+ *       items triggered by the periodic reconciliation. Items from the watch lane are taken first, so that the
+ *       changes made by users are not stuck behind all the periodic reconciliations. But at most a given number of
+ *       watch items is taken in a row while timer items are waiting, so that the timer items are not starved. When
+ *       an item waiting in the timer lane is added again as a watch item, it is moved to the watch lane.
+ *
+ * Items are identified by their equals and hashCode methods.
+ *
+ * @param <T>   Type of the items
+ */
+public class WorkQueue<T> {
+    private final static Logger LOGGER = LogManager.getLogger(WorkQueue.class);
+
+    private final int capacity;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final int maxWatchItemsInRow;
+    private final Function<T, String> namespaceFunction;
+    private final Predicate<T> timerPredicate;
+    private final ControllerMetricsHolder metrics;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // Items waiting to be taken, in FIFO order
+    private final LinkedHashSet<T> watchLane = new LinkedHashSet<>();
+    private final LinkedHashSet<T> timerLane = new LinkedHashSet<>();
+    // Number of items taken from the watch lane since an item was last taken from the timer lane
+    private int watchItemsInRow = 0;
+    // Items which need to be processed and when they were added. This includes the items in the lanes and the items
+    // which were added again while they were being processed.
+    private final Map<T, Pending<T>> dirty = new HashMap<>();
+    // Items which were taken and are being processed
+    private final Set<T> processing = new HashSet<>();
+    // Items which will be added once their delay expires, with the nano time when they will be added
+    private final Map<T, Delayed<T>> waiting = new HashMap<>();
+    private final PriorityQueue<Delayed<T>> waitingByTime = new PriorityQueue<>();
+    // Number of times the items were requeued with a delay
+    private final Map<T, Integer> requeues = new HashMap<>();
+
+    /**
+     * Creates the work queue.
+     *
+     * @param capacity              Maximal number of items which can wait to be processed
+     * @param baseDelayMs           Delay used when an item is requeued for the first time
+     * @param maxDelayMs            Maximal delay used when an item is requeued
+     * @param maxWatchItemsInRow    Maximal number of items taken from the watch lane in a row while items are waiting
+     *                              in the timer lane
+     * @param namespaceFunction     Function returning the namespace of an item, used for the metrics
+     * @param timerPredicate        Predicate indicating whether an item belongs to the timer lane
+     * @param metrics               Holder for the controller metrics
+     */
+    public WorkQueue(int capacity, long baseDelayMs, long maxDelayMs, int maxWatchItemsInRow, Function<T, String> namespaceFunction, Predicate<T> timerPredicate, ControllerMetricsHolder metrics) {
+        this.capacity = capacity;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxWatchItemsInRow = maxWatchItemsInRow;
+        this.namespaceFunction = namespaceFunction;
+        this.timerPredicate = timerPredicate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds an item to the queue, unless it is already waiting to be processed. When the item is being processed, it
+     * will be enqueued once its processing is done. When a watch item is added while an equal timer item is waiting,
+     * the timer item is replaced by the watch item.
+     *
+     * @param item  Item which should be added
+     *
+     * @return  True if the item was added, false if it was already enqueued or if the queue is full
+     */
+    public boolean add(T item) {
+        lock.lock();
+        try {
+            Pending<T> pending = dirty.get(item);
+
+            if (pending == null) {
+                return addLocked(item);
+            } else if (timerPredicate.test(pending.item) && !timerPredicate.test(item)) {
+                promote(item);
+                return true;
+            } else {
+                metrics.alreadyEnqueuedReconciliationsCounter(namespaceFunction.apply(item)).increment(); // Increase the metrics counter
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an item to the queue after the given delay. When the item is already waiting for a delay, it is added after
+     * the shorter of the two delays. The watch item is kept when one of the two items is a timer item, so that the watch
+     * trigger is not lost.
+     *
+     * @param item      Item which should be added
+     * @param delayMs   Delay in milliseconds
+     */
+    public void addAfter(T item, long delayMs) {
+        if (delayMs <= 0) {
+            add(item);
+            return;
+        }
+
+        lock.lock();
+        try {
+            long readyAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+            Delayed<T> existing = waiting.get(item);
+
+            if (existing == null) {
+                delay(new Delayed<>(item, readyAt));
+                // Wake up the waiting threads so that they wait only until this item is ready
+                notEmpty.signalAll();
+            } else {
+                T kept = timerPredicate.test(item) && !timerPredicate.test(existing.item) ? existing.item : item;
+
+                if (readyAt - existing.readyAt < 0) {
+                    delay(new Delayed<>(kept, readyAt));
+                    notEmpty.signalAll();
+                } else if (kept != existing.item) {
+                    delay(new Delayed<>(kept, existing.readyAt));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an item to the queue after a delay which grows exponentially with the number of times the item was
+     * requeued since it was last forgotten.
+     *
+     * @param item  Item which should be requeued
+     */
+    public void addRateLimited(T item) {
+        long delayMs;
+
+        lock.lock();
+        try {
+            int requeued = requeues.merge(item, 1, Integer::sum) - 1;
+            // The shift is capped to avoid overflowing
+            delayMs = Math.min(baseDelayMs << Math.min(requeued, 30), maxDelayMs);
+        } finally {
+            lock.unlock();
+        }
+
+        addAfter(item, delayMs);
+    }
+
+    /**
+     * Resets the number of times the item was requeued. This should be called when the item was processed successfully.
+     *
+     * @param item  Item which should be forgotten
+     */
+    public void forget(T item) {
+        lock.lock();
+        try {
+            requeues.remove(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next item from the queue and marks it as being processed. Blocks if the queue is empty.
+     *
+     * @return  The next item
+     *
+     * @throws InterruptedException InterruptedException is thrown if interrupted while waiting for the next item
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long waitNanos = addReady();
+                T next = poll();
+
+                if (next != null) {
+                    Pending<T> pending = dirty.remove(next);
+                    String namespace = namespaceFunction.apply(pending.item);
+                    processing.add(pending.item);
+                    metrics.workQueueDepth(namespace).decrementAndGet();
+                    metrics.workQueueTimer(namespace, trigger(pending.item)).record(System.nanoTime() - pending.addedAt, TimeUnit.NANOSECONDS);
+
+                    return pending.item;
+                } else if (waitNanos == Long.MAX_VALUE) {
+                    notEmpty.await();
+                } else {
+                    notEmpty.awaitNanos(waitNanos);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the processing of an item as done. If the item was added while it was being processed, it is enqueued
+     * again. This has to be called for every item returned by {@link #take()}.
+     *
+     * @param item  Item which was processed
+     */
+    public void done(T item) {
+        lock.lock();
+        try {
+            processing.remove(item);
+
+            Pending<T> pending = dirty.get(item);
+            if (pending != null) {
+                enqueue(pending.item);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of items waiting in the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return watchLane.size() + timerLane.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param item  Item which should be checked
+     *
+     * @return  True if the item is waiting to be processed, false otherwise
+     */
+    public boolean contains(T item) {
+        lock.lock();
+        try {
+            return dirty.containsKey(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes the item wait for its delay. The key is replaced as well, since HashMap keeps the existing key of an equal
+     * item, and the key is the item which is added once the delay expires.
+     *
+     * @param delayed   The item and the nano time when it should be added
+     */
+    private void delay(Delayed<T> delayed) {
+        waiting.remove(delayed.item);
+        waiting.put(delayed.item, delayed);
+        waitingByTime.add(delayed);
+    }
+
+    private boolean addLocked(T item) {
+        if (dirty.size() >= capacity) {
+            LOGGER.warn("Failed to enqueue an event because the controller queue is full");
+            return false;
+        }
+
+        dirty.put(item, new Pending<>(item, System.nanoTime()));
+        metrics.workQueueAddsCounter(namespaceFunction.apply(item)).increment();
+
+        // Items being processed are enqueued once they are done
+        if (!processing.contains(item)) {
+            enqueue(item);
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces a waiting timer item with a watch item. The time the item waits in the queue is measured from now on,
+     * since it is the time the watch item waited what matters.
+     *
+     * @param item  The watch item
+     */
+    private void promote(T item) {
+        dirty.put(item, new Pending<>(item, System.nanoTime()));
+
+        // Items being processed are not in any lane
+        if (timerLane.remove(item)) {
+            watchLane.add(item);
+        }
+    }
+
+    private void enqueue(T item) {
+        if (timerPredicate.test(item)) {
+            timerLane.add(item);
+        } else {
+            watchLane.add(item);
+        }
+
+        metrics.workQueueDepth(namespaceFunction.apply(item)).incrementAndGet();
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the next item from the lanes. The watch lane is preferred, unless too many items were taken from it in a
+     * row while items were waiting in the timer lane.
+     *
+     * @return  The next item or null if both lanes are empty
+     */
+    private T poll() {
+        if (!timerLane.isEmpty() && (watchLane.isEmpty() || watchItemsInRow >= maxWatchItemsInRow)) {
+            watchItemsInRow = 0;
+            return pollFirst(timerLane);
+        } else if (!watchLane.isEmpty()) {
+            watchItemsInRow = timerLane.isEmpty() ? 0 : watchItemsInRow + 1;
+            return pollFirst(watchLane);
+        } else {
+            return null;
+        }
+    }
+
+    private static <T> T pollFirst(LinkedHashSet<T> lane) {
+        Iterator<T> iterator = lane.iterator();
+        T item = iterator.next();
+        iterator.remove();
+        return item;
+    }
+
+    private String trigger(T item) {
+        return timerPredicate.test(item) ? "timer" : "watch";
+    }
+
+    /**
+     * Adds the items whose delay expired.
+     *
+     * @return  Nanoseconds until the delay of the next waiting item expires or Long.MAX_VALUE if no items are waiting
+     */
+    private long addReady() {
+        long now = System.nanoTime();
+        Delayed<T> next;
+
+        while ((next = waitingByTime.peek()) != null) {
+            if (waiting.get(next.item) != next) {
+                // The item was added again with a shorter delay or with the watch trigger => ignore this entry
+                waitingByTime.poll();
+            } else if (next.readyAt - now <= 0) {
+                waitingByTime.poll();
+                waiting.remove(next.item);
+
+                Pending<T> pending = dirty.get(next.item);
+                if (pending == null) {
+                    addLocked(next.item);
+                } else if (timerPredicate.test(pending.item) && !timerPredicate.test(next.item)) {
+                    promote(next.item);
+                }
+            } else {
+                return next.readyAt - now;
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Item which needs to be processed.
+     *
+     * @param item      The item
+     * @param addedAt   Nano time when it was added
+     * @param <T>       Type of the item
+     */
+    private record Pending<T>(T item, long addedAt) { }
+
+    /**
+     * Item waiting to be added to the queue.
+     *
+     * @param item      The item
+     * @param readyAt   Nano time when it should be added
+     * @param <T>       Type of the item
+     */
+    private record Delayed<T>(T item, long readyAt) implements Comparable<Delayed<T>> {
+        @Override
+        public int compareTo(Delayed<T> other) {
+            return Long.compare(readyAt - other.readyAt, 0);
+        }
+    }
+}
@@ -5,17 +5,23 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> workQueueDepthMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> workQueueAddsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Map<String, Timer>> workQueueTimerMaps = new ConcurrentHashMap<>(2);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +47,58 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Counter metric for number of periodic reconciliations which were short-circuited because nothing changed since
+     * the last successful reconciliation of the resource. Together with the total number of reconciliations, it gives
+     * the ratio of the skipped reconciliations.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.skipped", metricsProvider, selectorLabels, skippedReconciliationsCounterMap,
+                "Number of periodic reconciliations skipped because the resource did not change since its last successful reconciliation");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the work queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger workQueueDepth(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "workqueue.depth", metricsProvider, selectorLabels, workQueueDepthMap,
+                "Number of reconciliations waiting in the work queue");
+    }
+
+    /**
+     * Counter metric for number of reconciliations added to the work queue. Reconciliations which were already
+     * enqueued are not counted.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter workQueueAddsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "workqueue.adds", metricsProvider, selectorLabels, workQueueAddsCounterMap,
+                "Number of reconciliations added to the work queue");
+    }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the work queue before they are taken from it. It is
+     * tracked separately for the reconciliations triggered by watch events and by the periodic timer, which wait in
+     * different lanes of the work queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param trigger       Trigger of the reconciliations (watch or timer)
+     *
+     * @return  Metrics timer
+     */
+    public Timer workQueueTimer(String namespace, String trigger) {
+        return metric(namespace, kind, selectorLabels, workQueueTimerMaps.computeIfAbsent(trigger, t -> new ConcurrentHashMap<>(1)),
+                tags -> metricsProvider.timer(METRICS_PREFIX + "workqueue.queue.duration", "The time the reconciliation waits in the work queue", tags.and("trigger", trigger)));
+    }
 }
@@ -445,7 +445,7 @@ public abstract class Ca {
                                            File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
         LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", subject, this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
+        generateCsr(keyFile, csrFile, subject);
         certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
                 certFile, subject, validityDays);
 
@@ -460,6 +460,19 @@ public abstract class Ca {
                 keyStorePassword);
     }
 
+    /**
+     * Generates the private key and the certificate sign request for a certificate signed by this CA
+     *
+     * @param keyFile   File where the private key will be stored
+     * @param csrFile   File where the certificate sign request will be stored
+     * @param subject   Subject of the certificate
+     *
+     * @throws IOException  If the private key or the certificate sign request could not be generated
+     */
+    protected void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        certManager.generateCsr(keyFile, csrFile, subject);
+    }
+
     /**
      * Generates a certificate signed by this CA
      *
@@ -865,7 +878,7 @@ public abstract class Ca {
         String certName = entry.getKey();
         String certText = entry.getValue();
         try {
-            X509Certificate cert = x509Certificate(Base64.getDecoder().decode(certText));
+            X509Certificate cert = CertificateCache.certificate(caCertSecret, certName, certText);
             Instant expiryDate = cert.getNotAfter().toInstant();
             remove = expiryDate.isBefore(clock.instant());
             if (remove) {
@@ -941,13 +954,8 @@ public abstract class Ca {
      * @return  An X509Certificate instance with the certificate
      */
     public static X509Certificate cert(Secret secret, String key)  {
-        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
-            return null;
-        }
-        Base64.Decoder decoder = Base64.getDecoder();
-        byte[] bytes = decoder.decode(secret.getData().get(key));
         try {
-            return x509Certificate(bytes);
+            return CertificateCache.certificate(secret, key);
         } catch (CertificateException e) {
             throw new RuntimeException("Failed to decode certificate in data." + key.replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
         }
@@ -964,17 +972,14 @@ public abstract class Ca {
         if (secret == null || secret.getData() == null) {
             return Set.of();
         } else {
-            Base64.Decoder decoder = Base64.getDecoder();
-
             return secret
                     .getData()
                     .entrySet()
                     .stream()
                     .filter(record -> SecretEntry.CRT.matchesType(record.getKey()))
                     .map(record -> {
-                        byte[] bytes = decoder.decode(record.getValue());
                         try {
-                            return x509Certificate(bytes);
+                            return CertificateCache.certificate(secret, record.getKey(), record.getValue());
                         } catch (CertificateException e) {
                             throw new RuntimeException("Failed to decode certificate in data." + record.getKey().replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
                         }
@@ -0,0 +1,271 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the X509 certificates parsed from Kubernetes Secrets. Every reconciliation parses the CA certificates and
+ * the node certificates from their Secrets. But these Secrets rarely change, so the parsed certificates (and their
+ * subject alternative names) are cached and reused as long as the Secret has the same UID and resource version and
+ * the encoded certificate is the same. Certificates from Secrets without UID or resource version (for example
+ * Secrets which were not created in Kubernetes yet) are always parsed.
+ * <p>
+ * The cache holds at most one entry per Secret and key (the last parsed resource version) and is limited to
+ * {@link #MAX_ENTRIES} entries. The least recently used entries are evicted first.</p>
+ */
+public final class CertificateCache {
+    /* test */ static final int MAX_ENTRIES = 10_000;
+
+    private static final Map<CacheKey, CacheEntry> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder PARSES = new LongAdder();
+    private static final LongAdder PARSE_TIME_NANOS = new LongAdder();
+
+    private CertificateCache() { }
+
+    /**
+     * Returns the X509 certificate stored in a Kubernetes Secret
+     *
+     * @param secret    Kubernetes Secret with the certificate
+     * @param key       Key under which the certificate is stored in the Secret
+     *
+     * @return  The X509 certificate or null if the Secret does not contain the key
+     *
+     * @throws CertificateException     Thrown when the Secret does not contain a valid X509 certificate under the key
+     */
+    public static X509Certificate certificate(Secret secret, String key) throws CertificateException {
+        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
+            return null;
+        }
+
+        return entry(secret, key, secret.getData().get(key)).certificate();
+    }
+
+    /**
+     * Returns the X509 certificate from its Base64 encoded form which belongs to the key of a Kubernetes Secret. The
+     * encoded certificate does not have to be the current value of the key in the Secret. That is useful when a copy
+     * of the Secret data is being updated.
+     *
+     * @param secret    Kubernetes Secret to which the certificate belongs
+     * @param key       Key under which the certificate is stored in the Secret
+     * @param encoded   Base64 encoded certificate
+     *
+     * @return  The X509 certificate
+     *
+     * @throws CertificateException     Thrown when the encoded value is not a valid X509 certificate
+     */
+    public static X509Certificate certificate(Secret secret, String key, String encoded) throws CertificateException {
+        return entry(secret, key, encoded).certificate();
+    }
+
+    /**
+     * Returns the subject alternative names of the X509 certificate stored in a Kubernetes Secret
+     *
+     * @param secret    Kubernetes Secret with the certificate
+     * @param key       Key under which the certificate is stored in the Secret
+     *
+     * @return  List with the subject alternative names or null if the Secret does not contain the key
+     *
+     * @throws CertificateException     Thrown when the Secret does not contain a valid X509 certificate under the key
+     */
+    public static List<String> subjectAltNames(Secret secret, String key) throws CertificateException {
+        if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
+            return null;
+        }
+
+        return entry(secret, key, secret.getData().get(key)).subjectAltNames();
+    }
+
+    /**
+     * @return  Number of certificates found in the cache
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return  Number of certificates which were not found in the cache and had to be parsed
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return  Ratio of the cache hits to all cacheable requests or NaN if there were no requests yet
+     */
+    public static double hitRatio() {
+        double hits = HITS.doubleValue();
+        double requests = hits + MISSES.doubleValue();
+
+        return requests > 0 ? hits / requests : Double.NaN;
+    }
+
+    /**
+     * @return  Number of parsed certificates (including the certificates from Secrets which cannot be cached)
+     */
+    public static long parses() {
+        return PARSES.sum();
+    }
+
+    /**
+     * @return  Total time spent parsing the certificates in nanoseconds
+     */
+    public static long parseTimeNanos() {
+        return PARSE_TIME_NANOS.sum();
+    }
+
+    /**
+     * Removes all entries from the cache and resets the statistics. Used in tests.
+     */
+    /* test */ static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+
+        HITS.reset();
+        MISSES.reset();
+        PARSES.reset();
+        PARSE_TIME_NANOS.reset();
+    }
+
+    /**
+     * @return  Number of the entries in the cache
+     */
+    /* test */ static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static CacheEntry entry(Secret secret, String key, String encoded) {
+        String uid = secret != null && secret.getMetadata() != null ? secret.getMetadata().getUid() : null;
+        String resourceVersion = secret != null && secret.getMetadata() != null ? secret.getMetadata().getResourceVersion() : null;
+
+        if (uid == null || resourceVersion == null) {
+            // Secrets without UID or resource version cannot be cached
+            return parse(resourceVersion, encoded);
+        }
+
+        CacheKey cacheKey = new CacheKey(uid, key);
+        CacheEntry entry;
+
+        synchronized (CACHE) {
+            entry = CACHE.get(cacheKey);
+        }
+
+        if (entry != null
+                && entry.resourceVersion().equals(resourceVersion)
+                && entry.encoded().equals(encoded)) {
+            HITS.increment();
+            return entry;
+        }
+
+        MISSES.increment();
+        entry = parse(resourceVersion, encoded);
+
+        synchronized (CACHE) {
+            CACHE.put(cacheKey, entry);
+        }
+
+        return entry;
+    }
+
+    private static CacheEntry parse(String resourceVersion, String encoded) {
+        long start = System.nanoTime();
+
+        try {
+            return new CacheEntry(resourceVersion, encoded, Ca.x509Certificate(Base64.getDecoder().decode(encoded)), null);
+        } catch (CertificateException e) {
+            return new CacheEntry(resourceVersion, encoded, null, e);
+        } catch (IllegalArgumentException e) {
+            // Invalid Base64 value
+            return new CacheEntry(resourceVersion, encoded, null, new CertificateException("Failed to decode certificate", e));
+        } finally {
+            PARSES.increment();
+            PARSE_TIME_NANOS.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Key of the cache
+     *
+     * @param uid   UID of the Secret
+     * @param key   Key under which the certificate is stored in the Secret
+     */
+    private record CacheKey(String uid, String key) { }
+
+    /**
+     * Cached certificate or the failure to parse it. The subject alternative names are extracted only when they are
+     * needed.
+     */
+    private static final class CacheEntry {
+        private final String resourceVersion;
+        private final String encoded;
+        private final X509Certificate certificate;
+        private final CertificateException failure;
+        private volatile List<String> subjectAltNames;
+
+        CacheEntry(String resourceVersion, String encoded, X509Certificate certificate, CertificateException failure) {
+            this.resourceVersion = resourceVersion;
+            this.encoded = encoded;
+            this.certificate = certificate;
+            this.failure = failure;
+        }
+
+        String resourceVersion() {
+            return resourceVersion;
+        }
+
+        String encoded() {
+            return encoded;
+        }
+
+        X509Certificate certificate() throws CertificateException {
+            if (failure != null) {
+                throw failure;
+            }
+
+            return certificate;
+        }
+
+        List<String> subjectAltNames() throws CertificateException {
+            List<String> names = subjectAltNames;
+
+            if (names == null) {
+                Collection<List<?>> altNames = certificate().getSubjectAlternativeNames();
+
+                if (altNames == null) {
+                    throw new CertificateParsingException("The certificate does not have any subject alternative names");
+                }
+
+                names = altNames.stream()
+                        .filter(name -> name.get(1) instanceof String)
+                        .map(item -> (String) item.get(1))
+                        .toList();
+                subjectAltNames = names;
+            }
+
+            return names;
+        }
+    }
+}
@@ -7,13 +7,20 @@ package io.strimzi.operator.common.model;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.common.CertificateExpirationPolicy;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.function.Supplier;
+
 /**
  * Represents the Strimzi Clients CA
  */
 public class ClientsCa extends Ca {
     private Secret brokersSecret;
+    private Supplier<byte[]> privateKeySupplier;
 
     /**
      * Creates a ClientsCA instance
@@ -48,6 +55,28 @@ public class ClientsCa extends Ca {
         this.brokersSecret = secret;
     }
 
+    /**
+     * Sets the supplier of pre-generated private keys used for the new certificates signed by this CA. The supplier
+     * returns null when it has no key available. The private key is then generated together with the certificate.
+     *
+     * @param privateKeySupplier    Supplier of private keys in the PEM format
+     */
+    public void setPrivateKeySupplier(Supplier<byte[]> privateKeySupplier) {
+        this.privateKeySupplier = privateKeySupplier;
+    }
+
+    @Override
+    protected void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        byte[] privateKey = privateKeySupplier != null ? privateKeySupplier.get() : null;
+
+        if (privateKey != null) {
+            Files.write(keyFile.toPath(), privateKey);
+            certManager.generateCsrWithExistingKey(keyFile, csrFile, subject);
+        } else {
+            super.generateCsr(keyFile, csrFile, subject);
+        }
+    }
+
     @Override
     public String caCertGenerationAnnotation() {
         return ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION;
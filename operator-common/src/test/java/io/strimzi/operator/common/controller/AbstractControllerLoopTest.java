@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class AbstractControllerLoopTest {
+    private static final int RESOURCES = 100;
+
+    private ControllerMetricsHolder metrics;
+    private ControllerQueue queue;
+    private ScheduledExecutorService scheduledExecutor;
+    private ExecutorService reconciliationExecutor;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new ControllerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        queue = new ControllerQueue(RESOURCES, metrics);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        reconciliationExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduledExecutor.shutdownNow();
+        reconciliationExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testReconcilesInControllerThread() throws InterruptedException {
+        TestLoop loop = new TestLoop(null, 1);
+        reconcileAll(loop);
+
+        assertThat(loop.maxInProgress.get(), is(1));
+    }
+
+    @Test
+    public void testReconcilesInExecutorWithConcurrencyLimit() throws InterruptedException {
+        TestLoop loop = new TestLoop(reconciliationExecutor, 10);
+        reconcileAll(loop);
+
+        assertThat(loop.maxInProgress.get(), lessThanOrEqualTo(10));
+        assertThat(loop.maxInProgress.get() > 1, is(true));
+    }
+
+    private void reconcileAll(TestLoop loop) throws InterruptedException {
+        for (int i = 0; i < RESOURCES; i++) {
+            queue.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i));
+        }
+
+        loop.start();
+        assertThat(loop.reconciled.await(30, TimeUnit.SECONDS), is(true));
+        loop.stop();
+
+        assertThat(loop.names.size(), is(RESOURCES));
+        assertThat(loop.inProgress.get(), is(0));
+        assertThat(loop.isAlive(), is(false));
+    }
+
+    private class TestLoop extends AbstractControllerLoop {
+        final Set<String> names = ConcurrentHashMap.newKeySet();
+        final CountDownLatch reconciled = new CountDownLatch(RESOURCES);
+        final AtomicInteger inProgress = new AtomicInteger(0);
+        final AtomicInteger maxInProgress = new AtomicInteger(0);
+
+        TestLoop(ExecutorService reconciliationExecutor, int maxConcurrentReconciliations) {
+            super("test-loop", queue, new ReconciliationLockManager(), scheduledExecutor, reconciliationExecutor, maxConcurrentReconciliations);
+        }
+
+        @Override
+        protected void reconcile(Reconciliation reconciliation) {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            names.add(reconciliation.name());
+            inProgress.decrementAndGet();
+            reconciled.countDown();
+        }
+
+        @Override
+        protected ControllerMetricsHolder metrics() {
+            return metrics;
+        }
+    }
+}
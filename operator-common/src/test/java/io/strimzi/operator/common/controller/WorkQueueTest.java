@@ -0,0 +1,203 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class WorkQueueTest {
+    private static final SimplifiedReconciliation R1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+    private static final SimplifiedReconciliation R2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name");
+
+    private MeterRegistry metricsRegistry;
+    private WorkQueue<SimplifiedReconciliation> queue;
+
+    @BeforeEach
+    public void setup() {
+        metricsRegistry = new SimpleMeterRegistry();
+        ControllerMetricsHolder metrics = new ControllerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(metricsRegistry));
+        queue = new WorkQueue<>(10, 50, 200, 2, r -> r.namespace, r -> "timer".equals(r.trigger), metrics);
+    }
+
+    @Test
+    public void testFifoWithoutDuplicates() throws InterruptedException {
+        assertThat(queue.add(R1), is(true));
+        assertThat(queue.add(R2), is(true));
+        assertThat(queue.add(new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer")), is(false));
+
+        assertThat(queue.size(), is(2));
+        assertThat(queue.take(), is(R1));
+        assertThat(queue.take(), is(R2));
+        assertThat(queue.size(), is(0));
+
+        assertThat(metricsRegistry.get("strimzi.workqueue.adds").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(2.0));
+        assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get("strimzi.workqueue.depth").tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(0.0));
+        assertThat(metricsRegistry.get("strimzi.workqueue.queue.duration").tag("kind", "kind").tag("namespace", "my-namespace").tag("trigger", "watch").timer().count(), is(2L));
+    }
+
+    @Test
+    public void testWatchLaneFirst() throws InterruptedException {
+        SimplifiedReconciliation t1 = new SimplifiedReconciliation("kind", "my-namespace", "timer-1", "timer");
+        SimplifiedReconciliation t2 = new SimplifiedReconciliation("kind", "my-namespace", "timer-2", "timer");
+        SimplifiedReconciliation w1 = new SimplifiedReconciliation("kind", "my-namespace", "watch-1");
+        SimplifiedReconciliation w2 = new SimplifiedReconciliation("kind", "my-namespace", "watch-2");
+        SimplifiedReconciliation w3 = new SimplifiedReconciliation("kind", "my-namespace", "watch-3");
+        SimplifiedReconciliation w4 = new SimplifiedReconciliation("kind", "my-namespace", "watch-4");
+
+        queue.add(t1);
+        queue.add(t2);
+        queue.add(w1);
+        queue.add(w2);
+        queue.add(w3);
+        queue.add(w4);
+
+        // At most 2 watch items are taken in a row while timer items are waiting
+        assertThat(queue.take(), is(w1));
+        assertThat(queue.take(), is(w2));
+        assertThat(queue.take(), is(t1));
+        assertThat(queue.take(), is(w3));
+        assertThat(queue.take(), is(w4));
+        assertThat(queue.take(), is(t2));
+
+        assertThat(metricsRegistry.get("strimzi.workqueue.queue.duration").tag("namespace", "my-namespace").tag("trigger", "watch").timer().count(), is(4L));
+        assertThat(metricsRegistry.get("strimzi.workqueue.queue.duration").tag("namespace", "my-namespace").tag("trigger", "timer").timer().count(), is(2L));
+    }
+
+    @Test
+    public void testWatchItemReplacesTimerItem() throws InterruptedException {
+        SimplifiedReconciliation t1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+        SimplifiedReconciliation t2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name", "timer");
+
+        queue.add(t1);
+        queue.add(t2);
+
+        // The watch item moves to the watch lane, and is returned with the watch trigger
+        assertThat(queue.add(R1), is(true));
+        assertThat(queue.size(), is(2));
+        assertThat(queue.take().trigger, is("watch"));
+        assertThat(queue.take(), is(t2));
+        queue.done(R1);
+        queue.done(t2);
+
+        // Timer items do not replace watch items
+        queue.add(R2);
+        assertThat(queue.add(t2), is(false));
+        assertThat(queue.take().trigger, is("watch"));
+        queue.done(R2);
+
+        // The trigger is updated also while the item is being processed
+        queue.add(t1);
+        assertThat(queue.take().trigger, is("timer"));
+        queue.add(t1);
+        queue.add(R1);
+        queue.done(R1);
+        assertThat(queue.take().trigger, is("watch"));
+    }
+
+    @Test
+    public void testCapacity() {
+        WorkQueue<Integer> small = new WorkQueue<>(2, 50, 200, 2, i -> "my-namespace", i -> false, new ControllerMetricsHolder("kind", Labels.EMPTY, new MicrometerMetricsProvider(metricsRegistry)));
+
+        assertThat(small.add(1), is(true));
+        assertThat(small.add(2), is(true));
+        assertThat(small.add(3), is(false));
+        assertThat(small.size(), is(2));
+    }
+
+    @Test
+    public void testDirtyWhileProcessing() throws InterruptedException {
+        queue.add(R1);
+        assertThat(queue.take(), is(R1));
+
+        // Enqueued while being processed => it is not available until it is done
+        assertThat(queue.add(R1), is(true));
+        assertThat(queue.contains(R1), is(true));
+        assertThat(queue.size(), is(0));
+
+        // Further events are de-duplicated
+        assertThat(queue.add(R1), is(false));
+
+        queue.done(R1);
+        assertThat(queue.size(), is(1));
+        assertThat(queue.take(), is(R1));
+
+        // Not enqueued while being processed => it is not available after it is done
+        queue.done(R1);
+        assertThat(queue.size(), is(0));
+        assertThat(queue.contains(R1), is(false));
+    }
+
+    @Test
+    public void testAddAfter() throws InterruptedException {
+        queue.addAfter(R1, 100);
+        queue.add(R2);
+
+        assertThat(queue.take(), is(R2));
+
+        long start = System.nanoTime();
+        assertThat(queue.take(), is(R1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(50L));
+    }
+
+    @Test
+    public void testAddAfterKeepsWatchTrigger() throws InterruptedException {
+        SimplifiedReconciliation t1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name", "timer");
+
+        // A watch item with a longer delay replaces the waiting timer item, but keeps its delay
+        queue.addAfter(t1, 50);
+        queue.addAfter(R1, 10_000);
+        assertThat(queue.take().trigger, is("watch"));
+        queue.done(R1);
+
+        // A timer item with a shorter delay shortens the delay of the waiting watch item, but does not replace it
+        queue.addAfter(R1, 10_000);
+        queue.addAfter(t1, 50);
+        assertThat(queue.take().trigger, is("watch"));
+        queue.done(R1);
+
+        // The waiting timer item is promoted when a watch item was enqueued meanwhile
+        queue.addAfter(t1, 50);
+        queue.add(R1);
+        assertThat(queue.take().trigger, is("watch"));
+        queue.done(R1);
+        assertThat(queue.size(), is(0));
+    }
+
+    @Test
+    public void testAddRateLimited() throws InterruptedException {
+        long start = System.nanoTime();
+        queue.addRateLimited(R1);
+        assertThat(queue.take(), is(R1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(50L));
+        queue.done(R1);
+
+        // The delay doubles
+        start = System.nanoTime();
+        queue.addRateLimited(R1);
+        assertThat(queue.take(), is(R1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(100L));
+        queue.done(R1);
+
+        // Forgetting resets the delay (without it, the next delay would be 200ms)
+        queue.forget(R1);
+        start = System.nanoTime();
+        queue.addRateLimited(R1);
+        assertThat(queue.take(), is(R1));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMs >= 50L && elapsedMs < 200L, is(true));
+    }
+}
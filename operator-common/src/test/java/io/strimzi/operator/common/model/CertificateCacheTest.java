@@ -0,0 +1,190 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.certs.JavaCertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.CertificateCacheMetrics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CertificateCacheTest {
+    private static String certificate;
+    private static String otherCertificate;
+
+    @BeforeAll
+    public static void generateCertificates() throws IOException {
+        File caKeyFile = Files.createTempFile("ca", ".key").toFile();
+        File caCertFile = Files.createTempFile("ca", ".crt").toFile();
+
+        try {
+            new JavaCertManager().generateSelfSignedCert(caKeyFile, caCertFile, new Subject.Builder().withCommonName("ca").build(), 365);
+
+            certificate = generateCertificate(caKeyFile, caCertFile, "my-pod-0");
+            otherCertificate = generateCertificate(caKeyFile, caCertFile, "my-pod-1");
+        } finally {
+            Files.delete(caKeyFile.toPath());
+            Files.delete(caCertFile.toPath());
+        }
+    }
+
+    private static String generateCertificate(File caKeyFile, File caCertFile, String name) throws IOException {
+        File keyFile = Files.createTempFile("key", ".key").toFile();
+        File csrFile = Files.createTempFile("csr", ".csr").toFile();
+        File certFile = Files.createTempFile("cert", ".crt").toFile();
+
+        try {
+            Subject subject = new Subject.Builder()
+                    .withCommonName(name)
+                    .withOrganizationName("io.strimzi")
+                    .addDnsName(name)
+                    .addDnsName(name + ".my-namespace.svc")
+                    .build();
+            JavaCertManager certManager = new JavaCertManager();
+            certManager.generateCsr(keyFile, csrFile, subject);
+            certManager.generateCert(csrFile, caKeyFile, caCertFile, certFile, subject, 365);
+
+            return Base64.getEncoder().encodeToString(Files.readAllBytes(certFile.toPath()));
+        } finally {
+            Files.delete(keyFile.toPath());
+            Files.delete(csrFile.toPath());
+            Files.delete(certFile.toPath());
+        }
+    }
+
+    private static Secret secret(String uid, String resourceVersion, Map<String, String> data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace("my-namespace")
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+
+    @BeforeEach
+    public void clearCache() {
+        CertificateCache.clear();
+    }
+
+    @Test
+    public void testCachedCertificate() throws CertificateException {
+        Secret secret = secret("my-uid", "1", Map.of("my-pod-0.crt", certificate));
+
+        X509Certificate cert = CertificateCache.certificate(secret, "my-pod-0.crt");
+        assertThat(cert.getSubjectX500Principal().getName(), is("CN=my-pod-0,O=io.strimzi"));
+
+        // Same Secret => cached
+        assertThat(CertificateCache.certificate(secret, "my-pod-0.crt"), is(sameInstance(cert)));
+        assertThat(CertificateCache.certificate(secret("my-uid", "1", Map.of("my-pod-0.crt", certificate)), "my-pod-0.crt"), is(sameInstance(cert)));
+        assertThat(CertificateCache.hitRatio(), is(2.0 / 3.0));
+        assertThat(CertificateCache.parses(), is(1L));
+        assertThat(CertificateCache.size(), is(1));
+
+        // New resource version => parsed again and the old version is replaced
+        assertThat(CertificateCache.certificate(secret("my-uid", "2", Map.of("my-pod-0.crt", certificate)), "my-pod-0.crt"), is(cert));
+        assertThat(CertificateCache.parses(), is(2L));
+        assertThat(CertificateCache.size(), is(1));
+
+        // Different Secret => parsed again
+        assertThat(CertificateCache.certificate(secret("other-uid", "2", Map.of("my-pod-0.crt", certificate)), "my-pod-0.crt"), is(cert));
+        assertThat(CertificateCache.parses(), is(3L));
+        assertThat(CertificateCache.size(), is(2));
+    }
+
+    @Test
+    public void testChangedValueWithSameResourceVersion() throws CertificateException {
+        Secret secret = secret("my-uid", "1", Map.of("my-pod-0.crt", certificate));
+        X509Certificate cert = CertificateCache.certificate(secret, "my-pod-0.crt");
+
+        // Secret data changed locally without changing the resource version
+        X509Certificate otherCert = CertificateCache.certificate(secret("my-uid", "1", Map.of("my-pod-0.crt", otherCertificate)), "my-pod-0.crt");
+        assertThat(otherCert.getSubjectX500Principal().getName(), is("CN=my-pod-1,O=io.strimzi"));
+
+        // Encoded value which is not the current value in the Secret
+        assertThat(CertificateCache.certificate(secret, "my-pod-0.crt", certificate), is(cert));
+        assertThat(CertificateCache.certificate(secret, "my-pod-0.crt", otherCertificate), is(otherCert));
+    }
+
+    @Test
+    public void testSecretsWithoutResourceVersionAreNotCached() throws CertificateException {
+        Secret secret = secret(null, null, Map.of("my-pod-0.crt", certificate));
+
+        X509Certificate cert = CertificateCache.certificate(secret, "my-pod-0.crt");
+        assertThat(CertificateCache.certificate(secret, "my-pod-0.crt"), is(cert));
+        assertThat(CertificateCache.parses(), is(2L));
+        assertThat(CertificateCache.size(), is(0));
+        assertThat(CertificateCache.hitRatio(), is(Double.NaN));
+    }
+
+    @Test
+    public void testMissingCertificate() throws CertificateException {
+        assertThat(CertificateCache.certificate(null, "my-pod-0.crt"), is(nullValue()));
+        assertThat(CertificateCache.certificate(secret("my-uid", "1", null), "my-pod-0.crt"), is(nullValue()));
+        assertThat(CertificateCache.certificate(secret("my-uid", "1", Map.of()), "my-pod-0.crt"), is(nullValue()));
+        assertThat(CertificateCache.subjectAltNames(secret("my-uid", "1", Map.of()), "my-pod-0.crt"), is(nullValue()));
+    }
+
+    @Test
+    public void testInvalidCertificateIsCached() {
+        Secret secret = secret("my-uid", "1", Map.of("ca.password", Base64.getEncoder().encodeToString("password".getBytes()), "ca.crt", "not-base64!"));
+
+        CertificateException e = assertThrows(CertificateException.class, () -> CertificateCache.certificate(secret, "ca.password"));
+        assertThat(assertThrows(CertificateException.class, () -> CertificateCache.certificate(secret, "ca.password")), is(sameInstance(e)));
+        assertThrows(CertificateException.class, () -> CertificateCache.certificate(secret, "ca.crt"));
+        assertThat(CertificateCache.hitRatio(), is(1.0 / 3.0));
+    }
+
+    @Test
+    public void testSubjectAltNames() throws CertificateException {
+        Secret secret = secret("my-uid", "1", Map.of("my-pod-0.crt", certificate));
+
+        List<String> names = CertificateCache.subjectAltNames(secret, "my-pod-0.crt");
+        assertThat(names, containsInAnyOrder("my-pod-0", "my-pod-0.my-namespace.svc"));
+        assertThat(CertificateCache.subjectAltNames(secret, "my-pod-0.crt"), is(sameInstance(names)));
+    }
+
+    @Test
+    public void testMetrics() throws CertificateException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new CertificateCacheMetrics().bindTo(registry);
+
+        Secret secret = secret("my-uid", "1", Map.of("my-pod-0.crt", certificate));
+        CertificateCache.certificate(secret, "my-pod-0.crt");
+        CertificateCache.certificate(secret, "my-pod-0.crt");
+        CertificateCache.certificate(secret, "my-pod-0.crt");
+
+        assertThat(registry.get("strimzi.certificate.cache.requests").tag("result", "hit").functionCounter().count(), is(2.0));
+        assertThat(registry.get("strimzi.certificate.cache.requests").tag("result", "miss").functionCounter().count(), is(1.0));
+        assertThat(registry.get("strimzi.certificate.cache.hit.ratio").gauge().value(), is(2.0 / 3.0));
+        assertThat(registry.get("strimzi.certificate.parse").functionTimer().count(), is(1.0));
+        assertThat(registry.get("strimzi.certificate.parse").functionTimer().totalTime(TimeUnit.NANOSECONDS), is(greaterThan(0.0)));
+    }
+}
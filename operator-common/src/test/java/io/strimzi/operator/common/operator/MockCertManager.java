@@ -368,6 +368,17 @@ public class MockCertManager implements CertManager {
         write(csrFile, "csr file");
     }
 
+    @Override
+    public void generatePrivateKey(File keyFile) throws IOException {
+        write(keyFile, END_ENTITY_KEY);
+    }
+
+    @Override
+    public void generateCsrWithExistingKey(File keyFile, File csrFile, Subject sbj) throws IOException {
+        // A real CSR file is not needed for tests to pass
+        write(csrFile, "csr file");
+    }
+
     @Override
     public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
         write(crtFile, END_ENTITY_CERT);
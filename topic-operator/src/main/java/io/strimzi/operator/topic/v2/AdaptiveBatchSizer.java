@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+/**
+ * Chooses the batch size and linger of a {@link BatchingLoop.LoopRunnable} for each batch, within the configured
+ * maximums, according to the depth of its queue and how long recent batches took to reconcile.
+ * <ul>
+ *     <li>When the queue is at least as deep as the current batch size, and batches are being reconciled quickly,
+ *     the batch size is doubled, so that deep queues (e.g. during a resync) are drained using fewer, larger,
+ *     Admin requests.</li>
+ *     <li>When the queue holds fewer events than the current batch size the linger is doubled (starting at 1ms),
+ *     so that events arriving close together can be accumulated into the same batch.</li>
+ *     <li>When the queue is (nearly) empty the batch size and linger are halved, towards a linger of zero,
+ *     so that a single change to a KafkaTopic is reconciled without waiting.</li>
+ * </ul>
+ * Batches are considered slow when the moving average of their reconciliation time exceeds
+ * {@link #SLOW_BATCH_LINGER_MULTIPLE} times the maximum linger: at that point the reconciliation is dominated by
+ * the latency of the Kafka and Kube APIs, and larger batches would only delay the topics at the head of the queue.
+ * <p>
+ * Instances are not thread-safe, being used by a single {@link BatchingLoop.LoopRunnable}.</p>
+ */
+class AdaptiveBatchSizer {
+
+    /**
+     * The multiple of the maximum linger above which batches are considered slow.
+     */
+    static final int SLOW_BATCH_LINGER_MULTIPLE = 10;
+
+    /**
+     * The weight of the most recent batch in the moving average of the batch reconciliation time.
+     */
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxBatchLingerMs;
+    private int batchSize;
+    private long batchLingerMs;
+    private double batchNsEwma = 0;
+
+    /**
+     * @param enabled Whether to adapt the batch size and linger, rather than always using the maximums.
+     * @param maxBatchSize The maximum batch size.
+     * @param maxBatchLingerMs The maximum linger, in ms.
+     */
+    AdaptiveBatchSizer(boolean enabled, int maxBatchSize, long maxBatchLingerMs) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchLingerMs = maxBatchLingerMs;
+        this.batchSize = enabled ? 1 : maxBatchSize;
+        this.batchLingerMs = enabled ? 0 : maxBatchLingerMs;
+    }
+
+    /**
+     * @return Whether the batch size and linger are adapted.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The size of the next batch.
+     */
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return The linger of the next batch, in ms.
+     */
+    long batchLingerMs() {
+        return batchLingerMs;
+    }
+
+    /**
+     * Adapts the batch size and linger for the next batch.
+     * @param queueDepth The number of events in the queue, before filling the next batch.
+     */
+    void adapt(int queueDepth) {
+        if (!enabled) {
+            return;
+        }
+        if (queueDepth <= 1) {
+            batchSize = Math.max(1, batchSize / 2);
+            batchLingerMs = batchLingerMs / 2;
+        } else if (queueDepth >= batchSize) {
+            if (!isSlow()) {
+                batchSize = (int) Math.min(maxBatchSize, 2L * batchSize);
+            }
+        } else {
+            batchLingerMs = Math.min(maxBatchLingerMs, Math.max(1, 2 * batchLingerMs));
+        }
+    }
+
+    /**
+     * Records how long a batch took to reconcile.
+     * @param batchNs The duration, in ns.
+     */
+    void recordBatch(long batchNs) {
+        batchNsEwma = batchNsEwma == 0 ? batchNs : EWMA_ALPHA * batchNs + (1 - EWMA_ALPHA) * batchNsEwma;
+    }
+
+    private boolean isSlow() {
+        return batchNsEwma > SLOW_BATCH_LINGER_MULTIPLE * maxBatchLingerMs * 1_000_000.0;
+    }
+}
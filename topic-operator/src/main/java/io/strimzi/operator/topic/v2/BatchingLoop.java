@@ -12,34 +12,34 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
 import static io.strimzi.operator.topic.v2.TopicOperatorUtil.topicName;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
- * the reconciliation of those events using a {@link BatchingTopicController}.
- * Any given KafkaTopic is only being reconciled by a single thread at any one time.
+ * Encapsulates a pool of threads (see {@link LoopRunnable}) servicing the reconciliation of {@link TopicEvent}s
+ * using a {@link BatchingTopicController}.
+ * Each thread has its own {@link TopicEventQueue}. A KafkaTopic is owned by a single thread from its first event until
+ * its deletion has been reconciled, so a KafkaTopic is only ever being reconciled by a single thread at any one time.
+ * The owner of a KafkaTopic is chosen using the hash of the name of the Kafka topic it manages, so several KafkaTopics
+ * which conflict over the same Kafka topic are reconciled by the same thread too.
  */
 class BatchingLoop {
 
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
-    private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
-
     /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * The window over which the utilization of each {@link LoopRunnable} is computed.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private static final long UTILIZATION_WINDOW_NS = 10_000_000_000L;
+
+    private final BatchingTopicController controller;
     private final LoopRunnable[] threads;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
@@ -48,30 +48,32 @@ class BatchingLoop {
     private final int maxQueueSize;
     private final TopicOperatorMetricsHolder metrics;
     private final String namespace;
+    private final Map<KubeRef, LoopRunnable> owners = new HashMap<>(); // guarded by itself
 
     public BatchingLoop(
             int maxQueueSize,
+            boolean queueBackpressure,
             BatchingTopicController controller,
             int maxThreads,
             int maxBatchSize,
             long maxBatchLingerMs,
+            boolean adaptiveBatching,
             ItemStore<KafkaTopic> itemStore,
             Runnable stop,
             TopicOperatorMetricsHolder metrics,
             String namespace) {
         this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
         this.controller = controller;
-        this.threads = new LoopRunnable[maxThreads];
-        for (int i = 0; i < maxThreads; i++) {
-            threads[i] = new LoopRunnable("LoopRunnable-" + i);
-        }
         this.maxBatchSize = maxBatchSize;
         this.maxBatchLingerMs = maxBatchLingerMs;
         this.itemStore = itemStore;
         this.stop = stop;
         this.metrics = metrics;
         this.namespace = namespace;
+        this.threads = new LoopRunnable[maxThreads];
+        for (int i = 0; i < maxThreads; i++) {
+            threads[i] = new LoopRunnable(i, maxQueueSize, queueBackpressure, adaptiveBatching);
+        }
     }
 
     /**
@@ -97,13 +99,29 @@ class BatchingLoop {
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the tail of the queue of the thread which owns the event's KafkaTopic,
+     * or coalesce it with the event already pending for the same KafkaTopic.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} added to front of queue", event);
-            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queue.size()));
+        LoopRunnable thread;
+        TopicEventQueue.OfferResult result;
+        synchronized (owners) {
+            // The owner is sticky, because the sharding key of a KafkaTopic can change between its events
+            thread = owners.computeIfAbsent(event.toRef(), ref -> threadFor(shardingKey(event)));
+            result = thread.queue.offer(event);
+        }
+        if (result == TopicEventQueue.OfferResult.COALESCED) {
+            LOGGER.debugOp("Item {} coalesced with pending item in queue of {}", event, thread.getName());
+            metrics.coalescedEventsCounter(namespace).increment();
+        } else if (result == TopicEventQueue.OfferResult.ADDED) {
+            LOGGER.debugOp("Item {} added to tail of queue of {}", event, thread.getName());
+            int queueSize = thread.queue.size();
+            metrics.reconciliationsMaxQueueSize(namespace).getAndUpdate(size -> Math.max(size, queueSize));
+            metrics.batchThreadQueueSize(namespace, thread.id).set(queueSize);
+        } else if (result == TopicEventQueue.OfferResult.SPILLED) {
+            LOGGER.debugOp("Queue length {} of {} reached, item {} added to overflow", maxQueueSize, thread.getName(), event);
+            updateOverflowSize();
         } else {
             LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
                     maxQueueSize,
@@ -112,6 +130,81 @@ class BatchingLoop {
         }
     }
 
+    /**
+     * @return The number of events pending in the queues of all the threads, including any overflow.
+     */
+    int queueSize() {
+        int size = 0;
+        for (var thread : threads) {
+            size += thread.queue.size() + thread.queue.overflowSize();
+        }
+        return size;
+    }
+
+    private void updateOverflowSize() {
+        int overflowSize = 0;
+        for (var thread : threads) {
+            overflowSize += thread.queue.overflowSize();
+        }
+        metrics.reconciliationsOverflowSize(namespace).set(overflowSize);
+    }
+
+    /**
+     * Releases the ownership of deleted KafkaTopics by the given thread, unless another event for them
+     * (e.g. if they have been recreated) is already pending in its queue.
+     * @param thread The thread which reconciled the deletion
+     * @param deleted The deletion events
+     */
+    private void release(LoopRunnable thread, List<TopicDelete> deleted) {
+        synchronized (owners) {
+            for (var delete : deleted) {
+                KubeRef ref = delete.toRef();
+                if (owners.get(ref) == thread && !thread.queue.contains(ref)) {
+                    owners.remove(ref);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param event The event
+     * @return The id of the thread which owns the KafkaTopic of the given event, or -1 if it isn't owned by any thread.
+     */
+    /* test */ int ownerId(TopicEvent event) {
+        synchronized (owners) {
+            var thread = owners.get(event.toRef());
+            return thread == null ? -1 : thread.id;
+        }
+    }
+
+    /**
+     * Resolves the name of the Kafka topic managed by the KafkaTopic of the given event, which is used to choose
+     * the thread which will own the KafkaTopic.
+     * The {@code status.topicName} is preferred over the {@code spec.topicName} because it doesn't change
+     * once the KafkaTopic has been reconciled.
+     * @param event The event
+     * @return The name of the Kafka topic, or the name of the KafkaTopic if it's no longer in the item store.
+     */
+    /* test */ String shardingKey(TopicEvent event) {
+        KafkaTopic kt = event instanceof TopicDelete delete ? delete.topic()
+                : itemStore.get(Cache.namespaceKeyFunc(event.namespace(), event.name()));
+        if (kt == null) {
+            return event.name();
+        } else if (kt.getStatus() != null && kt.getStatus().getTopicName() != null) {
+            return kt.getStatus().getTopicName();
+        } else {
+            return topicName(kt);
+        }
+    }
+
+    /**
+     * @param topicName The name of a Kafka topic
+     * @return The thread responsible for reconciling the KafkaTopics which manage the given Kafka topic.
+     */
+    private LoopRunnable threadFor(String topicName) {
+        return threads[Math.floorMod(topicName.hashCode(), threads.length)];
+    }
+
     /**
      * The loop is alive if none of the threads have been blocked for more than 2 minutes.
      * "Blocked" means they're not returned to their outermost loop.
@@ -148,19 +241,36 @@ class BatchingLoop {
     }
 
     /**
-     * A thread that services the head of the {@link #queue}.
+     * A thread that services the head of its {@link #queue}.
      */
     class LoopRunnable extends Thread {
 
+        private final int id;
+        private final TopicEventQueue queue;
+        private final AdaptiveBatchSizer sizer;
+
+        /**
+         * The set of topics currently being reconciled by this thread.
+         * Only accessed by this thread.
+         * This functions as mechanism for preventing the same topic appearing twice in a batch.
+         */
+        private final Set<KubeRef> inFlight = new HashSet<>();
+
         private volatile boolean stopRequested = false;
 
-        LoopRunnable(String name) {
-            super(name);
+        LoopRunnable(int id, int maxQueueSize, boolean queueBackpressure, boolean adaptiveBatching) {
+            super("LoopRunnable-" + id);
             setDaemon(false);
+            this.id = id;
+            this.queue = new TopicEventQueue(maxQueueSize, queueBackpressure,
+                throttledNs -> metrics.reconciliationsThrottledTimer(namespace).record(throttledNs, TimeUnit.NANOSECONDS));
+            this.sizer = new AdaptiveBatchSizer(adaptiveBatching, maxBatchSize, maxBatchLingerMs);
         }
 
         static final ReconciliationLogger LOGGER = ReconciliationLogger.create(LoopRunnable.class);
         private volatile long lastLoop = System.nanoTime();
+        private long utilizationWindowStart = System.nanoTime();
+        private long busyNs = 0;
 
         long msSinceLastLoop() {
             return (System.nanoTime() - lastLoop) / 1_000_000;
@@ -191,16 +301,17 @@ class BatchingLoop {
 
         private boolean runOnce(int batchId, Batch batch) {
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
-                }
-
+                // remove the old batch from the inflight set and reset the batch
+                LOGGER.traceOp("[Batch #{}] Removing batch from inflight", batchId - 1);
+                batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+                batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
+                batch.clear();
+                // fill a new batch
+                fillBatch(batchId, batch);
+                metrics.batchThreadQueueSize(namespace, id).set(queue.size());
+                updateOverflowSize();
+
+                long busyStart = System.nanoTime();
                 if (batch.size() > 0) {
                     LOGGER.infoOp("[Batch #{}] Reconciling batch of {} topics", batchId, batch.size());
                     // perform reconciliation on new batch
@@ -208,13 +319,19 @@ class BatchingLoop {
                         controller.onUpdate(batch.toUpdate.stream().map(upsert -> lookup(batchId, upsert)).filter(Objects::nonNull).toList());
                     }
                     if (!batch.toDelete.isEmpty()) {
-                        controller.onDelete(batch.toDelete.stream().map(td -> new ReconcilableTopic(
-                            new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), topicName(td.topic()))).toList());
+                        try {
+                            controller.onDelete(batch.toDelete.stream().map(td -> new ReconcilableTopic(
+                                new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), topicName(td.topic()))).toList());
+                        } finally {
+                            release(this, batch.toDelete);
+                        }
                     }
                     LOGGER.infoOp("[Batch #{}] Batch reconciliation completed", batchId);
+                    sizer.recordBatch(System.nanoTime() - busyStart);
                 } else {
                     LOGGER.traceOp("[Batch #{}] Empty batch", batchId);
                 }
+                updateUtilization(System.nanoTime() - busyStart);
             } catch (InterruptedException e) {
                 LOGGER.infoOp("[Batch #{}] Interrupted", batchId);
                 return true;
@@ -224,6 +341,22 @@ class BatchingLoop {
             return stopRequested;
         }
 
+        /**
+         * Accumulates the time spent reconciling batches and, once per {@link #UTILIZATION_WINDOW_NS},
+         * publishes it as a percentage of the elapsed time.
+         * @param batchNs The time spent reconciling the last batch
+         */
+        private void updateUtilization(long batchNs) {
+            busyNs += batchNs;
+            long now = System.nanoTime();
+            long windowNs = now - utilizationWindowStart;
+            if (windowNs >= UTILIZATION_WINDOW_NS) {
+                metrics.batchThreadUtilization(namespace, id).set((int) Math.min(100L, busyNs * 100 / windowNs));
+                utilizationWindowStart = now;
+                busyNs = 0;
+            }
+        }
+
         private ReconcilableTopic lookup(int batchId, TopicUpsert topicUpsert) {
             var key = Cache.namespaceKeyFunc(topicUpsert.namespace(), topicUpsert.name());
             var kt = itemStore.get(key);
@@ -246,44 +379,57 @@ class BatchingLoop {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
             List<TopicEvent> rejected = new ArrayList<>();
 
-            final long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
+            sizer.adapt(queue.size());
+            final int batchSize = sizer.batchSize();
+            final long batchLingerMs = sizer.batchLingerMs();
+            metrics.batchThreadBatchSize(namespace, id).set(batchSize);
+            metrics.batchThreadBatchLinger(namespace, id).set((int) batchLingerMs);
+
+            long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
             while (true) {
-                if (batch.size() >= maxBatchSize) {
-                    LOGGER.traceOp("[Batch #{}] Reached maxBatchSize, batch complete", batchId, maxBatchSize);
+                if (batch.size() >= batchSize) {
+                    LOGGER.traceOp("[Batch #{}] Reached batch size {}, batch complete", batchId, batchSize);
                     break;
                 }
 
-                long timeoutNs = deadlineNanoTime - System.nanoTime();
-                if (timeoutNs <= 0) {
-                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
+                long timeoutNs = Math.max(0, deadlineNanoTime - System.nanoTime());
+                if (timeoutNs == 0 && !sizer.isEnabled()) {
+                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, batchLingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                // In adaptive mode, once the linger has expired, the batch is still topped up with any events
+                // already in the queue.
+                LOGGER.traceOp("[Batch #{}] Taking next item from queue head with timeout {}ns", batchId, timeoutNs);
+                TopicEvent topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] Linger expired, batch complete", batchId);
                     break;
                 }
+                if (sizer.isEnabled() && batch.size() == 0) {
+                    // in adaptive mode the linger starts from the first event, so that a single event
+                    // isn't delayed when the linger has adapted to zero
+                    deadlineNanoTime = System.nanoTime() + batchLingerMs * 1_000_000;
+                }
                 addToBatch(batchId, batch, rejected, topicEvent);
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
             metrics.reconciliationsMaxBatchSize(namespace).getAndUpdate(size -> Math.max(size, batch.size()));
 
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
+            // push `rejected` back on the front of the queue where they can be taken by the next batch,
+            // (or coalesce them with any more recent event for the same topic received in the meantime)
             for (int i = rejected.size() - 1; i >= 0; i--) {
                 TopicEvent item = rejected.get(i);
-                offer(item);
+                if (queue.offerFirst(item) == TopicEventQueue.OfferResult.COALESCED) {
+                    metrics.coalescedEventsCounter(namespace).increment();
+                }
             }
         }
 
         private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
-            // We could add logic here to cope properly with interleaved upserts and deletes
-            // of the same topic in the same batch.
-            // E.g. upset then delete is equivalent to just a delete
-            // It's actually a bit tricky since you have to process the events in reverse order to correctly
-            // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
+            // Interleaved upserts and deletes of the same topic are already coalesced while they're pending in
+            // the TopicEventQueue, but an event for a topic can still arrive after an earlier event for the same
+            // topic has been taken into this batch.
             KubeRef ref = topicEvent.toRef();
             if (inFlight.add(ref)) {
                 // wasn't already inflight
@@ -84,20 +84,31 @@ public class BatchingTopicController {
     private final KubernetesClient kubeClient;
 
     // Key: topic name, Value: The KafkaTopics known to manage that topic
-    /* test */ final Map<String, List<KubeRef>> topics = new HashMap<>();
+    // Guarded by its own monitor, because batches can be reconciled concurrently by several BatchingLoop threads
+    /* test */ final Map<String, List<KubeRef>> topics = new HashMap<>(); // guarded by topics
 
     private final TopicOperatorMetricsHolder metrics;
-    private final String namespace;
+    private final TopicStateSnapshot snapshot;
+    private final ReassignmentView reassignmentView;
+    private final KafkaTopicStatusWriter statusWriter;
 
-    BatchingTopicController(Map<String, String> selector,
+    /**
+     * @param config The operator's config, for the finalizer, additional metrics, snapshot, reassignment view and
+     *               status writer settings
+     * @param selector The label selector KafkaTopics must match
+     * @param admin The Admin client
+     * @param kubeClient The Kube client
+     * @param metrics The metrics holder
+     * @throws ExecutionException If the brokers' configs can't be described
+     * @throws InterruptedException If interrupted while describing the brokers' configs
+     */
+    BatchingTopicController(TopicOperatorConfig config,
+                            Map<String, String> selector,
                             Admin admin,
                             KubernetesClient kubeClient,
-                            boolean useFinalizer,
-                            TopicOperatorMetricsHolder metrics,
-                            String namespace,
-                            boolean enableAdditionalMetrics) throws ExecutionException, InterruptedException {
+                            TopicOperatorMetricsHolder metrics) throws ExecutionException, InterruptedException {
         this.selector = Objects.requireNonNull(selector);
-        this.useFinalizer = useFinalizer;
+        this.useFinalizer = config.useFinalizer();
         this.admin = admin;
         DescribeClusterResult describeClusterResult = admin.describeCluster();
         // Get the config of some broker and check whether auto topic creation is enabled
@@ -120,8 +131,12 @@ public class BatchingTopicController {
         }
         this.kubeClient = kubeClient;
         this.metrics = metrics;
-        this.namespace = namespace;
-        this.enableAdditionalMetrics = enableAdditionalMetrics;
+        this.enableAdditionalMetrics = config.enableAdditionalMetrics();
+        this.snapshot = new TopicStateSnapshot(config.topicSnapshotMaxAgeMs());
+        this.reassignmentView = new ReassignmentView(config.reassignmentViewMaxAgeMs());
+        this.statusWriter = config.asyncStatusUpdates()
+                ? new KafkaTopicStatusWriter(kubeClient, config.statusWriterThreads(), config.statusWriterMaxQps(), metrics, enableAdditionalMetrics)
+                : new KafkaTopicStatusWriter(kubeClient, 0, 0, metrics, enableAdditionalMetrics);
     }
 
     /* test */ static boolean isManaged(KafkaTopic kt) {
@@ -164,7 +179,7 @@ public class BatchingTopicController {
             Timer.Sample timerSample = startOperationTimer();
             KafkaTopic edit = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
                     new KafkaTopicBuilder(old).editOrNewMetadata().addToFinalizers(FINALIZER).endMetadata().build());
-            stopOperationTimer(timerSample, metrics::addFinalizerTimer);
+            stopOperationTimer(timerSample, metrics::addFinalizerTimer, Set.of(reconcilableTopic.reconciliation().namespace()));
             LOGGER.traceCr(reconcilableTopic.reconciliation(), "Added finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(edit));
             return edit;
         }
@@ -177,7 +192,7 @@ public class BatchingTopicController {
             Timer.Sample timerSample = startOperationTimer();
             var result = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
                     new KafkaTopicBuilder(old).editOrNewMetadata().removeFromFinalizers(FINALIZER).endMetadata().build());
-            stopOperationTimer(timerSample, metrics::removeFinalizerTimer);
+            stopOperationTimer(timerSample, metrics::removeFinalizerTimer, Set.of(reconcilableTopic.reconciliation().namespace()));
             LOGGER.traceCr(reconcilableTopic.reconciliation(), "Removed finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(result));
             return result;
         } else {
@@ -194,19 +209,24 @@ public class BatchingTopicController {
 
     private boolean rememberTopic(ReconcilableTopic reconcilableTopic) {
         String tn = reconcilableTopic.topicName();
-        var existing = topics.computeIfAbsent(tn, k -> new ArrayList<>(1));
         KubeRef thisRef = new KubeRef(reconcilableTopic.kt());
-        if (!existing.contains(thisRef)) {
-            existing.add(thisRef);
+        synchronized (topics) {
+            var existing = topics.computeIfAbsent(tn, k -> new ArrayList<>(1));
+            if (!existing.contains(thisRef)) {
+                existing.add(thisRef);
+            }
         }
         return true;
     }
 
     private Either<TopicOperatorException, Boolean> validateSingleManagingResource(ReconcilableTopic reconcilableTopic) {
         String tn = reconcilableTopic.topicName();
-        var existing = topics.get(tn);
+        List<KubeRef> existing;
+        synchronized (topics) {
+            existing = List.copyOf(topics.getOrDefault(tn, List.of()));
+        }
         KubeRef thisRef = new KubeRef(reconcilableTopic.kt());
-        if (existing.size() != 1) {
+        if (existing.size() > 1) {
             var byCreationTime = existing.stream().sorted(Comparator.comparing(KubeRef::creationTime)).toList();
 
             var oldest = byCreationTime.get(0);
@@ -266,7 +286,7 @@ public class BatchingTopicController {
         Timer.Sample timerSample = startOperationTimer();
         CreateTopicsResult ctr = admin.createTopics(newTopics);
         ctr.all().whenComplete((i, e) -> {
-            stopOperationTimer(timerSample, metrics::createTopicsTimer);
+            stopOperationTimer(timerSample, metrics::createTopicsTimer, namespaces(kts));
             if (e != null) {
                 LOGGER.traceOp("Admin.createTopics({}) failed with {}", newTopics, String.valueOf(e));
             } else {
@@ -275,6 +295,8 @@ public class BatchingTopicController {
         });
         Map<String, KafkaFuture<Void>> values = ctr.values();
         return partitionedByError(kts.stream().map(reconcilableTopic -> {
+            snapshot.invalidate(reconcilableTopic.topicName());
+            reassignmentView.invalidate(reconcilableTopic.topicName());
             try {
                 values.get(reconcilableTopic.topicName()).get();
                 reconcilableTopic.kt().setStatus(new KafkaTopicStatusBuilder()
@@ -393,6 +415,13 @@ public class BatchingTopicController {
                 collect.get(false));
     }
 
+    /**
+     * Stops any threads used by the controller.
+     */
+    void stop() {
+        statusWriter.stop();
+    }
+
     /**
      * @param topics The topics to reconcile
      * @throws InterruptedException If the thread was interrupted while blocking
@@ -450,7 +479,7 @@ public class BatchingTopicController {
         partitionedByPaused.get(true).forEach(reconcilableTopic -> putResult(results, reconcilableTopic, Either.ofRight(null)));
 
         var mayNeedUpdate = partitionedByPaused.get(false);
-        metrics.reconciliationsCounter(namespace).increment(mayNeedUpdate.size());
+        mayNeedUpdate.forEach(reconcilableTopic -> metrics.reconciliationsCounter(reconcilableTopic.reconciliation().namespace()).increment());
         var addedFinalizer = addOrRemoveFinalizer(useFinalizer, mayNeedUpdate);
 
         var currentStatesOrError = describeTopic(addedFinalizer);
@@ -627,34 +656,29 @@ public class BatchingTopicController {
                     .map(pi -> new TopicPartition(pair.getKey().topicName(), pi.partition()));
         }).collect(Collectors.toSet());
 
-        Map<TopicPartition, PartitionReassignment> reassignments;
-        LOGGER.traceOp("Admin.listPartitionReassignments({})", apparentDifferentRfPartitions);
-        Timer.Sample timerSample = startOperationTimer();
+        Set<String> namespaces = namespaces(apparentlyDifferentRfTopics.stream().map(pair -> pair.getKey()).toList());
+        Map<TopicPartition, Integer> partitionToTargetRf;
         try {
-            reassignments = admin.listPartitionReassignments(apparentDifferentRfPartitions).reassignments().get();
-            stopOperationTimer(timerSample, metrics::listReassignmentsTimer);
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) completed", apparentDifferentRfPartitions);
+            if (reassignmentView.isEnabled()) {
+                Set<String> topicNames = apparentlyDifferentRfTopics.stream().map(pair -> pair.getKey().topicName()).collect(Collectors.toSet());
+                var result = reassignmentView.targetReplicationFactors(topicNames, () -> listPartitionReassignments(null, namespaces));
+                if (result.fromView()) {
+                    LOGGER.traceOp("Using reassignments from view for partitions {}", apparentDifferentRfPartitions);
+                    namespaces.forEach(ns -> metrics.reassignmentViewHitsCounter(ns).increment());
+                } else {
+                    namespaces.forEach(ns -> metrics.reassignmentViewMissesCounter(ns).increment());
+                }
+                partitionToTargetRf = result.targetReplicationFactors();
+            } else {
+                partitionToTargetRf = ReassignmentView.targetReplicationFactors(listPartitionReassignments(apparentDifferentRfPartitions, namespaces));
+            }
         } catch (ExecutionException e) {
-            stopOperationTimer(timerSample, metrics::listReassignmentsTimer);
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) failed with {}", apparentDifferentRfPartitions, e);
             return apparentlyDifferentRfTopics.stream().map(pair ->
                     pair(pair.getKey, Either.<TopicOperatorException, CurrentState>ofLeft(handleAdminException(e)))).toList();
         } catch (InterruptedException e) {
             throw new UncheckedInterruptedException(e);
         }
 
-        var partitionToTargetRf = reassignments.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> {
-            var tp = entry.getKey();
-            var partitionReassignment = entry.getValue();
-            // See https://cwiki.apache.org/confluence/display/KAFKA/KIP-455%3A+Create+an+Administrative+API+for+Replica+Reassignment#KIP455:CreateanAdministrativeAPIforReplicaReassignment-Algorithm
-            // for a full description of the algorithm
-            // but in essence replicas() will include addingReplicas() from the beginning
-            // so the target rf will be the replicas minus the removing
-            var target = new HashSet<>(partitionReassignment.replicas());
-            target.removeAll(partitionReassignment.removingReplicas());
-            return target.size();
-        }));
-
         return apparentlyDifferentRfTopics.stream().filter(pair -> {
             boolean b = pair.getValue.topicDescription.partitions().stream().anyMatch(pi -> {
                 TopicPartition tp = new TopicPartition(pair.getKey.topicName(), pi.partition());
@@ -666,6 +690,26 @@ public class BatchingTopicController {
         }).map(pair -> pair(pair.getKey, Either.<TopicOperatorException, CurrentState>ofRight(pair.getValue))).toList();
     }
 
+    /**
+     * @param partitions The partitions to list the reassignments of, or null to list those of the whole cluster.
+     * @return The reassignments in progress.
+     */
+    private Map<TopicPartition, PartitionReassignment> listPartitionReassignments(Set<TopicPartition> partitions, Set<String> namespaces) throws ExecutionException, InterruptedException {
+        LOGGER.traceOp("Admin.listPartitionReassignments({})", partitions != null ? partitions : "");
+        Timer.Sample timerSample = startOperationTimer();
+        try {
+            var reassignments = (partitions != null ? admin.listPartitionReassignments(partitions) : admin.listPartitionReassignments())
+                    .reassignments().get();
+            stopOperationTimer(timerSample, metrics::listReassignmentsTimer, namespaces);
+            LOGGER.traceOp("Admin.listPartitionReassignments({}) completed", partitions != null ? partitions : "");
+            return reassignments;
+        } catch (ExecutionException e) {
+            stopOperationTimer(timerSample, metrics::listReassignmentsTimer, namespaces);
+            LOGGER.traceOp("Admin.listPartitionReassignments({}) failed with {}", partitions != null ? partitions : "", e);
+            throw e;
+        }
+    }
+
     // A pair of values. We can't use Map.entry because it forbids null values, which we want to allow.
     record Pair<K, V>(K getKey, V getValue) { }
 
@@ -680,10 +724,11 @@ public class BatchingTopicController {
         Map<ConfigResource, Collection<AlterConfigOp>> alteredConfigs = someAlterConfigs.stream().collect(Collectors.toMap(entry -> topicConfigResource(entry.getKey().topicName()), Pair::getValue));
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
         Timer.Sample timerSample = startOperationTimer();
+        Set<String> namespaces = namespaces(someAlterConfigs.stream().map(Pair::getKey).toList());
         AlterConfigsResult acr = admin.incrementalAlterConfigs(alteredConfigs);
-        stopOperationTimer(timerSample, metrics::alterConfigsTimer);
+        stopOperationTimer(timerSample, metrics::alterConfigsTimer, namespaces);
         acr.all().whenComplete((i, e) -> {
-            stopOperationTimer(timerSample, metrics::alterConfigsTimer);
+            stopOperationTimer(timerSample, metrics::alterConfigsTimer, namespaces);
             if (e != null) {
                 LOGGER.traceOp("Admin.incrementalAlterConfigs({}) failed with {}", alteredConfigs, String.valueOf(e));
             } else {
@@ -692,6 +737,7 @@ public class BatchingTopicController {
         });
         var alterConfigsResult = acr.values();
         Stream<Pair<ReconcilableTopic, Either<TopicOperatorException, Void>>> entryStream = someAlterConfigs.stream().map(entry -> {
+            snapshot.invalidate(entry.getKey().topicName());
             try {
                 return pair(entry.getKey(), Either.ofRight(alterConfigsResult.get(topicConfigResource(entry.getKey().topicName())).get()));
             } catch (ExecutionException e) {
@@ -710,9 +756,10 @@ public class BatchingTopicController {
         Map<String, NewPartitions> newPartitions = someCreatePartitions.stream().collect(Collectors.toMap(pair -> pair.getKey().topicName(), Pair::getValue));
         LOGGER.debugOp("Admin.createPartitions({})", newPartitions);
         Timer.Sample timerSample = startOperationTimer();
+        Set<String> namespaces = namespaces(someCreatePartitions.stream().map(Pair::getKey).toList());
         CreatePartitionsResult cpr = admin.createPartitions(newPartitions);
         cpr.all().whenComplete((i, e) -> {
-            stopOperationTimer(timerSample, metrics::createPartitionsTimer);
+            stopOperationTimer(timerSample, metrics::createPartitionsTimer, namespaces);
             if (e != null) {
                 LOGGER.traceOp("Admin.createPartitions({}) failed with {}", newPartitions, String.valueOf(e));
             } else {
@@ -721,6 +768,8 @@ public class BatchingTopicController {
         });
         var createPartitionsResult = cpr.values();
         var entryStream = someCreatePartitions.stream().map(entry -> {
+            snapshot.invalidate(entry.getKey().topicName());
+            reassignmentView.invalidate(entry.getKey().topicName());
             try {
                 createPartitionsResult.get(entry.getKey().topicName()).get();
                 return pair(entry.getKey(), Either.<TopicOperatorException, Void>ofRight(null));
@@ -738,6 +787,45 @@ public class BatchingTopicController {
     }
 
     private PartitionedByError<ReconcilableTopic, CurrentState> describeTopic(List<ReconcilableTopic> batch) {
+        if (!snapshot.isEnabled()) {
+            return describeTopicFromKafka(batch);
+        }
+        // Topics whose state in the snapshot already matches their spec don't need to be described.
+        // Topics which look like they need changing are described again, so we never act on a stale state.
+        List<Pair<ReconcilableTopic, Either<TopicOperatorException, CurrentState>>> fromSnapshot = new ArrayList<>();
+        List<ReconcilableTopic> toDescribe = new ArrayList<>();
+        for (var reconcilableTopic : batch) {
+            var state = snapshot.get(reconcilableTopic.topicName());
+            if (state != null && !needsUpdate(reconcilableTopic, state)) {
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Using state of topic from snapshot");
+                fromSnapshot.add(pair(reconcilableTopic, Either.ofRight(state)));
+            } else {
+                toDescribe.add(reconcilableTopic);
+            }
+        }
+        fromSnapshot.forEach(pair -> metrics.topicSnapshotHitsCounter(pair.getKey().reconciliation().namespace()).increment());
+        toDescribe.forEach(reconcilableTopic -> metrics.topicSnapshotMissesCounter(reconcilableTopic.reconciliation().namespace()).increment());
+
+        var described = describeTopicFromKafka(toDescribe);
+        described.ok().forEach(pair -> snapshot.put(pair.getKey().topicName(), pair.getValue(),
+                hasConfig(pair.getKey().kt()) ? pair.getKey().kt().getSpec().getConfig().keySet() : Set.of()));
+        return partitionedByError(Stream.concat(fromSnapshot.stream(),
+                Stream.concat(described.okList().stream(), described.errorsList().stream())));
+    }
+
+    /**
+     * @param reconcilableTopic The topic
+     * @param state The state of the topic in Kafka
+     * @return Whether the topic in Kafka would need to change to match the KafkaTopic.
+     */
+    private static boolean needsUpdate(ReconcilableTopic reconcilableTopic, CurrentState state) {
+        var kt = reconcilableTopic.kt();
+        return !buildAlterConfigOps(reconcilableTopic.reconciliation(), kt, state.configs()).isEmpty()
+                || !buildNewPartitions(reconcilableTopic.reconciliation(), kt, state.numPartitions()).isRightEqual(null)
+                || kt.getSpec() != null && kt.getSpec().getReplicas() != null && state.uniqueReplicationFactor() != kt.getSpec().getReplicas();
+    }
+
+    private PartitionedByError<ReconcilableTopic, CurrentState> describeTopicFromKafka(List<ReconcilableTopic> batch) {
         if (batch.isEmpty()) {
             return new PartitionedByError<>(List.of(), List.of());
         }
@@ -745,6 +833,7 @@ public class BatchingTopicController {
                 .map(reconcilableTopic -> topicConfigResource(reconcilableTopic.topicName()))
                 .collect(Collectors.toSet());
         Set<String> tns = batch.stream().map(ReconcilableTopic::topicName).collect(Collectors.toSet());
+        Set<String> namespaces = namespaces(batch);
 
         DescribeTopicsResult describeTopicsResult;
         {
@@ -752,7 +841,7 @@ public class BatchingTopicController {
             Timer.Sample timerSample = startOperationTimer();
             describeTopicsResult = admin.describeTopics(tns);
             describeTopicsResult.allTopicNames().whenComplete((i, e) -> {
-                stopOperationTimer(timerSample, metrics::describeTopicsTimer);
+                stopOperationTimer(timerSample, metrics::describeTopicsTimer, namespaces);
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeTopics({}) failed with {}", tns, String.valueOf(e));
                 } else {
@@ -766,7 +855,7 @@ public class BatchingTopicController {
             Timer.Sample timerSample = startOperationTimer();
             describeConfigsResult = admin.describeConfigs(configResources);
             describeConfigsResult.all().whenComplete((i, e) -> {
-                stopOperationTimer(timerSample, metrics::describeConfigsTimer);
+                stopOperationTimer(timerSample, metrics::describeConfigsTimer, namespaces);
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeConfigs({}) failed with {}", configResources, String.valueOf(e));
                 } else {
@@ -841,7 +930,7 @@ public class BatchingTopicController {
         });
 
         Set<String> topicNames = partitionedByManaged.map(reconcilableTopic -> {
-            metrics.reconciliationsCounter(namespace).increment();
+            metrics.reconciliationsCounter(reconcilableTopic.reconciliation().namespace()).increment();
             startReconciliationTimer(reconcilableTopic);
             return reconcilableTopic.topicName();
         }).collect(Collectors.toSet());
@@ -861,7 +950,7 @@ public class BatchingTopicController {
                 }
             }
             forgetTopic(pair.getKey());
-            metrics.successfulReconciliationsCounter(namespace).increment();
+            metrics.successfulReconciliationsCounter(pair.getKey().reconciliation().namespace()).increment();
             stopReconciliationTimer(pair.getKey());
         });
 
@@ -881,7 +970,7 @@ public class BatchingTopicController {
                             entry.getKey().topicName(),
                             entry.getValue());
                 }
-                metrics.failedReconciliationsCounter(namespace).increment();
+                metrics.failedReconciliationsCounter(entry.getKey().reconciliation().namespace()).increment();
             } else {
                 updateStatusForException(entry.getKey(), entry.getValue());
             }
@@ -901,7 +990,7 @@ public class BatchingTopicController {
         Timer.Sample timerSample = startOperationTimer();
         DeleteTopicsResult dtr = admin.deleteTopics(someDeleteTopics);
         dtr.all().whenComplete((i, e) -> {
-            stopOperationTimer(timerSample, metrics::deleteTopicsTimer);
+            stopOperationTimer(timerSample, metrics::deleteTopicsTimer, namespaces(batch));
             if (e != null) {
                 LOGGER.traceOp("Admin.deleteTopics({}) failed with {}", someDeleteTopics.topicNames(), String.valueOf(e));
             } else {
@@ -910,6 +999,8 @@ public class BatchingTopicController {
         });
         var futuresMap = dtr.topicNameValues();
         var deleteResult = partitionedByError(batch.stream().map(reconcilableTopic -> {
+            snapshot.invalidate(reconcilableTopic.topicName());
+            reassignmentView.invalidate(reconcilableTopic.topicName());
             try {
                 futuresMap.get(reconcilableTopic.topicName()).get();
                 return pair(reconcilableTopic, Either.ofRight(null));
@@ -927,18 +1018,20 @@ public class BatchingTopicController {
     }
 
     private void forgetTopic(ReconcilableTopic reconcilableTopic) {
-        topics.compute(reconcilableTopic.topicName(), (k, v) -> {
-            if (v != null) {
-                v.remove(new KubeRef(reconcilableTopic.kt()));
-                if (v.isEmpty()) {
-                    return null;
+        synchronized (topics) {
+            topics.compute(reconcilableTopic.topicName(), (k, v) -> {
+                if (v != null) {
+                    v.remove(new KubeRef(reconcilableTopic.kt()));
+                    if (v.isEmpty()) {
+                        return null;
+                    } else {
+                        return v;
+                    }
                 } else {
-                    return v;
+                    return null;
                 }
-            } else {
-                return null;
-            }
-        });
+            });
+        }
     }
 
     private static Either<TopicOperatorException, NewPartitions> buildNewPartitions(Reconciliation reconciliation, KafkaTopic kt, int currentNumPartitions) {
@@ -1012,7 +1105,7 @@ public class BatchingTopicController {
             .withLastTransitionTime(StatusUtils.iso8601Now())
             .build();
         updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), condition);
-        metrics.failedReconciliationsCounter(namespace).increment();
+        metrics.failedReconciliationsCounter(reconcilableTopic.reconciliation().namespace()).increment();
     }
 
     private void updateStatusOk(ReconcilableTopic reconcilableTopic) {
@@ -1022,7 +1115,7 @@ public class BatchingTopicController {
             .withLastTransitionTime(StatusUtils.iso8601Now())
             .build();
         updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), condition);
-        metrics.successfulReconciliationsCounter(namespace).increment();
+        metrics.successfulReconciliationsCounter(reconcilableTopic.reconciliation().namespace()).increment();
     }
 
     private void updateStatus(Reconciliation reconciliation,
@@ -1053,14 +1146,7 @@ public class BatchingTopicController {
                         .withTopicName(newTopicName)
                         .withConditions(condition)
                     .endStatus().build();
-            LOGGER.debugCr(reconciliation, "Updating status");
-            Timer.Sample timerSample = startOperationTimer();
-            var got = Crds.topicOperation(kubeClient)
-                    .resource(updatedTopic)
-                    .updateStatus();
-            stopOperationTimer(timerSample, metrics::updateStatusTimer);
-            LOGGER.debugCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion {}",
-                    got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+            statusWriter.write(reconciliation, kt, updatedTopic);
         } else {
             LOGGER.debugCr(reconciliation, "Unchanged status");
         }
@@ -1082,7 +1168,7 @@ public class BatchingTopicController {
 
     private void stopReconciliationTimer(ReconcilableTopic topic) {
         if (topic.reconciliationTimerSample() != null) {
-            topic.reconciliationTimerSample().stop(metrics.reconciliationsTimer(namespace));
+            topic.reconciliationTimerSample().stop(metrics.reconciliationsTimer(topic.reconciliation().namespace()));
         }
     }
 
@@ -1094,9 +1180,19 @@ public class BatchingTopicController {
         }
     }
 
-    private void stopOperationTimer(Timer.Sample sample, Function<String, Timer> addMetric) {
+    /**
+     * Records the duration of an operation in the timer of each of the namespaces of the KafkaTopics it was for.
+     * @param sample The sample started by {@link #startOperationTimer()}
+     * @param addMetric Gets the timer of a namespace
+     * @param namespaces The namespaces
+     */
+    private void stopOperationTimer(Timer.Sample sample, Function<String, Timer> addMetric, Set<String> namespaces) {
         if (sample != null && enableAdditionalMetrics) {
-            sample.stop(addMetric.apply(namespace));
+            namespaces.forEach(ns -> sample.stop(addMetric.apply(ns)));
         }
     }
+
+    private static Set<String> namespaces(Collection<ReconcilableTopic> reconcilableTopics) {
+        return reconcilableTopics.stream().map(reconcilableTopic -> reconcilableTopic.reconciliation().namespace()).collect(Collectors.toSet());
+    }
 }
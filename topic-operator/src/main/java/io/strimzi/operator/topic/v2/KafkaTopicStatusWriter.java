@@ -0,0 +1,252 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.StatusDiff;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the {@code status} of {@link KafkaTopic}s to Kube on behalf of the {@link BatchingTopicController}.
+ * <p>
+ * Writes whose {@link StatusDiff} is empty are skipped, and writes are limited to a maximum rate,
+ * so that the operator stays within the limits of the API server.</p>
+ * <p>
+ * With zero threads the writes are made synchronously, on the calling thread.
+ * Otherwise they are handed to a bounded pool of threads, so that a batch thread doesn't wait for each
+ * status update in turn. While a write is pending, or in progress, a further write for the same KafkaTopic
+ * replaces the pending one, so only the latest status is written, and writes for the same KafkaTopic
+ * are never made concurrently (so an older status can't overwrite a newer one).</p>
+ * <p>
+ * On the calling thread a failed write is counted as a failed reconciliation, and the exception propagates
+ * to the caller. Otherwise the reconciliation was already counted as successful, and the write is retried,
+ * with an exponential backoff, unless a later status for the same KafkaTopic is already pending,
+ * the KafkaTopic no longer exists, it was modified since the reconciliation read it (a conflict, which retrying
+ * the same write can't resolve), or it has failed {@link #MAX_ATTEMPTS} times. In the last two cases the write
+ * is counted once as a failed status write, and the status is left for the next reconciliation
+ * of the KafkaTopic to write.</p>
+ */
+class KafkaTopicStatusWriter {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicStatusWriter.class);
+    /* test */ static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_MS = 100;
+
+    /**
+     * A status write waiting for a thread.
+     * @param reconciliation The reconciliation
+     * @param updatedTopic The KafkaTopic with the status to be written
+     * @param startNanoTime When the write was requested
+     * @param attempt The number of times the write has already failed
+     */
+    private record PendingWrite(Reconciliation reconciliation, KafkaTopic updatedTopic, long startNanoTime, int attempt) {
+        PendingWrite retry() {
+            return new PendingWrite(reconciliation, updatedTopic, startNanoTime, attempt + 1);
+        }
+    }
+
+    private final KubernetesClient kubeClient;
+    private final TopicOperatorMetricsHolder metrics;
+    private final boolean enableAdditionalMetrics;
+    private final ScheduledExecutorService executor;
+    private final long minIntervalNs;
+    private long nextWriteNanoTime = System.nanoTime(); // guarded by this
+    private final Map<KubeRef, PendingWrite> pending = new HashMap<>(); // guarded by pending
+    private final Set<KubeRef> writing = new HashSet<>(); // guarded by pending
+
+    /**
+     * @param kubeClient The Kube client
+     * @param threads The number of threads writing statuses, or zero to write synchronously.
+     * @param maxWritesPerSecond The maximum number of writes per second, or zero for no limit.
+     * @param metrics The metrics holder
+     * @param enableAdditionalMetrics Whether to time the Kube operations
+     */
+    KafkaTopicStatusWriter(KubernetesClient kubeClient,
+                           int threads,
+                           int maxWritesPerSecond,
+                           TopicOperatorMetricsHolder metrics,
+                           boolean enableAdditionalMetrics) {
+        this.kubeClient = kubeClient;
+        this.metrics = metrics;
+        this.enableAdditionalMetrics = enableAdditionalMetrics;
+        this.minIntervalNs = maxWritesPerSecond > 0 ? 1_000_000_000L / maxWritesPerSecond : 0;
+        if (threads > 0) {
+            AtomicInteger threadId = new AtomicInteger();
+            this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "StatusWriter-" + threadId.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Writes the status of the given KafkaTopic, unless it's the same as the current status.
+     * @param reconciliation The reconciliation
+     * @param kt The KafkaTopic, with its current status
+     * @param updatedTopic The KafkaTopic, with the status to be written
+     */
+    void write(Reconciliation reconciliation, KafkaTopic kt, KafkaTopic updatedTopic) {
+        if (new StatusDiff(kt.getStatus(), updatedTopic.getStatus()).isEmpty()) {
+            LOGGER.debugCr(reconciliation, "Skipping status update with empty diff");
+            metrics.statusWritesSkippedCounter(reconciliation.namespace()).increment();
+            return;
+        }
+        var write = new PendingWrite(reconciliation, updatedTopic, System.nanoTime(), 0);
+        if (executor == null) {
+            try {
+                doWrite(write);
+            } catch (RuntimeException e) {
+                metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
+                throw e;
+            }
+            return;
+        }
+        var ref = new KubeRef(kt.getMetadata().getNamespace(), kt.getMetadata().getName(), 0);
+        boolean submit;
+        synchronized (pending) {
+            if (pending.put(ref, write) != null) {
+                LOGGER.debugCr(reconciliation, "Coalesced status update with pending update");
+                metrics.statusWritesCoalescedCounter(reconciliation.namespace()).increment();
+            }
+            submit = writing.add(ref);
+        }
+        if (submit) {
+            executor.execute(() -> writeLoop(ref));
+        }
+    }
+
+    private void writeLoop(KubeRef ref) {
+        while (true) {
+            PendingWrite write;
+            synchronized (pending) {
+                write = pending.remove(ref);
+                if (write == null) {
+                    writing.remove(ref);
+                    return;
+                }
+            }
+            try {
+                doWrite(write);
+            } catch (UncheckedInterruptedException e) {
+                synchronized (pending) {
+                    pending.remove(ref);
+                    writing.remove(ref);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                if (scheduleRetry(ref, write, e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts a failed write back as the pending write for its KafkaTopic, and schedules the {@link #writeLoop(KubeRef)}
+     * to resume after a backoff. The KafkaTopic stays in {@link #writing} in the meantime, so a later status
+     * replaces the retry rather than being written concurrently.
+     * @param ref The KafkaTopic
+     * @param write The write which failed
+     * @param e The failure
+     * @return true if the write loop should return because a retry was scheduled,
+     * false if it should continue with whatever else is pending.
+     */
+    private boolean scheduleRetry(KubeRef ref, PendingWrite write, RuntimeException e) {
+        if (e instanceof KubernetesClientException kce) {
+            if (kce.getCode() == 404) {
+                LOGGER.debugCr(write.reconciliation(), "Not retrying status update of deleted KafkaTopic");
+                return false;
+            } else if (kce.getCode() == 409) {
+                // The write carries the resourceVersion read by the reconciliation, so it would conflict again
+                LOGGER.infoCr(write.reconciliation(), "Not retrying status update of modified KafkaTopic, it will be updated by the next reconciliation");
+                metrics.statusWritesFailedCounter(write.reconciliation().namespace()).increment();
+                return false;
+            }
+        }
+        if (write.attempt() + 1 >= MAX_ATTEMPTS) {
+            LOGGER.errorCr(write.reconciliation(), "Failed to update status after {} attempts, it will be updated by the next reconciliation", MAX_ATTEMPTS, e);
+            metrics.statusWritesFailedCounter(write.reconciliation().namespace()).increment();
+            return false;
+        }
+        synchronized (pending) {
+            if (pending.putIfAbsent(ref, write.retry()) != null) {
+                LOGGER.warnCr(write.reconciliation(), "Failed to update status, writing the later pending status instead", e);
+                return false;
+            }
+        }
+        long backoffMs = RETRY_BACKOFF_MS << write.attempt();
+        LOGGER.warnCr(write.reconciliation(), "Failed to update status, retrying in {}ms", backoffMs, e);
+        try {
+            executor.schedule(() -> writeLoop(ref), backoffMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ree) {
+            // stopped
+        }
+        return true;
+    }
+
+    private void doWrite(PendingWrite write) {
+        try {
+            awaitRateLimit();
+        } catch (InterruptedException e) {
+            throw new UncheckedInterruptedException(e);
+        }
+        LOGGER.debugCr(write.reconciliation(), "Updating status");
+        Timer.Sample timerSample = enableAdditionalMetrics ? Timer.start(metrics.metricsProvider().meterRegistry()) : null;
+        var got = Crds.topicOperation(kubeClient)
+                .resource(write.updatedTopic())
+                .updateStatus();
+        if (timerSample != null) {
+            timerSample.stop(metrics.updateStatusTimer(write.reconciliation().namespace()));
+        }
+        metrics.statusWriteTimer(write.reconciliation().namespace()).record(System.nanoTime() - write.startNanoTime(), TimeUnit.NANOSECONDS);
+        LOGGER.debugCr(write.reconciliation(), "Updated status to observedGeneration {}, resourceVersion {}",
+                got.getStatus().getObservedGeneration(), got.getMetadata().getResourceVersion());
+    }
+
+    private void awaitRateLimit() throws InterruptedException {
+        if (minIntervalNs == 0) {
+            return;
+        }
+        long waitNs;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long writeAt = Math.max(now, nextWriteNanoTime);
+            nextWriteNanoTime = writeAt + minIntervalNs;
+            waitNs = writeAt - now;
+        }
+        if (waitNs > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNs);
+        }
+    }
+
+    /**
+     * Stops the writer threads, abandoning any pending writes.
+     */
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * An {@link ItemStore} combining the stores of the informers of several namespaces, so that a single
+ * {@link BatchingLoop} can look up the KafkaTopics of all of them.
+ * <p>
+ * Each informer must have a store of its own, because an informer removes the items it didn't list from its store
+ * when it relists, so this store just routes each key to the store of its namespace.
+ * The keys are the informers' keys ({@link Cache#metaNamespaceKeyFunc(io.fabric8.kubernetes.api.model.HasMetadata)}),
+ * and a key is routed to the store whose {@link Cache#namespaceKeyFunc(String, String)} prefix it has.</p>
+ */
+class MultiNamespaceItemStore implements ItemStore<KafkaTopic> {
+
+    private final Map<String, ItemStore<KafkaTopic>> stores;
+    // Key: the prefix of the keys of a namespace, Value: the store of the namespace
+    private final Map<String, ItemStore<KafkaTopic>> storesByKeyPrefix;
+
+    /**
+     * @param stores The stores, keyed by their namespace.
+     */
+    MultiNamespaceItemStore(Map<String, ItemStore<KafkaTopic>> stores) {
+        this.stores = Map.copyOf(stores);
+        Map<String, ItemStore<KafkaTopic>> byKeyPrefix = new HashMap<>(stores.size());
+        stores.forEach((namespace, store) -> byKeyPrefix.put(Cache.namespaceKeyFunc(namespace, ""), store));
+        this.storesByKeyPrefix = Map.copyOf(byKeyPrefix);
+    }
+
+    private ItemStore<KafkaTopic> storeOrNull(String key) {
+        for (var entry : storesByKeyPrefix.entrySet()) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private ItemStore<KafkaTopic> store(String key) {
+        var store = storeOrNull(key);
+        if (store == null) {
+            throw new IllegalArgumentException("Key " + key + " is not in any of the namespaces " + stores.keySet());
+        }
+        return store;
+    }
+
+    @Override
+    public String getKey(KafkaTopic kt) {
+        return Cache.metaNamespaceKeyFunc(kt);
+    }
+
+    @Override
+    public KafkaTopic put(String key, KafkaTopic kt) {
+        return store(key).put(key, kt);
+    }
+
+    @Override
+    public KafkaTopic remove(String key) {
+        return store(key).remove(key);
+    }
+
+    @Override
+    public Stream<String> keySet() {
+        return stores.values().stream().flatMap(ItemStore::keySet);
+    }
+
+    @Override
+    public Stream<KafkaTopic> values() {
+        return stores.values().stream().flatMap(ItemStore::values);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (var store : stores.values()) {
+            size += store.size();
+        }
+        return size;
+    }
+
+    @Override
+    public KafkaTopic get(String key) {
+        var store = storeOrNull(key);
+        return store == null ? null : store.get(key);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A view of the partition reassignments in progress in the Kafka cluster, shared by all the batches reconciled
+ * by the {@link BatchingTopicController}.
+ * <p>
+ * Without the view, every batch containing a KafkaTopic whose {@code spec.replicas} differs from the replication
+ * factor of its topic has to call {@code Admin.listPartitionReassignments()} to find out whether a reassignment
+ * to the desired replication factor is in progress.
+ * With the view, the reassignments of the whole cluster are listed when a batch needs them and the view is older
+ * than a maximum age, and the other batches are answered from the view.</p>
+ * <p>
+ * The topics which the operator creates, deletes or adds partitions to are invalidated, so a batch which needs
+ * the reassignments of such a topic refreshes the view, even if it's younger than the maximum age.
+ * An invalidation older than the maximum age is redundant (the view was refreshed before it, so it's too old to
+ * be used anyway), so invalidations are pruned once they're older than the maximum age, as well as when the view
+ * is refreshed, so that the invalidated topics don't accumulate while the view isn't being used.</p>
+ */
+class ReassignmentView {
+
+    /**
+     * Lists the partition reassignments in progress in the whole cluster.
+     */
+    interface Lister {
+        /**
+         * @return The reassignments in progress.
+         * @throws ExecutionException If the reassignments could not be listed.
+         * @throws InterruptedException If the thread was interrupted.
+         */
+        Map<TopicPartition, PartitionReassignment> listReassignments() throws ExecutionException, InterruptedException;
+    }
+
+    private final long maxAgeNs;
+    // Key: topic name, Value: when the topic was invalidated
+    private final Map<String, Long> invalidated = new ConcurrentHashMap<>();
+    private final AtomicLong prunedNanoTime = new AtomicLong(System.nanoTime());
+    private Map<TopicPartition, Integer> targetReplicationFactors; // guarded by this
+    private long refreshedNanoTime; // guarded by this
+
+    /**
+     * @param maxAgeMs The maximum age of the view, in ms. Zero disables the view.
+     */
+    ReassignmentView(long maxAgeMs) {
+        this.maxAgeNs = maxAgeMs * 1_000_000;
+    }
+
+    /**
+     * @return Whether the view is enabled.
+     */
+    boolean isEnabled() {
+        return maxAgeNs > 0;
+    }
+
+    /**
+     * Gets the target replication factors of the partitions being reassigned, refreshing the view first if
+     * it's older than the maximum age, or if any of the given topics was invalidated since it was refreshed.
+     * Only one thread refreshes the view at a time, and the threads waiting for it are then answered from the
+     * refreshed view.
+     * @param topicNames The names of the topics whose reassignments are needed
+     * @param lister Lists the reassignments in the whole cluster, if the view needs refreshing
+     * @return Whether the view was used without refreshing it, and the target replication factors of the
+     * partitions being reassigned in the whole cluster.
+     * @throws ExecutionException If the view needed refreshing, but the reassignments could not be listed.
+     * @throws InterruptedException If the thread was interrupted.
+     */
+    synchronized Result targetReplicationFactors(Set<String> topicNames, Lister lister) throws ExecutionException, InterruptedException {
+        if (isFresh(topicNames)) {
+            return new Result(true, targetReplicationFactors);
+        }
+        long refreshNanoTime = System.nanoTime();
+        targetReplicationFactors = targetReplicationFactors(lister.listReassignments());
+        refreshedNanoTime = refreshNanoTime;
+        // topics invalidated while the reassignments were being listed stay invalidated
+        invalidated.values().removeIf(invalidatedNanoTime -> invalidatedNanoTime - refreshNanoTime < 0);
+        return new Result(false, targetReplicationFactors);
+    }
+
+    private boolean isFresh(Set<String> topicNames) {
+        if (targetReplicationFactors == null || System.nanoTime() - refreshedNanoTime > maxAgeNs) {
+            return false;
+        }
+        for (var topicName : topicNames) {
+            if (invalidated.containsKey(topicName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invalidates the reassignments of a topic, forcing the view to be refreshed before it's next used for the topic.
+     * @param topicName The name of the topic
+     */
+    void invalidate(String topicName) {
+        if (isEnabled()) {
+            long now = System.nanoTime();
+            invalidated.put(topicName, now);
+            // prune at most once per maximum age, so the map holds at most two maximum ages' worth of invalidations
+            long pruned = prunedNanoTime.get();
+            if (now - pruned > maxAgeNs && prunedNanoTime.compareAndSet(pruned, now)) {
+                invalidated.values().removeIf(invalidatedNanoTime -> now - invalidatedNanoTime > maxAgeNs);
+            }
+        }
+    }
+
+    /**
+     * @return The number of topics currently invalidated.
+     */
+    /* test */ int invalidatedSize() {
+        return invalidated.size();
+    }
+
+    /**
+     * @param reassignments The reassignments in progress
+     * @return The replication factor each of the partitions will have once its reassignment is complete.
+     */
+    static Map<TopicPartition, Integer> targetReplicationFactors(Map<TopicPartition, PartitionReassignment> reassignments) {
+        Map<TopicPartition, Integer> result = new HashMap<>(reassignments.size());
+        for (var entry : reassignments.entrySet()) {
+            var partitionReassignment = entry.getValue();
+            // See https://cwiki.apache.org/confluence/display/KAFKA/KIP-455%3A+Create+an+Administrative+API+for+Replica+Reassignment#KIP455:CreateanAdministrativeAPIforReplicaReassignment-Algorithm
+            // for a full description of the algorithm
+            // but in essence replicas() will include addingReplicas() from the beginning
+            // so the target rf will be the replicas minus the removing
+            var target = new HashSet<>(partitionReassignment.replicas());
+            target.removeAll(partitionReassignment.removingReplicas());
+            result.put(entry.getKey(), target.size());
+        }
+        return result;
+    }
+
+    /**
+     * The result of consulting the view.
+     * @param fromView Whether the view was used without refreshing it
+     * @param targetReplicationFactors The target replication factors of the partitions being reassigned
+     */
+    record Result(boolean fromView, Map<TopicPartition, Integer> targetReplicationFactors) { }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * An informer {@link ItemStore} which slims the KafkaTopics before caching them.
+ * <p>
+ * The fields which the operator never reads ({@code metadata.managedFields}, and the annotations other than the
+ * {@code strimzi.io/} ones, including {@code kubectl.kubernetes.io/last-applied-configuration}) are removed,
+ * and the strings which are repeated across many KafkaTopics (such as the namespace, the label and annotation keys
+ * and values, the config keys and the status condition types) are interned, so that all the cached
+ * KafkaTopics share a single copy of each of them.</p>
+ * <p>
+ * The KafkaTopics in the store are only ever read by the operator, and are written back to Kube only through
+ * status updates (which ignore the metadata) and edits of their finalizers (which only send the difference),
+ * so removing these fields does not remove them from Kube.</p>
+ */
+class SlimKafkaTopicStore implements ItemStore<KafkaTopic> {
+
+    /* test */ static final String STRIMZI_ANNOTATION_PREFIX = "strimzi.io/";
+
+    private final ItemStore<KafkaTopic> delegate;
+
+    /**
+     * @param delegate The store to cache the slimmed KafkaTopics in.
+     */
+    SlimKafkaTopicStore(ItemStore<KafkaTopic> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getKey(KafkaTopic kt) {
+        return delegate.getKey(kt);
+    }
+
+    @Override
+    public KafkaTopic put(String key, KafkaTopic kt) {
+        return delegate.put(key, slim(kt));
+    }
+
+    @Override
+    public KafkaTopic remove(String key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public Stream<String> keySet() {
+        return delegate.keySet();
+    }
+
+    @Override
+    public Stream<KafkaTopic> values() {
+        return delegate.values();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public KafkaTopic get(String key) {
+        return delegate.get(key);
+    }
+
+    /**
+     * Removes the fields which the operator doesn't use from the given KafkaTopic, and interns its repeated strings.
+     * @param kt The KafkaTopic, which is modified in place.
+     * @return The given KafkaTopic.
+     */
+    /* test */ static KafkaTopic slim(KafkaTopic kt) {
+        kt.setApiVersion(intern(kt.getApiVersion()));
+        kt.setKind(intern(kt.getKind()));
+        ObjectMeta metadata = kt.getMetadata();
+        if (metadata != null) {
+            metadata.setManagedFields(null);
+            metadata.setNamespace(intern(metadata.getNamespace()));
+            metadata.setLabels(internMap(metadata.getLabels(), true));
+            metadata.setAnnotations(strimziAnnotations(metadata.getAnnotations()));
+            metadata.setFinalizers(internList(metadata.getFinalizers()));
+        }
+        if (kt.getSpec() != null) {
+            kt.getSpec().setConfig(internMap(kt.getSpec().getConfig(), false));
+        }
+        if (kt.getStatus() != null && kt.getStatus().getConditions() != null) {
+            for (Condition condition : kt.getStatus().getConditions()) {
+                condition.setType(intern(condition.getType()));
+                condition.setStatus(intern(condition.getStatus()));
+                condition.setReason(intern(condition.getReason()));
+            }
+        }
+        return kt;
+    }
+
+    private static Map<String, String> strimziAnnotations(Map<String, String> annotations) {
+        if (annotations == null || annotations.isEmpty()) {
+            return annotations;
+        }
+        Map<String, String> result = new LinkedHashMap<>();
+        for (var entry : annotations.entrySet()) {
+            if (entry.getKey().startsWith(STRIMZI_ANNOTATION_PREFIX)) {
+                result.put(intern(entry.getKey()), intern(entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Map<String, V> internMap(Map<String, V> map, boolean internValues) {
+        if (map == null || map.isEmpty()) {
+            return map;
+        }
+        Map<String, V> result = new LinkedHashMap<>(map.size());
+        for (var entry : map.entrySet()) {
+            V value = entry.getValue();
+            result.put(intern(entry.getKey()), internValues && value instanceof String ? (V) intern((String) value) : value);
+        }
+        return result;
+    }
+
+    private static List<String> internList(List<String> list) {
+        if (list == null || list.isEmpty()) {
+            return list;
+        }
+        List<String> result = new ArrayList<>(list.size());
+        for (var s : list) {
+            result.add(intern(s));
+        }
+        return result;
+    }
+
+    private static String intern(String s) {
+        return s == null ? null : s.intern();
+    }
+}
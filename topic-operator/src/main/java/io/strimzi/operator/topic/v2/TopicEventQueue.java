@@ -0,0 +1,249 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * A FIFO queue of {@link TopicEvent}s which holds at most one pending entry per {@link KubeRef}.
+ * Events for a KafkaTopic which is already pending are coalesced with the pending entry, which keeps its position
+ * in the queue:
+ * <ul>
+ *     <li>upsert followed by upsert is the later upsert,</li>
+ *     <li>upsert followed by delete is the delete,</li>
+ *     <li>delete followed by delete is the later delete,</li>
+ *     <li>delete followed by upsert is the delete, with the upsert re-queued at the tail once the delete has been taken
+ *     (so that a KafkaTopic which is deleted and recreated still has its topic deleted).</li>
+ * </ul>
+ * The capacity is the number of distinct KafkaTopics pending, and events returned via {@link #offerFirst(TopicEvent)}
+ * are always accepted.
+ * <p>
+ * When created with {@code spillWhenFull}, events for new KafkaTopics which arrive while the queue is full are not
+ * rejected, but spilled into an overflow set (which is coalesced in the same way), from which they're moved to the tail
+ * of the queue, in arrival order, as capacity frees up. The time spent with a non-empty overflow is reported to a
+ * listener.</p>
+ */
+class TopicEventQueue {
+
+    /**
+     * The result of offering an event to the queue.
+     */
+    enum OfferResult {
+        /** The event was added as a new entry. */
+        ADDED,
+        /** The event was coalesced with the pending entry for the same KafkaTopic. */
+        COALESCED,
+        /** The event was added to the overflow because the queue is full. */
+        SPILLED,
+        /** The event was not added because the queue is full. */
+        FULL
+    }
+
+    /**
+     * The pending entry for a KafkaTopic.
+     * @param event The event to be returned by {@link #poll(long, TimeUnit)}
+     * @param followingUpsert An upsert which was received after {@code event} was a delete, or null.
+     */
+    private record Pending(TopicEvent event, TopicUpsert followingUpsert) { }
+
+    private final int capacity;
+    private final boolean spillWhenFull;
+    private final LongConsumer throttledNsListener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Deque<KubeRef> order = new ArrayDeque<>(); // guarded by lock
+    private final Deque<KubeRef> overflowOrder = new ArrayDeque<>(); // guarded by lock
+    // The pending entries of the KubeRefs in both order and overflowOrder
+    private final Map<KubeRef, Pending> pending = new HashMap<>(); // guarded by lock
+    private long throttledSinceNs; // guarded by lock
+
+    /**
+     * Creates a queue which rejects events for new KafkaTopics when full.
+     * @param capacity The maximum number of distinct KafkaTopics pending.
+     */
+    TopicEventQueue(int capacity) {
+        this(capacity, false, throttledNs -> { });
+    }
+
+    /**
+     * @param capacity The maximum number of distinct KafkaTopics pending in the queue proper.
+     * @param spillWhenFull Whether to spill events into the overflow, rather than rejecting them, when full.
+     * @param throttledNsListener Called on each poll while the overflow is not empty, with the time it has been
+     *                            non-empty since the previous call (or since it became non-empty), so that a long
+     *                            throttling is reported while it lasts rather than only once it ends.
+     */
+    TopicEventQueue(int capacity, boolean spillWhenFull, LongConsumer throttledNsListener) {
+        this.capacity = capacity;
+        this.spillWhenFull = spillWhenFull;
+        this.throttledNsListener = throttledNsListener;
+    }
+
+    /**
+     * Adds an event to the tail of the queue, or coalesces it with the pending entry for the same KafkaTopic.
+     * @param event The event
+     * @return The result
+     */
+    OfferResult offer(TopicEvent event) {
+        return offer(event, false);
+    }
+
+    /**
+     * Returns an event which could not be processed to the head of the queue, or coalesces it with the pending entry
+     * for the same KafkaTopic (which must be more recent).
+     * This never fails because of the queue being full.
+     * @param event The event
+     * @return The result
+     */
+    OfferResult offerFirst(TopicEvent event) {
+        return offer(event, true);
+    }
+
+    private OfferResult offer(TopicEvent event, boolean first) {
+        KubeRef ref = event.toRef();
+        lock.lock();
+        try {
+            Pending existing = pending.get(ref);
+            if (existing != null) {
+                Pending merged;
+                if (first) {
+                    // the returned event is older than the pending one
+                    merged = merge(merge(new Pending(event, null), existing.event()), existing.followingUpsert());
+                } else {
+                    merged = merge(existing, event);
+                }
+                pending.put(ref, merged);
+                return OfferResult.COALESCED;
+            } else if (!first && order.size() >= capacity) {
+                if (!spillWhenFull) {
+                    return OfferResult.FULL;
+                }
+                if (overflowOrder.isEmpty()) {
+                    throttledSinceNs = System.nanoTime();
+                }
+                pending.put(ref, new Pending(event, null));
+                overflowOrder.addLast(ref);
+                return OfferResult.SPILLED;
+            } else {
+                pending.put(ref, new Pending(event, null));
+                if (first) {
+                    order.addFirst(ref);
+                } else {
+                    order.addLast(ref);
+                }
+                notEmpty.signal();
+                return OfferResult.ADDED;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Pending merge(Pending older, TopicEvent newer) {
+        if (newer == null) {
+            return older;
+        } else if (newer instanceof TopicDelete) {
+            return new Pending(newer, null);
+        } else if (older.event() instanceof TopicDelete) {
+            return new Pending(older.event(), mergeUpserts(older.followingUpsert(), (TopicUpsert) newer));
+        } else {
+            return new Pending(mergeUpserts((TopicUpsert) older.event(), (TopicUpsert) newer), null);
+        }
+    }
+
+    private static TopicUpsert mergeUpserts(TopicUpsert older, TopicUpsert newer) {
+        if (older == null) {
+            return newer;
+        } else {
+            // Keep the start offset of the older event, so that its age reflects how long the KafkaTopic has been waiting
+            return new TopicUpsert(older.nanosStartOffset(), newer.namespace(), newer.name(), newer.resourceVersion());
+        }
+    }
+
+    /**
+     * Retrieves and removes the event at the head of the queue, waiting up to the specified wait time if necessary
+     * for an event to become available.
+     * @param timeout How long to wait
+     * @param unit The unit of {@code timeout}
+     * @return The event, or null if the timeout elapsed.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (order.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            KubeRef ref = order.pollFirst();
+            Pending p = pending.remove(ref);
+            if (p.followingUpsert() != null) {
+                pending.put(ref, new Pending(p.followingUpsert(), null));
+                order.addLast(ref);
+            }
+            drainOverflow();
+            return p.event();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainOverflow() {
+        if (!overflowOrder.isEmpty()) {
+            while (order.size() < capacity && !overflowOrder.isEmpty()) {
+                order.addLast(overflowOrder.pollFirst());
+            }
+            long now = System.nanoTime();
+            throttledNsListener.accept(now - throttledSinceNs);
+            throttledSinceNs = now;
+        }
+    }
+
+    /**
+     * @param ref A KafkaTopic
+     * @return Whether an event for the given KafkaTopic is pending in the queue (including the overflow).
+     */
+    boolean contains(KubeRef ref) {
+        lock.lock();
+        try {
+            return pending.containsKey(ref);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of distinct KafkaTopics with a pending event in the queue proper (excluding the overflow).
+     */
+    int size() {
+        lock.lock();
+        try {
+            return order.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of distinct KafkaTopics with a pending event in the overflow.
+     */
+    int overflowSize() {
+        lock.lock();
+        try {
+            return overflowOrder.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
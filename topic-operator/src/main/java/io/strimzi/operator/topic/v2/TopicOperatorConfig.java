@@ -22,6 +22,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NON_EMPTY_STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
@@ -29,11 +30,12 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 /**
  * Config
  *
- * @param namespace                     The namespace that the operator will watch for KafkaTopics
+ * @param namespace                     The namespace that the operator will watch for KafkaTopics, a comma-separated list of namespaces, or {@code *} for all namespaces
  * @param labelSelector                 The label selector that KafkaTopics must match
  * @param bootstrapServers              The Kafka bootstrap servers
  * @param clientId                      The client Id to use for the Admin client
  * @param fullReconciliationIntervalMs  The resync interval, in ms
+ * @param resyncSlots                   The number of slots the resync interval is divided into, for pacing resyncs of unchanged KafkaTopics
  * @param tlsEnabled                    Whether the Admin client should be configured to use TLS
  * @param truststoreLocation            The location (path) of the Admin client's truststore.
  * @param truststorePassword            The password for the truststore at {@code truststoreLocation}.
@@ -47,9 +49,18 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
  * @param securityProtocol              The security protocol for the Admin client
  * @param useFinalizer                  Whether to use finalizers
  * @param maxQueueSize                  The capacity of the queue
+ * @param queueBackpressure             Whether to hold events in an overflow, rather than stopping, when the queue is full
  * @param maxBatchSize                  The maximum size of a reconciliation batch
  * @param maxBatchLingerMs              The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param adaptiveBatching              Whether to adapt the batch size and linger to the load, up to maxBatchSize and maxBatchLingerMs
+ * @param batchThreads                  The number of threads reconciling batches concurrently
  * @param enableAdditionalMetrics       Whether to enable additional metrics
+ * @param topicSnapshotMaxAgeMs         The maximum age of the state of a topic in the snapshot of Kafka topics, in ms. Zero disables the snapshot.
+ * @param reassignmentViewMaxAgeMs      The maximum age of the shared view of the partition reassignments, in ms. Zero disables the view.
+ * @param asyncStatusUpdates            Whether to hand KafkaTopic status writes to a pool of threads, rather than writing them on the batch threads
+ * @param statusWriterThreads           The number of threads writing KafkaTopic statuses, when {@code asyncStatusUpdates}.
+ * @param statusWriterMaxQps            The maximum number of KafkaTopic status writes per second, when {@code asyncStatusUpdates}.
+ * @param slimInformerCache             Whether to strip the fields the operator doesn't use from the cached KafkaTopics, and intern their repeated strings
  */
 record TopicOperatorConfig(
         String namespace,
@@ -57,6 +68,7 @@ record TopicOperatorConfig(
         String bootstrapServers,
         String clientId,
         long fullReconciliationIntervalMs,
+        int resyncSlots,
         boolean tlsEnabled,
         String truststoreLocation,
         String truststorePassword,
@@ -70,9 +82,18 @@ record TopicOperatorConfig(
         String securityProtocol,
         boolean useFinalizer,
         int maxQueueSize,
+        boolean queueBackpressure,
         int maxBatchSize,
         long maxBatchLingerMs,
-        boolean enableAdditionalMetrics
+        boolean adaptiveBatching,
+        int batchThreads,
+        boolean enableAdditionalMetrics,
+        long topicSnapshotMaxAgeMs,
+        long reassignmentViewMaxAgeMs,
+        boolean asyncStatusUpdates,
+        int statusWriterThreads,
+        int statusWriterMaxQps,
+        boolean slimInformerCache
 ) {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorConfig.class);
 
@@ -83,6 +104,7 @@ record TopicOperatorConfig(
     static final ConfigParameter<String> BOOTSTRAP_SERVERS = new ConfigParameter<>("STRIMZI_KAFKA_BOOTSTRAP_SERVERS", NON_EMPTY_STRING, CONFIG_VALUES);
     static final ConfigParameter<String> CLIENT_ID = new ConfigParameter<>("STRIMZI_CLIENT_ID", NON_EMPTY_STRING, "strimzi-topic-operator-" + UUID.randomUUID(), CONFIG_VALUES);
     static final ConfigParameter<Long> FULL_RECONCILIATION_INTERVAL_MS = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_INTERVAL_MS", strictlyPositive(LONG), "120000", CONFIG_VALUES);
+    static final ConfigParameter<Integer> RESYNC_SLOTS = new ConfigParameter<>("STRIMZI_RESYNC_SLOTS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
     static final ConfigParameter<Boolean> TLS_ENABLED = new ConfigParameter<>("STRIMZI_TLS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
     static final ConfigParameter<String> TRUSTSTORE_LOCATION = new ConfigParameter<>("STRIMZI_TRUSTSTORE_LOCATION", STRING, "", CONFIG_VALUES);
     static final ConfigParameter<String> TRUSTSTORE_PASSWORD = new ConfigParameter<>("STRIMZI_TRUSTSTORE_PASSWORD", STRING, "", CONFIG_VALUES);
@@ -96,9 +118,18 @@ record TopicOperatorConfig(
     static final ConfigParameter<String> SECURITY_PROTOCOL = new ConfigParameter<>("STRIMZI_SECURITY_PROTOCOL", STRING, "", CONFIG_VALUES);
     static final ConfigParameter<Boolean> USE_FINALIZERS = new ConfigParameter<>("STRIMZI_USE_FINALIZERS", BOOLEAN, "true", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> QUEUE_BACKPRESSURE = new ConfigParameter<>("STRIMZI_QUEUE_BACKPRESSURE", BOOLEAN, "false", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> ADAPTIVE_BATCHING = new ConfigParameter<>("STRIMZI_ADAPTIVE_BATCHING", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Integer> BATCH_THREADS = new ConfigParameter<>("STRIMZI_BATCH_THREADS", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
     static final ConfigParameter<Boolean> ENABLE_ADDITIONAL_METRICS = new ConfigParameter<>("STRIMZI_ENABLE_ADDITIONAL_METRICS", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> TOPIC_SNAPSHOT_MAX_AGE_MS = new ConfigParameter<>("STRIMZI_TOPIC_SNAPSHOT_MAX_AGE_MS", LONG, "0", CONFIG_VALUES);
+    static final ConfigParameter<Long> REASSIGNMENT_VIEW_MAX_AGE_MS = new ConfigParameter<>("STRIMZI_REASSIGNMENT_VIEW_MAX_AGE_MS", LONG, "0", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> ASYNC_STATUS_UPDATES = new ConfigParameter<>("STRIMZI_ASYNC_STATUS_UPDATES", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_WRITER_THREADS = new ConfigParameter<>("STRIMZI_STATUS_WRITER_THREADS", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+    static final ConfigParameter<Integer> STATUS_WRITER_MAX_QPS = new ConfigParameter<>("STRIMZI_STATUS_WRITER_MAX_QPS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> SLIM_INFORMER_CACHE = new ConfigParameter<>("STRIMZI_SLIM_INFORMER_CACHE", BOOLEAN, "false", CONFIG_VALUES);
 
     @SuppressWarnings("unchecked")
     private static <T> T get(Map<String, Object> map, ConfigParameter<T> value) {
@@ -116,6 +147,8 @@ record TopicOperatorConfig(
         Map<String, Object> generatedMap = ConfigParameter.define(envMap, CONFIG_VALUES);
 
         TopicOperatorConfig topicOperatorConfig = new TopicOperatorConfig(generatedMap);
+        // fail fast on an invalid list of namespaces
+        topicOperatorConfig.namespaces();
         LOGGER.infoOp("TopicOperator configuration is {}", topicOperatorConfig);
         return topicOperatorConfig;
     }
@@ -127,6 +160,7 @@ record TopicOperatorConfig(
                 get(map, BOOTSTRAP_SERVERS),
                 get(map, CLIENT_ID),
                 get(map, FULL_RECONCILIATION_INTERVAL_MS),
+                get(map, RESYNC_SLOTS),
                 get(map, TLS_ENABLED),
                 get(map, TRUSTSTORE_LOCATION),
                 get(map, TRUSTSTORE_PASSWORD),
@@ -140,12 +174,28 @@ record TopicOperatorConfig(
                 get(map, SECURITY_PROTOCOL),
                 get(map, USE_FINALIZERS),
                 get(map, MAX_QUEUE_SIZE),
+                get(map, QUEUE_BACKPRESSURE),
                 get(map, MAX_BATCH_SIZE),
                 get(map, MAX_BATCH_LINGER_MS),
-                get(map, ENABLE_ADDITIONAL_METRICS)
+                get(map, ADAPTIVE_BATCHING),
+                get(map, BATCH_THREADS),
+                get(map, ENABLE_ADDITIONAL_METRICS),
+                get(map, TOPIC_SNAPSHOT_MAX_AGE_MS),
+                get(map, REASSIGNMENT_VIEW_MAX_AGE_MS),
+                get(map, ASYNC_STATUS_UPDATES),
+                get(map, STATUS_WRITER_THREADS),
+                get(map, STATUS_WRITER_MAX_QPS),
+                get(map, SLIM_INFORMER_CACHE)
         );
     }
 
+    /**
+     * @return The namespaces to watch for KafkaTopics, or a set containing only {@code *} to watch all namespaces.
+     */
+    Set<String> namespaces() {
+        return NAMESPACE_SET.parse(namespace);
+    }
+
     Map<String, Object> adminClientConfig() {
         var kafkaClientProps = new HashMap<String, Object>();
         kafkaClientProps.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, this.bootstrapServers());
@@ -231,6 +281,7 @@ record TopicOperatorConfig(
                 "\n\tbootstrapServers='" + bootstrapServers + '\'' +
                 "\n\tclientId='" + clientId + '\'' +
                 "\n\tfullReconciliationIntervalMs=" + fullReconciliationIntervalMs +
+                "\n\tresyncSlots=" + resyncSlots +
                 "\n\ttlsEnabled=" + tlsEnabled +
                 "\n\ttruststoreLocation='" + truststoreLocation + '\'' +
                 "\n\ttruststorePassword='" + mask + '\'' +
@@ -244,9 +295,18 @@ record TopicOperatorConfig(
                 "\n\tsecurityProtocol='" + securityProtocol + '\'' +
                 "\n\tuseFinalizer=" + useFinalizer +
                 "\n\tmaxQueueSize=" + maxQueueSize +
+                "\n\tqueueBackpressure=" + queueBackpressure +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\tadaptiveBatching=" + adaptiveBatching +
+                "\n\tbatchThreads=" + batchThreads +
                 "\n\tenableAdditionalMetrics=" + enableAdditionalMetrics +
+                "\n\ttopicSnapshotMaxAgeMs=" + topicSnapshotMaxAgeMs +
+                "\n\treassignmentViewMaxAgeMs=" + reassignmentViewMaxAgeMs +
+                "\n\tasyncStatusUpdates=" + asyncStatusUpdates +
+                "\n\tstatusWriterThreads=" + statusWriterThreads +
+                "\n\tstatusWriterMaxQps=" + statusWriterMaxQps +
+                "\n\tslimInformerCache=" + slimInformerCache +
                 '}';
     }
 }
@@ -7,9 +7,11 @@ package io.strimzi.operator.topic.v2;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.strimzi.operator.common.Annotations.isReconciliationPausedWithAnnotation;
 import static io.strimzi.operator.topic.v2.TopicOperatorUtil.topicName;
@@ -20,23 +22,27 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
 
     private final TopicOperatorConfig config;
     private final BatchingLoop queue;
-    private final MetricsHolder metrics;
+    private final TopicOperatorMetricsHolder metrics;
+    private final TopicResyncPacer resyncPacer;
     
-    private long lastPeriodicTimestampMs;
+    // Key: namespace, Value: when the last periodic reconciliation of the namespace was logged
+    private final Map<String, Long> lastPeriodicTimestampMs = new ConcurrentHashMap<>();
 
-    public TopicOperatorEventHandler(TopicOperatorConfig config, BatchingLoop queue, MetricsHolder metrics) {
+    public TopicOperatorEventHandler(TopicOperatorConfig config, BatchingLoop queue, TopicOperatorMetricsHolder metrics) {
         this.config = config;
         this.queue = queue;
         this.metrics = metrics;
+        this.resyncPacer = new TopicResyncPacer(config.fullReconciliationIntervalMs(), config.resyncSlots());
     }
 
     @Override
     public void onAdd(KafkaTopic obj) {
         LOGGER.debugOp("Informed about add event for topic {}", topicName(obj));
-        metrics.resourceCounter(config.namespace()).incrementAndGet();
+        metrics.resourceCounter(obj.getMetadata().getNamespace()).incrementAndGet();
         if (isReconciliationPausedWithAnnotation(obj)) {
-            metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
+            metrics.pausedResourceCounter(obj.getMetadata().getNamespace()).incrementAndGet();
         }
+        resyncPacer.onReconcile(obj);
         queue.offer(new TopicUpsert(System.nanoTime(), obj.getMetadata().getNamespace(),
                 obj.getMetadata().getName(),
                 obj.getMetadata().getResourceVersion()));
@@ -45,17 +51,31 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
     @Override
     public void onUpdate(KafkaTopic oldObj, KafkaTopic newObj) {
         String trigger = Objects.equals(oldObj, newObj) ? "resync" : "update";
-        if (trigger.equals("resync") && (NANOSECONDS.toMillis(System.nanoTime()) - lastPeriodicTimestampMs) > config.fullReconciliationIntervalMs()) {
-            LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", KafkaTopic.RESOURCE_KIND, config.namespace());
-            this.lastPeriodicTimestampMs = NANOSECONDS.toMillis(System.nanoTime());
+        if (trigger.equals("resync")) {
+            String namespace = newObj.getMetadata().getNamespace();
+            long nowMs = NANOSECONDS.toMillis(System.nanoTime());
+            Long lastMs = lastPeriodicTimestampMs.get(namespace);
+            if (lastMs == null || nowMs - lastMs > config.fullReconciliationIntervalMs()) {
+                LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", KafkaTopic.RESOURCE_KIND, namespace);
+                lastPeriodicTimestampMs.put(namespace, nowMs);
+            }
         }
         if (trigger.equals("update")) {
             LOGGER.debugOp("Informed about update event for topic {}", topicName(newObj));
         }
         if (isReconciliationPausedWithAnnotation(oldObj) && !isReconciliationPausedWithAnnotation(newObj)) {
-            metrics.pausedResourceCounter(config.namespace()).decrementAndGet();
+            metrics.pausedResourceCounter(newObj.getMetadata().getNamespace()).decrementAndGet();
         } else if (!isReconciliationPausedWithAnnotation(oldObj) && isReconciliationPausedWithAnnotation(newObj)) {
-            metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
+            metrics.pausedResourceCounter(newObj.getMetadata().getNamespace()).incrementAndGet();
+        }
+        if (trigger.equals("resync")) {
+            if (!resyncPacer.shouldReconcileResync(newObj)) {
+                LOGGER.traceOp("Skipping resync of topic {}, not yet due for re-verification", topicName(newObj));
+                metrics.skippedResyncsCounter(newObj.getMetadata().getNamespace()).increment();
+                return;
+            }
+        } else {
+            resyncPacer.onReconcile(newObj);
         }
         queue.offer(new TopicUpsert(System.nanoTime(), newObj.getMetadata().getNamespace(),
                 newObj.getMetadata().getName(),
@@ -65,10 +85,11 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
     @Override
     public void onDelete(KafkaTopic obj, boolean deletedFinalStateUnknown) {
         LOGGER.debugOp("Informed about delete event for topic {}", topicName(obj));
-        metrics.resourceCounter(config.namespace()).decrementAndGet();
+        metrics.resourceCounter(obj.getMetadata().getNamespace()).decrementAndGet();
         if (isReconciliationPausedWithAnnotation(obj)) {
-            metrics.pausedResourceCounter(config.namespace()).decrementAndGet();
+            metrics.pausedResourceCounter(obj.getMetadata().getNamespace()).decrementAndGet();
         }
+        resyncPacer.forget(obj);
         if (config.useFinalizer()) {
             LOGGER.debugOp("Ignoring deletion of {} (using finalizers)", topicName(obj));
         } else {
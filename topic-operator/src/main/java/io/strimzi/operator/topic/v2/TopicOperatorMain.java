@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
@@ -25,12 +26,17 @@ import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.concurrent.AbstractNamespacedResourceOperator;
 import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -41,35 +47,40 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final static long INFORMER_PERIOD_MS = 2_000;
     
     private final ResourceEventHandler<KafkaTopic> handler;
-    private final String namespace;
+    private final Set<String> namespaces;
     private final KubernetesClient client;
     /* test */ final BatchingLoop queue;
     private final long resyncIntervalMs;
-    private final BasicItemStore<KafkaTopic> itemStore;
+    // Key: namespace, Value: the store of the informer of that namespace
+    private final Map<String, ItemStore<KafkaTopic>> itemStores = new LinkedHashMap<>();
     /* test */ final BatchingTopicController controller;
     private final Admin admin;
-    private SharedIndexInformer<KafkaTopic> informer; // guarded by this
+    private List<SharedIndexInformer<KafkaTopic>> informers; // guarded by this
     Thread shutdownHook; // guarded by this
 
     private final HealthCheckAndMetricsServer healthAndMetricsServer;
 
     TopicOperatorMain(
-                      String namespace,
                       Map<String, String> selector,
                       Admin admin,
                       KubernetesClient client,
                       TopicOperatorConfig config) throws ExecutionException, InterruptedException {
-        Objects.requireNonNull(namespace);
         Objects.requireNonNull(selector);
-        this.namespace = namespace;
+        this.namespaces = config.namespaces();
+        // the metrics of the queue and batches are per operator, so have a namespace tag only if there's one namespace
+        String operatorNamespace = namespaces.size() == 1 ? namespaces.iterator().next() : AbstractNamespacedResourceOperator.ANY_NAMESPACE;
         this.client = client;
-        this.resyncIntervalMs = config.fullReconciliationIntervalMs();
+        this.resyncIntervalMs = TopicResyncPacer.resyncIntervalMs(config.fullReconciliationIntervalMs(), config.resyncSlots());
         this.admin = admin;
         TopicOperatorMetricsProvider metricsProvider = createMetricsProvider();
         TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(selector), metricsProvider);
-        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace, config.enableAdditionalMetrics());
-        this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(), controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop, metrics, namespace);
+        this.controller = new BatchingTopicController(config, selector, admin, client, metrics);
+        for (String ns : namespaces) {
+            BasicItemStore<KafkaTopic> basicItemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+            itemStores.put(ns, config.slimInformerCache() ? new SlimKafkaTopicStore(basicItemStore) : basicItemStore);
+        }
+        ItemStore<KafkaTopic> itemStore = itemStores.size() == 1 ? itemStores.values().iterator().next() : new MultiNamespaceItemStore(itemStores);
+        this.queue = new BatchingLoop(config.maxQueueSize(), config.queueBackpressure(), controller, config.batchThreads(), config.maxBatchSize(), config.maxBatchLingerMs(), config.adaptiveBatching(), itemStore, this::stop, metrics, operatorNamespace);
         this.handler = new TopicOperatorEventHandler(config, queue, metrics);
         this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
@@ -87,21 +98,27 @@ public class TopicOperatorMain implements Liveness, Readiness {
         healthAndMetricsServer.start();
         LOGGER.infoOp("Starting queue");
         queue.start();
-        informer = Crds.topicOperation(client)
-                .inNamespace(namespace)
-                // Do NOT use withLabels to filter the informer, since the controller is stateful
-                // (topics need to be added to removed from TopicController.topics if KafkaTopics transition between
-                // selected and unselected).
-                .runnableInformer(INFORMER_PERIOD_MS)
-                // The informer interval acts like a heartbeat, then each handler interval will cause a resync at 
-                // some interval of the overall heartbeat. The closer these values are together the more likely it 
-                // is that the handler skips one informer intervals. Setting both intervals to the same value generates 
-                // just enough skew that when the informer checks if the handler is ready for resync it sees that 
-                // it still needs another couple of micro-seconds and skips to the next informer level resync.
-                .addEventHandlerWithResyncPeriod(handler, resyncIntervalMs + INFORMER_PERIOD_MS)
-                .itemStore(itemStore);
-        LOGGER.infoOp("Starting informer");
-        informer.run();
+        informers = new ArrayList<>(itemStores.size());
+        // One informer for all namespaces, or one informer for each namespace, all sharing the same queue
+        for (var entry : itemStores.entrySet()) {
+            var operation = Crds.topicOperation(client);
+            var informer = (AbstractNamespacedResourceOperator.ANY_NAMESPACE.equals(entry.getKey())
+                        ? operation.inAnyNamespace() : operation.inNamespace(entry.getKey()))
+                    // Do NOT use withLabels to filter the informer, since the controller is stateful
+                    // (topics need to be added to removed from TopicController.topics if KafkaTopics transition between
+                    // selected and unselected).
+                    .runnableInformer(INFORMER_PERIOD_MS)
+                    // The informer interval acts like a heartbeat, then each handler interval will cause a resync at 
+                    // some interval of the overall heartbeat. The closer these values are together the more likely it 
+                    // is that the handler skips one informer intervals. Setting both intervals to the same value generates 
+                    // just enough skew that when the informer checks if the handler is ready for resync it sees that 
+                    // it still needs another couple of micro-seconds and skips to the next informer level resync.
+                    .addEventHandlerWithResyncPeriod(handler, resyncIntervalMs + INFORMER_PERIOD_MS)
+                    .itemStore(entry.getValue());
+            LOGGER.infoOp("Starting informer for namespace {}", entry.getKey());
+            informer.run();
+            informers.add(informer);
+        }
         LOGGER.infoOp("TopicOperator started");
     }
 
@@ -128,11 +145,12 @@ public class TopicOperatorMain implements Liveness, Readiness {
         LOGGER.infoOp("Shutdown initiated");
         try {
             shutdownHook = null;
-            if (informer != null) {
-                informer.stop();
-                informer = null;
+            if (informers != null) {
+                informers.forEach(SharedIndexInformer::stop);
+                informers = null;
             }
             this.queue.stop();
+            this.controller.stop();
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
@@ -154,7 +172,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     }
 
     static TopicOperatorMain operator(TopicOperatorConfig topicOperatorConfig, KubernetesClient client, Admin admin) throws ExecutionException, InterruptedException {
-        return new TopicOperatorMain(topicOperatorConfig.namespace(), topicOperatorConfig.labelSelector().toMap(), admin, client, topicOperatorConfig);
+        return new TopicOperatorMain(topicOperatorConfig.labelSelector().toMap(), admin, client, topicOperatorConfig);
     }
 
     static KubernetesClient kubeClient() {
@@ -168,7 +186,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     public boolean isAlive() {
         boolean running;
         synchronized (this) {
-            running = informer.isRunning();
+            running = informersRunning();
         }
         if (!running) {
             LOGGER.infoOp("isAlive returning false because informer is not running");
@@ -182,7 +200,7 @@ public class TopicOperatorMain implements Liveness, Readiness {
     public boolean isReady() {
         boolean running;
         synchronized (this) {
-            running = informer.isRunning();
+            running = informersRunning();
         }
         if (!running) {
             LOGGER.infoOp("isReady returning false because informer is not running");
@@ -192,6 +210,10 @@ public class TopicOperatorMain implements Liveness, Readiness {
         }
     }
 
+    private boolean informersRunning() {
+        return informers != null && informers.stream().allMatch(SharedIndexInformer::isRunning);
+    }
+
     /**
      * Creates the MetricsProvider instance based on a PrometheusMeterRegistry
      * and binds the JVM metrics to it.
@@ -0,0 +1,156 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which informer resyncs of {@link KafkaTopic}s need to be reconciled, so that the periodic
+ * re-verification of unchanged KafkaTopics is spread over the full reconciliation interval, rather than
+ * the whole set of KafkaTopics being reconciled at once.
+ * <p>
+ * The full reconciliation interval is divided into a number of slots, and the informer resyncs once per slot.
+ * A KafkaTopic is <em>settled</em> when its status is {@code Ready} for its current {@code metadata.generation},
+ * and its spec has the same fingerprint as when it was last verified.
+ * Resyncs of settled KafkaTopics are only reconciled in the slot the KafkaTopic hashes to,
+ * so each slot re-verifies about {@code 1/slots} of the KafkaTopics, and each KafkaTopic is re-verified
+ * (detecting any drift of the topic in Kafka) about once per interval.
+ * KafkaTopics which are not settled (for example not {@code Ready}, paused or unmanaged) are not spread over the
+ * slots, but their resyncs are still only reconciled once per interval, as they would be without pacing,
+ * so that dividing the interval into slots doesn't multiply their reconciliations.</p>
+ * <p>
+ * With a single slot every resync is reconciled.</p>
+ */
+class TopicResyncPacer {
+
+    /**
+     * @param specFingerprint The fingerprint of the spec which was verified.
+     * @param settled Whether the KafkaTopic was settled when it was verified.
+     * @param nanoTime When the KafkaTopic was last verified.
+     */
+    private record Verified(int specFingerprint, boolean settled, long nanoTime) { }
+
+    private final int slots;
+    private final long intervalNs;
+    private final long slotNs;
+    private final Map<KubeRef, Verified> verified = new ConcurrentHashMap<>();
+
+    /**
+     * @param fullReconciliationIntervalMs The interval over which every KafkaTopic should be re-verified, in ms.
+     * @param slots The number of slots the interval is divided into.
+     */
+    TopicResyncPacer(long fullReconciliationIntervalMs, int slots) {
+        this.slots = slots;
+        this.intervalNs = fullReconciliationIntervalMs * 1_000_000;
+        this.slotNs = resyncIntervalMs(fullReconciliationIntervalMs, slots) * 1_000_000;
+    }
+
+    /**
+     * @param fullReconciliationIntervalMs The full reconciliation interval, in ms.
+     * @param slots The number of slots the interval is divided into.
+     * @return The interval at which the informer should resync, in ms.
+     */
+    static long resyncIntervalMs(long fullReconciliationIntervalMs, int slots) {
+        return Math.max(1, fullReconciliationIntervalMs / slots);
+    }
+
+    /**
+     * @return Whether resyncs are paced (there's more than one slot).
+     */
+    boolean isEnabled() {
+        return slots > 1;
+    }
+
+    /**
+     * Records that a KafkaTopic is about to be reconciled because of an add or update event.
+     * @param kt The KafkaTopic
+     */
+    void onReconcile(KafkaTopic kt) {
+        onReconcile(kt, System.nanoTime());
+    }
+
+    /* test */ void onReconcile(KafkaTopic kt, long nanoTime) {
+        if (isEnabled()) {
+            verified.put(ref(kt), new Verified(specFingerprint(kt), isSettled(kt), nanoTime));
+        }
+    }
+
+    /**
+     * Decides whether a resync of the given KafkaTopic should be reconciled, and if so records that it's being verified.
+     * @param kt The KafkaTopic
+     * @return Whether to reconcile.
+     */
+    boolean shouldReconcileResync(KafkaTopic kt) {
+        return shouldReconcileResync(kt, System.nanoTime());
+    }
+
+    /* test */ boolean shouldReconcileResync(KafkaTopic kt, long nanoTime) {
+        if (!isEnabled()) {
+            return true;
+        }
+        KubeRef ref = ref(kt);
+        Verified last = verified.get(ref);
+        if (last != null && last.specFingerprint() == specFingerprint(kt)) {
+            long ageNs = nanoTime - last.nanoTime();
+            if (last.settled() && isSettled(kt) ? !isDue(ref, ageNs, nanoTime) : !isDueUnsettled(ageNs)) {
+                return false;
+            }
+        }
+        onReconcile(kt, nanoTime);
+        return true;
+    }
+
+    /**
+     * A KafkaTopic which isn't settled is reconciled on the first resync a full interval after it was last reconciled,
+     * allowing for the informer's resyncs being slightly early.
+     * @param ageNs The time since the KafkaTopic was last reconciled.
+     * @return Whether the KafkaTopic is due to be reconciled.
+     */
+    private boolean isDueUnsettled(long ageNs) {
+        return ageNs >= intervalNs - slotNs / 2;
+    }
+
+    private boolean isDue(KubeRef ref, long ageNs, long nanoTime) {
+        if (ageNs < slotNs) {
+            // already verified in this slot
+            return false;
+        } else if (ageNs >= intervalNs + slotNs) {
+            // missed its slot (e.g. because of skew between the slots and the informer's resyncs)
+            return true;
+        } else {
+            return Math.floorMod(ref.hashCode(), slots) == Math.floorMod(nanoTime / slotNs, slots);
+        }
+    }
+
+    /**
+     * Forgets about a deleted KafkaTopic.
+     * @param kt The KafkaTopic
+     */
+    void forget(KafkaTopic kt) {
+        verified.remove(ref(kt));
+    }
+
+    private static KubeRef ref(KafkaTopic kt) {
+        return new KubeRef(kt.getMetadata().getNamespace(), kt.getMetadata().getName(), 0);
+    }
+
+    private static int specFingerprint(KafkaTopic kt) {
+        return Objects.hash(kt.getSpec(), kt.getMetadata().getLabels(), kt.getMetadata().getAnnotations());
+    }
+
+    private static boolean isSettled(KafkaTopic kt) {
+        var status = kt.getStatus();
+        return status != null
+                && kt.getMetadata().getGeneration() != null
+                && kt.getMetadata().getGeneration() == status.getObservedGeneration()
+                && kt.getMetadata().getDeletionTimestamp() == null
+                && status.getConditions() != null
+                && status.getConditions().stream().anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory snapshot of the state of topics in Kafka (their partitions, replicas and non-default configs),
+ * as last described by the {@link BatchingTopicController}.
+ * It allows reconciliations which turn out to be no-ops (such as most resyncs) to be answered without making
+ * {@code Admin.describeTopics()} and {@code Admin.describeConfigs()} requests.
+ * <p>
+ * Entries expire after a maximum age, so the snapshot is refreshed as topics are reconciled, and
+ * topics which the operator changes are invalidated, so they're always described again on the next reconciliation.</p>
+ */
+class TopicStateSnapshot {
+
+    private record Entry(BatchingTopicController.CurrentState state, long nanoTime) { }
+
+    private final long maxAgeNs;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxAgeMs The maximum age of an entry, in ms. Zero disables the snapshot.
+     */
+    TopicStateSnapshot(long maxAgeMs) {
+        this.maxAgeNs = maxAgeMs * 1_000_000;
+    }
+
+    /**
+     * @return Whether the snapshot is enabled.
+     */
+    boolean isEnabled() {
+        return maxAgeNs > 0;
+    }
+
+    /**
+     * @param topicName The name of the topic
+     * @return The state of the topic, or null if the topic is not in the snapshot or its entry is older than the
+     * maximum age.
+     */
+    BatchingTopicController.CurrentState get(String topicName) {
+        var entry = entries.get(topicName);
+        if (entry == null) {
+            return null;
+        } else if (System.nanoTime() - entry.nanoTime() > maxAgeNs) {
+            entries.remove(topicName, entry);
+            return null;
+        } else {
+            return entry.state();
+        }
+    }
+
+    /**
+     * Records the state of a topic, as just described from Kafka.
+     * Only the config entries which don't have their default value, or which are specified
+     * in the KafkaTopic, are retained.
+     * @param topicName The name of the topic
+     * @param state The state
+     * @param specConfigKeys The config keys specified in the KafkaTopic
+     */
+    void put(String topicName, BatchingTopicController.CurrentState state, Set<String> specConfigKeys) {
+        if (isEnabled()) {
+            var configs = new Config(state.configs().entries().stream()
+                    .filter(configEntry -> configEntry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG
+                            || specConfigKeys.contains(configEntry.name()))
+                    .toList());
+            entries.put(topicName, new Entry(new BatchingTopicController.CurrentState(state.topicDescription(), configs), System.nanoTime()));
+        }
+    }
+
+    /**
+     * Removes a topic from the snapshot, forcing it to be described from Kafka on its next reconciliation.
+     * @param topicName The name of the topic
+     */
+    void invalidate(String topicName) {
+        entries.remove(topicName);
+    }
+
+    /**
+     * @return The number of topics in the snapshot.
+     */
+    int size() {
+        return entries.size();
+    }
+}
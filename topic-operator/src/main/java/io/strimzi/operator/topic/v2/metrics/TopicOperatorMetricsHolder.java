@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.topic.v2.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.MetricsHolder;
@@ -19,6 +22,22 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TopicOperatorMetricsHolder extends MetricsHolder {
     private final Map<String, AtomicInteger> reconciliationsMaxQueueMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> reconciliationsMaxBatchMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> coalescedEventsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> reconciliationsOverflowMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> reconciliationsThrottledTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> statusWriteTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> statusWritesCoalescedCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> statusWritesSkippedCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> statusWritesFailedCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> skippedResyncsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> topicSnapshotHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> topicSnapshotMissesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> reassignmentViewHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> reassignmentViewMissesCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchThreadQueueSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchThreadUtilizationMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchThreadBatchSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchThreadBatchLingerMap = new ConcurrentHashMap<>(1);
 
     // additional metrics, useful for tuning or monitoring specific internal operations
     private final Map<String, Timer> addFinalizerTimerMap = new ConcurrentHashMap<>(1);
@@ -70,6 +89,31 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
             tags -> ((TopicOperatorMetricsProvider) metrics).fineGrainedTimer(metricName, metricHelp, tags));
     }
 
+    /**
+     * Creates or gets a gauge-type metric for a single batch thread.
+     * The metric has the same tags as the other metrics, plus a {@code thread} tag with the index of the thread.
+     *
+     * @param namespace         Namespace of the resource
+     * @param thread            Index of the batch thread
+     * @param metricName        Name of the metric
+     * @param gaugeMap          Map with gauges
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  Gauge metric
+     */
+    private AtomicInteger getBatchThreadGauge(String namespace,
+                                              int thread,
+                                              String metricName,
+                                              Map<String, AtomicInteger> gaugeMap,
+                                              String metricHelp) {
+        String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
+        return gaugeMap.computeIfAbsent(namespace + "/" + kind + "/" + thread,
+            x -> metricsProvider.gauge(metricName, metricHelp, Tags.of(Tag.of("kind", kind),
+                Tag.of("namespace", namespace.equals("*") ? "" : namespace),
+                Tag.of("selector", selectorValue),
+                Tag.of("thread", String.valueOf(thread)))));
+    }
+
     /**
      * Gauge metric for the max size recorded for the event queue.
      *
@@ -94,6 +138,213 @@ public class TopicOperatorMetricsHolder extends MetricsHolder {
             metricsProvider, selectorLabels, reconciliationsMaxBatchMap, "Max size recorded for a single event batch");
     }
 
+    /**
+     * Gauge metric for the number of resources with events in the overflow of the event queues, waiting for space in
+     * the queues to become available.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger reconciliationsOverflowSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.overflow.size",
+            metricsProvider, selectorLabels, reconciliationsOverflowMap, "Number of resources with events waiting in the overflow of the event queues");
+    }
+
+    /**
+     * Timer which measures how long the event queues were throttled, that is full with events in the overflow.
+     * The time is recorded in increments, each time an event is taken from a throttled queue, so the total time
+     * grows while the queues are throttled.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer reconciliationsThrottledTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.throttled.duration", metricsProvider, selectorLabels, reconciliationsThrottledTimerMap,
+            "The time the event queues spend full, with events waiting in the overflow");
+    }
+
+    /**
+     * Counter metric for the number of events which were coalesced with an event already pending in the queue
+     * for the same resource.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter coalescedEventsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.coalesced", metricsProvider, selectorLabels, coalescedEventsCounterMap,
+            "Number of events coalesced with an event already queued for the same resource");
+    }
+
+    /**
+     * Timer which measures how long it takes for a status update to be written, from when it is requested
+     * (including any time waiting for a status writer thread or for the rate limit).
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics timer
+     */
+    public Timer statusWriteTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.status.write.duration", metricsProvider, selectorLabels, statusWriteTimerMap,
+            "The time taken to write a status update, including any time spent waiting to be written");
+    }
+
+    /**
+     * Counter metric for the number of status updates which replaced a pending status update for the same resource.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter statusWritesCoalescedCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.status.writes.coalesced", metricsProvider, selectorLabels, statusWritesCoalescedCounterMap,
+            "Number of status updates which replaced a pending status update for the same resource");
+    }
+
+    /**
+     * Counter metric for the number of status updates which were not written because the status was unchanged.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter statusWritesSkippedCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.status.writes.skipped", metricsProvider, selectorLabels, statusWritesSkippedCounterMap,
+            "Number of status updates which were not written because the status was unchanged");
+    }
+
+    /**
+     * Counter metric for the number of asynchronous status updates which were abandoned because they failed.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter statusWritesFailedCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.status.writes.failed", metricsProvider, selectorLabels, statusWritesFailedCounterMap,
+            "Number of asynchronous status updates which were abandoned because they failed");
+    }
+
+    /**
+     * Counter metric for the number of informer resyncs of unchanged resources which were not reconciled
+     * because the resource was not due to be re-verified.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter skippedResyncsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.resyncs.skipped", metricsProvider, selectorLabels, skippedResyncsCounterMap,
+            "Number of resyncs of unchanged resources which were not reconciled");
+    }
+
+    /**
+     * Counter metric for the number of reconciliations which used the state of the topic from the snapshot of Kafka
+     * topics, rather than describing it using the Admin client.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter topicSnapshotHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "topic.snapshot.hits", metricsProvider, selectorLabels, topicSnapshotHitsCounterMap,
+            "Number of reconciliations which used the state of the topic from the snapshot");
+    }
+
+    /**
+     * Counter metric for the number of reconciliations which had to describe the topic using the Admin client because
+     * it was not in the snapshot of Kafka topics, its state was too old, or it needed changing.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter topicSnapshotMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "topic.snapshot.misses", metricsProvider, selectorLabels, topicSnapshotMissesCounterMap,
+            "Number of reconciliations which described the topic because the snapshot could not be used");
+    }
+
+    /**
+     * Counter metric for the number of batches which used the shared view of the partition reassignments,
+     * rather than listing the reassignments using the Admin client.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter reassignmentViewHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reassignment.view.hits", metricsProvider, selectorLabels, reassignmentViewHitsCounterMap,
+            "Number of batches which used the view of the partition reassignments without listing them");
+    }
+
+    /**
+     * Counter metric for the number of batches which had to list the partition reassignments using the Admin client
+     * because the shared view of the reassignments was stale, or invalidated for one of their topics.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     *
+     * @return Metrics counter
+     */
+    public Counter reassignmentViewMissesCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reassignment.view.misses", metricsProvider, selectorLabels, reassignmentViewMissesCounterMap,
+            "Number of batches which refreshed the view of the partition reassignments");
+    }
+
+    /**
+     * Gauge metric for the current size of the event queue of a single batch thread.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param thread    Index of the batch thread
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger batchThreadQueueSize(String namespace, int thread) {
+        return getBatchThreadGauge(namespace, thread, METRICS_PREFIX + "reconciliations.batch.thread.queue.size",
+            batchThreadQueueSizeMap, "Current size of the event queue of a batch thread");
+    }
+
+    /**
+     * Gauge metric for the percentage of time a single batch thread spent reconciling batches (rather than waiting
+     * for events) during the last utilization window.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param thread    Index of the batch thread
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger batchThreadUtilization(String namespace, int thread) {
+        return getBatchThreadGauge(namespace, thread, METRICS_PREFIX + "reconciliations.batch.thread.utilization",
+            batchThreadUtilizationMap, "Percentage of time a batch thread spent reconciling batches");
+    }
+
+    /**
+     * Gauge metric for the batch size chosen by a single batch thread for its current batch.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param thread    Index of the batch thread
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger batchThreadBatchSize(String namespace, int thread) {
+        return getBatchThreadGauge(namespace, thread, METRICS_PREFIX + "reconciliations.batch.thread.batch.size",
+            batchThreadBatchSizeMap, "Batch size chosen by a batch thread for its current batch");
+    }
+
+    /**
+     * Gauge metric for the linger, in milliseconds, chosen by a single batch thread for its current batch.
+     *
+     * @param namespace Namespace of the resources being reconciled
+     * @param thread    Index of the batch thread
+     *
+     * @return Metrics gauge
+     */
+    public AtomicInteger batchThreadBatchLinger(String namespace, int thread) {
+        return getBatchThreadGauge(namespace, thread, METRICS_PREFIX + "reconciliations.batch.thread.batch.linger.ms",
+            batchThreadBatchLingerMap, "Linger in milliseconds chosen by a batch thread for its current batch");
+    }
+
     /**
      * Timer which measures how long the addFinalizer Kubernetes operations take.
      *
@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveBatchSizerTest {
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long MAX_BATCH_LINGER_MS = 100;
+
+    @Test
+    void shouldUseMaximumsWhenDisabled() {
+        var sizer = new AdaptiveBatchSizer(false, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+        sizer.adapt(0);
+        assertEquals(MAX_BATCH_SIZE, sizer.batchSize());
+        assertEquals(MAX_BATCH_LINGER_MS, sizer.batchLingerMs());
+        sizer.adapt(1_000);
+        assertEquals(MAX_BATCH_SIZE, sizer.batchSize());
+        assertEquals(MAX_BATCH_LINGER_MS, sizer.batchLingerMs());
+    }
+
+    @Test
+    void shouldNotLingerWhenQueueIsEmpty() {
+        var sizer = new AdaptiveBatchSizer(true, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+        sizer.adapt(0);
+        assertEquals(1, sizer.batchSize());
+        assertEquals(0, sizer.batchLingerMs());
+    }
+
+    @Test
+    void shouldGrowBatchSizeWhenQueueIsDeep() {
+        var sizer = new AdaptiveBatchSizer(true, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+        for (int i = 0; i < 10; i++) {
+            sizer.recordBatch(1_000_000);
+            sizer.adapt(1_000);
+        }
+        assertEquals(MAX_BATCH_SIZE, sizer.batchSize());
+
+        // and shrink it again once the queue has drained
+        for (int i = 0; i < 10; i++) {
+            sizer.adapt(0);
+        }
+        assertEquals(1, sizer.batchSize());
+        assertEquals(0, sizer.batchLingerMs());
+    }
+
+    @Test
+    void shouldNotGrowBatchSizeWhenBatchesAreSlow() {
+        var sizer = new AdaptiveBatchSizer(true, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+        sizer.adapt(1_000);
+        assertEquals(2, sizer.batchSize());
+        sizer.recordBatch((AdaptiveBatchSizer.SLOW_BATCH_LINGER_MULTIPLE + 1) * MAX_BATCH_LINGER_MS * 1_000_000);
+        sizer.adapt(1_000);
+        assertEquals(2, sizer.batchSize());
+    }
+
+    @Test
+    void shouldGrowLingerWhenQueueIsShallow() {
+        var sizer = new AdaptiveBatchSizer(true, MAX_BATCH_SIZE, MAX_BATCH_LINGER_MS);
+        for (int i = 0; i < 5; i++) {
+            sizer.adapt(1_000);
+        }
+        assertEquals(32, sizer.batchSize());
+        sizer.adapt(10);
+        assertEquals(1, sizer.batchLingerMs());
+        for (int i = 0; i < 10; i++) {
+            sizer.adapt(10);
+        }
+        assertEquals(MAX_BATCH_LINGER_MS, sizer.batchLingerMs());
+        assertEquals(32, sizer.batchSize());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class BatchingLoopTest {
+    private static final String NAMESPACE = "ns";
+    private static final int MAX_THREADS = 4;
+
+    private static KafkaTopic kafkaTopic(String name, String topicName, String statusTopicName) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName(topicName)
+                .endSpec()
+                .withNewStatus()
+                    .withTopicName(statusTopicName)
+                .endStatus()
+                .build();
+    }
+
+    private static BatchingLoop batchingLoop(BatchingTopicController controller, BasicItemStore<KafkaTopic> itemStore) {
+        var metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        return new BatchingLoop(1_000, false, controller, MAX_THREADS, 10, 10, false, itemStore, () -> { }, metrics, NAMESPACE);
+    }
+
+    @Test
+    public void shouldShardOnTopicName() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        itemStore.put(Cache.metaNamespaceKeyFunc(kafkaTopic("kt-a", "shared", null)), kafkaTopic("kt-a", "shared", null));
+        itemStore.put(Cache.metaNamespaceKeyFunc(kafkaTopic("kt-b", null, "renamed")), kafkaTopic("kt-b", "other", "renamed"));
+        var loop = batchingLoop(mock(BatchingTopicController.class), itemStore);
+
+        // spec.topicName
+        assertThat(loop.shardingKey(new TopicUpsert(0, NAMESPACE, "kt-a", "1")), is("shared"));
+        // status.topicName takes precedence over a changed spec.topicName
+        assertThat(loop.shardingKey(new TopicUpsert(0, NAMESPACE, "kt-b", "1")), is("renamed"));
+        // not (or no longer) in the item store
+        assertThat(loop.shardingKey(new TopicUpsert(0, NAMESPACE, "kt-c", "1")), is("kt-c"));
+        // deletes carry their KafkaTopic
+        assertThat(loop.shardingKey(new TopicDelete(0, kafkaTopic("kt-d", "deleted", null))), is("deleted"));
+    }
+
+    @Test
+    public void shouldKeepKafkaTopicOnSameThreadWhenTopicNameChanges() throws InterruptedException {
+        // the first reconciliation failed, so status.topicName is unset
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        var kt = kafkaTopic("kt", "first", null);
+        itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt);
+        // a spec.topicName which would be sharded to a different thread
+        String changed = "second";
+        for (int i = 0; Math.floorMod(changed.hashCode(), MAX_THREADS) == Math.floorMod("first".hashCode(), MAX_THREADS); i++) {
+            changed = "second-" + i;
+        }
+
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AtomicInteger deleted = new AtomicInteger(0);
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return null;
+        }).when(controller).onUpdate(any());
+        doAnswer(invocation -> {
+            deleted.incrementAndGet();
+            return null;
+        }).when(controller).onDelete(any());
+
+        var loop = batchingLoop(controller, itemStore);
+        loop.start();
+        try {
+            var upsert = new TopicUpsert(0, NAMESPACE, "kt", "1");
+            loop.offer(upsert);
+            int owner = loop.ownerId(upsert);
+            awaitCount(threads::size, 1);
+
+            // the user changes spec.topicName
+            itemStore.put(Cache.metaNamespaceKeyFunc(kt), kafkaTopic("kt", changed, null));
+            loop.offer(new TopicUpsert(1, NAMESPACE, "kt", "2"));
+            assertThat(loop.ownerId(upsert), is(owner));
+            awaitCount(threads::size, 2);
+            assertThat(threads.get(1), is(threads.get(0)));
+
+            // the ownership is released once the deletion has been reconciled
+            var delete = new TopicDelete(2, kafkaTopic("kt", changed, null));
+            loop.offer(delete);
+            assertThat(loop.ownerId(delete), is(owner));
+            awaitCount(deleted::get, 1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (loop.ownerId(delete) != -1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(loop.ownerId(delete), is(-1));
+        } finally {
+            loop.stop();
+        }
+    }
+
+    private static void awaitCount(IntSupplier count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count.getAsInt() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(count.getAsInt(), is(expected));
+    }
+
+    @Test
+    public void shouldNotReconcileConflictingKafkaTopicsConcurrently() throws InterruptedException {
+        // Two KafkaTopics managing the same Kafka topic, and some other KafkaTopics to keep all the threads busy
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        List<KafkaTopic> kafkaTopics = new ArrayList<>();
+        kafkaTopics.add(kafkaTopic("kt-a", "shared", null));
+        kafkaTopics.add(kafkaTopic("kt-b", "shared", null));
+        for (int i = 0; i < 20; i++) {
+            kafkaTopics.add(kafkaTopic("t-" + i, null, null));
+        }
+        kafkaTopics.forEach(kt -> itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt));
+
+        Map<String, AtomicInteger> reconciling = new ConcurrentHashMap<>();
+        Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+        AtomicInteger maxConcurrency = new AtomicInteger(0);
+        AtomicInteger reconciled = new AtomicInteger(0);
+
+        BatchingTopicController controller = mock(BatchingTopicController.class);
+        doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            // KafkaTopics managing the same topic can be in the same batch, what matters is that no other thread
+            // is reconciling that topic at the same time
+            List<String> topicNames = batch.stream().map(ReconcilableTopic::topicName).distinct().toList();
+            for (var topicName : topicNames) {
+                int concurrency = reconciling.computeIfAbsent(topicName, k -> new AtomicInteger()).incrementAndGet();
+                maxConcurrency.getAndUpdate(max -> Math.max(max, concurrency));
+                threads.computeIfAbsent(topicName, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            }
+            Thread.sleep(2);
+            for (var topicName : topicNames) {
+                reconciling.get(topicName).decrementAndGet();
+            }
+            reconciled.addAndGet(batch.size());
+            return null;
+        }).when(controller).onUpdate(any());
+
+        var loop = batchingLoop(controller, itemStore);
+        loop.start();
+        try {
+            for (int round = 0; round < 50; round++) {
+                for (var kt : kafkaTopics) {
+                    loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, kt.getMetadata().getName(), String.valueOf(round)));
+                }
+                Thread.sleep(1);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (loop.queueSize() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            loop.stop();
+        }
+
+        assertThat(loop.queueSize(), is(0));
+        assertThat(reconciled.get() > 0, is(true));
+        // Both KafkaTopics were reconciled, always by the same thread and never at the same time
+        assertThat(threads.get("shared").size(), is(1));
+        assertThat(maxConcurrency.get(), is(1));
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.MockAdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static io.strimzi.api.kafka.model.topic.KafkaTopic.RESOURCE_KIND;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the {@link BatchingTopicController} against the in-memory {@link MockAdminClient} and a mock Kube client,
+ * so that the requests it makes to Kafka can be verified without a Kafka or a Kube cluster.
+ */
+public class BatchingTopicControllerMockTest {
+    private static final String NAMESPACE = "ns";
+    private static final String NAME = "foo";
+    private static final String RETENTION_MS = "retention.ms";
+
+    private Admin admin;
+    private KubernetesClient kubeClient;
+    private TopicOperatorMetricsHolder metrics;
+    private BatchingTopicController controller;
+    private final List<Long> writtenGenerations = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<RuntimeException> writeFailures = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private volatile CountDownLatch releaseFirstWrite = new CountDownLatch(0);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void beforeEach() throws ExecutionException, InterruptedException {
+        admin = spy(MockAdminClient.create()
+                .numBrokers(1)
+                .defaultPartitions((short) 1)
+                .defaultReplicationFactor(1)
+                .build());
+        // the controller reads auto.create.topics.enable from each broker when it's constructed
+        admin.incrementalAlterConfigs(Map.of(new ConfigResource(ConfigResource.Type.BROKER, "0"), List.of(new AlterConfigOp(
+                new ConfigEntry(BatchingTopicController.AUTO_CREATE_TOPICS_ENABLE, "false"), AlterConfigOp.OpType.SET))))
+                .all().get();
+
+        kubeClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation = mock(MixedOperation.class);
+        when(kubeClient.resources(KafkaTopic.class, KafkaTopicList.class)).thenReturn(operation);
+        when(operation.resource(any())).thenAnswer(invocation -> {
+            KafkaTopic kt = invocation.getArgument(0);
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.updateStatus()).thenAnswer(i -> {
+                if (firstWriteStarted.getCount() > 0) {
+                    firstWriteStarted.countDown();
+                    releaseFirstWrite.await();
+                }
+                var failure = writeFailures.poll();
+                if (failure != null) {
+                    throw failure;
+                }
+                writtenGenerations.add(kt.getStatus().getObservedGeneration());
+                return kt;
+            });
+            return resource;
+        });
+
+        metrics = new TopicOperatorMetricsHolder(RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        if (controller != null) {
+            controller.stop();
+        }
+        admin.close();
+    }
+
+    private BatchingTopicController controller(Map<String, String> env) throws ExecutionException, InterruptedException {
+        Map<String, String> map = new HashMap<>(env);
+        map.put(TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "in-memory:9092");
+        map.putIfAbsent(TopicOperatorConfig.NAMESPACE.key(), NAMESPACE);
+        map.put(TopicOperatorConfig.USE_FINALIZERS.key(), "false");
+        controller = new BatchingTopicController(TopicOperatorConfig.buildFromMap(map), Map.of(), admin, kubeClient, metrics);
+        clearInvocations(admin);
+        return controller;
+    }
+
+    private void createTopic(long retentionMs) throws ExecutionException, InterruptedException {
+        admin.createTopics(List.of(new NewTopic(NAME, 1, (short) 1).configs(Map.of(RETENTION_MS, String.valueOf(retentionMs)))))
+                .all().get();
+    }
+
+    private String retentionMs() throws ExecutionException, InterruptedException {
+        var resource = new ConfigResource(ConfigResource.Type.TOPIC, NAME);
+        return admin.describeConfigs(Set.of(resource)).all().get().get(resource).get(RETENTION_MS).value();
+    }
+
+    private void awaitWrites(int writes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writtenGenerations.size() < writes && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<ReconcilableTopic> batch(long retentionMs) {
+        return batch(retentionMs, 1L);
+    }
+
+    /**
+     * @param retentionMs The retention.ms in the spec
+     * @param generation The generation of the KafkaTopic, whose status is Ready for generation 1
+     * @return A batch of the KafkaTopic
+     */
+    private static List<ReconcilableTopic> batch(long retentionMs, long generation) {
+        return List.of(reconcilableTopic(NAMESPACE, NAME, retentionMs, generation));
+    }
+
+    private static ReconcilableTopic reconcilableTopic(String namespace, String name, long retentionMs, long generation) {
+        KafkaTopic kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withGeneration(generation)
+                    .withResourceVersion("1")
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                    .addToConfig(RETENTION_MS, retentionMs)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withTopicName(name)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+        return new ReconcilableTopic(new Reconciliation("test", RESOURCE_KIND, namespace, name), kt, name);
+    }
+
+    @Test
+    public void shouldNotDescribeTopicsFoundInSnapshot() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        controller(Map.of(TopicOperatorConfig.TOPIC_SNAPSHOT_MAX_AGE_MS.key(), "60000"));
+
+        // the first reconciliation describes the topic, and puts it in the snapshot
+        controller.onUpdate(batch(3_600_000L));
+        verify(admin, times(1)).describeTopics(anyCollection());
+        verify(admin, times(1)).describeConfigs(anyCollection());
+        assertThat(metrics.topicSnapshotMissesCounter(NAMESPACE).count(), is(1.0));
+
+        // an unchanged KafkaTopic is reconciled from the snapshot
+        controller.onUpdate(batch(3_600_000L));
+        controller.onUpdate(batch(3_600_000L));
+        verify(admin, times(1)).describeTopics(anyCollection());
+        verify(admin, times(1)).describeConfigs(anyCollection());
+        assertThat(metrics.topicSnapshotHitsCounter(NAMESPACE).count(), is(2.0));
+
+        // a changed KafkaTopic is described again before the topic is changed
+        controller.onUpdate(batch(7_200_000L));
+        verify(admin, times(2)).describeTopics(anyCollection());
+        verify(admin, times(2)).describeConfigs(anyCollection());
+        verify(admin, times(1)).incrementalAlterConfigs(any());
+        assertThat(retentionMs(), is("7200000"));
+
+        // the changed topic was invalidated, so it's described again
+        controller.onUpdate(batch(7_200_000L));
+        verify(admin, times(3)).describeTopics(anyCollection());
+        verify(admin, times(1)).incrementalAlterConfigs(any());
+        assertThat(metrics.topicSnapshotMissesCounter(NAMESPACE).count(), is(3.0));
+    }
+
+    @Test
+    public void shouldDescribeTopicsWhenSnapshotDisabled() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        controller(Map.of());
+
+        controller.onUpdate(batch(3_600_000L));
+        controller.onUpdate(batch(3_600_000L));
+        verify(admin, times(2)).describeTopics(anyCollection());
+        verify(admin, times(2)).describeConfigs(anyCollection());
+    }
+
+    @Test
+    public void shouldTagMetricsWithNamespaceOfKafkaTopics() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        admin.createTopics(List.of(new NewTopic("bar", 1, (short) 1).configs(Map.of(RETENTION_MS, "3600000")))).all().get();
+        controller(Map.of(TopicOperatorConfig.NAMESPACE.key(), NAMESPACE + ",other",
+                TopicOperatorConfig.TOPIC_SNAPSHOT_MAX_AGE_MS.key(), "60000"));
+
+        var batch = List.of(reconcilableTopic(NAMESPACE, NAME, 3_600_000L, 1L), reconcilableTopic("other", "bar", 3_600_000L, 1L));
+        controller.onUpdate(batch);
+        controller.onUpdate(batch);
+        for (var namespace : List.of(NAMESPACE, "other")) {
+            assertThat(metrics.topicSnapshotMissesCounter(namespace).count(), is(1.0));
+            assertThat(metrics.topicSnapshotHitsCounter(namespace).count(), is(1.0));
+        }
+    }
+
+    @Test
+    public void shouldCoalesceAsyncStatusUpdates() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        controller(Map.of(TopicOperatorConfig.ASYNC_STATUS_UPDATES.key(), "true",
+                TopicOperatorConfig.STATUS_WRITER_THREADS.key(), "2"));
+        releaseFirstWrite = new CountDownLatch(1);
+
+        controller.onUpdate(batch(3_600_000L, 2L));
+        assertThat(firstWriteStarted.await(10, TimeUnit.SECONDS), is(true));
+        // while the status for generation 2 is being written, the statuses for generations 3 and 4 are coalesced
+        controller.onUpdate(batch(3_600_000L, 3L));
+        controller.onUpdate(batch(3_600_000L, 4L));
+        releaseFirstWrite.countDown();
+
+        awaitWrites(2);
+        assertThat(writtenGenerations, is(List.of(2L, 4L)));
+        assertThat(metrics.statusWritesCoalescedCounter(NAMESPACE).count(), is(1.0));
+        assertThat(metrics.successfulReconciliationsCounter(NAMESPACE).count(), is(3.0));
+        assertThat(metrics.failedReconciliationsCounter(NAMESPACE).count(), is(0.0));
+    }
+
+    @Test
+    public void shouldRetryFailedAsyncStatusUpdates() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        controller(Map.of(TopicOperatorConfig.ASYNC_STATUS_UPDATES.key(), "true"));
+        writeFailures.add(new KubernetesClientException("Service unavailable", 503, null));
+
+        controller.onUpdate(batch(3_600_000L, 2L));
+
+        awaitWrites(1);
+        assertThat(writtenGenerations, is(List.of(2L)));
+        assertThat(metrics.successfulReconciliationsCounter(NAMESPACE).count(), is(1.0));
+        assertThat(metrics.failedReconciliationsCounter(NAMESPACE).count(), is(0.0));
+        assertThat(metrics.statusWritesFailedCounter(NAMESPACE).count(), is(0.0));
+    }
+
+    @Test
+    public void shouldFailReconciliationWhenSynchronousStatusUpdateFails() throws ExecutionException, InterruptedException {
+        createTopic(3_600_000L);
+        controller(Map.of());
+        writeFailures.add(new KubernetesClientException("Service unavailable", 503, null));
+
+        assertThrows(KubernetesClientException.class, () -> controller.onUpdate(batch(3_600_000L, 2L)));
+        assertThat(writtenGenerations, is(List.of()));
+        assertThat(metrics.failedReconciliationsCounter(NAMESPACE).count(), is(1.0));
+        assertThat(metrics.successfulReconciliationsCounter(NAMESPACE).count(), is(0.0));
+
+        // the next reconciliation writes the status
+        controller.onUpdate(batch(3_600_000L, 2L));
+        assertThat(writtenGenerations, is(List.of(2L)));
+    }
+}
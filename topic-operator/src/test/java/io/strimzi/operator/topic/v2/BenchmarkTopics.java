@@ -0,0 +1,360 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.MockAdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.ConfigResource;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+/**
+ * Fixtures shared by the Topic Operator benchmarks, which are published in the test-jar for the benchmarks module.
+ * The controller, loop and operator are wrapped, so that the benchmarks only depend on this class, and not on
+ * the package-private internals of the operator.
+ * <p>
+ * Kafka is replaced by an in-memory {@link MockAdminClient}, so the benchmarks measure the operator's own
+ * CPU and allocation cost, rather than the latency of a real cluster.
+ * The KafkaTopics are created already {@code Ready}, with {@code status.observedGeneration == metadata.generation},
+ * so the controller only needs to write their status when it creates their topics, and the status writes are
+ * acknowledged by a stub Kube client, so the benchmarks run without a Kube API server.</p>
+ */
+public class BenchmarkTopics {
+
+    /**
+     * The namespace of the KafkaTopics
+     */
+    public static final String NAMESPACE = "bench";
+    /**
+     * The topic config which the benchmarks change
+     */
+    public static final String RETENTION_MS = "retention.ms";
+
+    private BenchmarkTopics() { }
+
+    /**
+     * @return A new, empty, in-memory single-broker cluster, with topic auto-creation disabled.
+     * @throws ExecutionException If the cluster can't be configured.
+     * @throws InterruptedException If interrupted.
+     */
+    public static Admin admin() throws ExecutionException, InterruptedException {
+        Admin admin = MockAdminClient.create()
+                .numBrokers(1)
+                .defaultPartitions((short) 1)
+                .defaultReplicationFactor(1)
+                .build();
+        // the controller reads auto.create.topics.enable from each broker when it's constructed
+        var broker = new ConfigResource(ConfigResource.Type.BROKER, "0");
+        admin.incrementalAlterConfigs(Map.of(broker, List.of(new AlterConfigOp(
+                new ConfigEntry(BatchingTopicController.AUTO_CREATE_TOPICS_ENABLE, "false"), AlterConfigOp.OpType.SET))))
+                .all().get();
+        return admin;
+    }
+
+    /**
+     * Creates the topics of the given KafkaTopics in Kafka, as the controller would.
+     * @param admin The admin client
+     * @param kts The KafkaTopics
+     * @throws ExecutionException If the topics can't be created.
+     * @throws InterruptedException If interrupted.
+     */
+    public static void createTopics(Admin admin, List<KafkaTopic> kts) throws ExecutionException, InterruptedException {
+        List<NewTopic> newTopics = new ArrayList<>(kts.size());
+        for (var kt : kts) {
+            newTopics.add(new NewTopic(kt.getMetadata().getName(), kt.getSpec().getPartitions(), kt.getSpec().getReplicas().shortValue())
+                    .configs(Map.of(RETENTION_MS, String.valueOf(kt.getSpec().getConfig().get(RETENTION_MS)))));
+        }
+        admin.createTopics(newTopics).all().get();
+    }
+
+    /**
+     * @return A metrics holder backed by a simple in-memory registry.
+     */
+    private static TopicOperatorMetricsHolder metrics() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null,
+                new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * @return A Kube client which only supports updating the status of a KafkaTopic, returning the updated KafkaTopic.
+     */
+    private static KubernetesClient kubeClient() {
+        return proxy(KubernetesClient.class, (method, args) -> switch (method) {
+            case "resources" -> proxy(MixedOperation.class, (m, a) -> switch (m) {
+                case "resource" -> proxy(Resource.class, (m2, a2) -> switch (m2) {
+                    case "updateStatus" -> a[0];
+                    default -> throw new UnsupportedOperationException(m2);
+                });
+                default -> throw new UnsupportedOperationException(m);
+            });
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> handler) {
+        return type.cast(Proxy.newProxyInstance(BenchmarkTopics.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> handler.apply(method.getName(), args)));
+    }
+
+    /**
+     * @param env Any other config of the operator, keyed by environment variable
+     * @return The config of an operator of {@link #NAMESPACE} which doesn't use finalizers, with the given config.
+     */
+    private static TopicOperatorConfig config(Map<String, String> env) {
+        Map<String, String> map = new HashMap<>(env);
+        map.putIfAbsent(TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "in-memory:9092");
+        map.putIfAbsent(TopicOperatorConfig.NAMESPACE.key(), NAMESPACE);
+        // the mock Kube API server sets a metadata.deletionTimestamp without a time zone, which the operator can't parse
+        map.putIfAbsent(TopicOperatorConfig.USE_FINALIZERS.key(), "false");
+        return TopicOperatorConfig.buildFromMap(map);
+    }
+
+    /**
+     * @param admin The admin client
+     * @param topicSnapshotMaxAgeMs The maximum age of the cached Kafka-side state of a topic
+     * @return A controller which doesn't use finalizers, using a stub Kube client.
+     * @throws ExecutionException If the cluster config can't be described.
+     * @throws InterruptedException If interrupted.
+     */
+    public static Controller controller(Admin admin, long topicSnapshotMaxAgeMs) throws ExecutionException, InterruptedException {
+        var config = config(Map.of(TopicOperatorConfig.TOPIC_SNAPSHOT_MAX_AGE_MS.key(), String.valueOf(topicSnapshotMaxAgeMs)));
+        return new Controller(new BatchingTopicController(config, Map.of(), admin, kubeClient(), metrics()));
+    }
+
+    /**
+     * Creates a loop whose controller counts the KafkaTopics it's asked to reconcile, without reconciling them.
+     * @param admin The admin client
+     * @param kts The KafkaTopics, which are put in the loop's item store, and whose upserts are offered by {@link Loop#offerAll()}
+     * @param threads The number of batch threads
+     * @param maxBatchSize The maximum batch size
+     * @param adaptiveBatching Whether to adapt the batch size and linger
+     * @param reconciled Released once for each KafkaTopic reconciled
+     * @return The loop, which is not yet started.
+     * @throws ExecutionException If the cluster config can't be described.
+     * @throws InterruptedException If interrupted.
+     */
+    public static Loop countingLoop(Admin admin, List<KafkaTopic> kts, int threads, int maxBatchSize, boolean adaptiveBatching, Semaphore reconciled)
+            throws ExecutionException, InterruptedException {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        List<TopicUpsert> upserts = new ArrayList<>(kts.size());
+        for (var kt : kts) {
+            itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt);
+            upserts.add(new TopicUpsert(0, NAMESPACE, kt.getMetadata().getName(), kt.getMetadata().getResourceVersion()));
+        }
+        var controller = new BatchingTopicController(config(Map.of()), Map.of(), admin, kubeClient(), metrics()) {
+            @Override
+            void onUpdate(List<ReconcilableTopic> topics) {
+                reconciled.release(topics.size());
+            }
+        };
+        return new Loop(new BatchingLoop(kts.size(), false, controller, threads, maxBatchSize, 1,
+                adaptiveBatching, itemStore, () -> { }, metrics(), NAMESPACE), upserts);
+    }
+
+    /**
+     * @param env Any other config of the operator, keyed by environment variable
+     * @param client The Kube client
+     * @param admin The admin client
+     * @return The whole operator, of {@link #NAMESPACE}, which is not yet started.
+     * @throws ExecutionException If the cluster config can't be described.
+     * @throws InterruptedException If interrupted.
+     */
+    public static Operator operator(Map<String, String> env, KubernetesClient client, Admin admin) throws ExecutionException, InterruptedException {
+        var config = config(env);
+        return new Operator(TopicOperatorMain.operator(config, client, admin), config.fullReconciliationIntervalMs());
+    }
+
+    /**
+     * @param i The index of the topic
+     * @return The name of the i-th topic.
+     */
+    public static String name(int i) {
+        return "topic-" + i;
+    }
+
+    /**
+     * @param i The index of the topic
+     * @param retentionMs The retention.ms of the topic
+     * @return The i-th KafkaTopic, in the {@code Ready} state.
+     */
+    public static KafkaTopic kafkaTopic(int i, long retentionMs) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name(i))
+                    .withGeneration(1L)
+                    .withResourceVersion("1")
+                    .withCreationTimestamp("2024-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                    .addToConfig(RETENTION_MS, retentionMs)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withTopicName(name(i))
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    /**
+     * @param kts The KafkaTopics
+     * @return The KafkaTopics, as the BatchingLoop would pass them to the controller.
+     */
+    public static Batch batch(List<KafkaTopic> kts) {
+        return new Batch(kts.stream().map(kt -> new ReconcilableTopic(
+                new Reconciliation("bench", KafkaTopic.RESOURCE_KIND, NAMESPACE, kt.getMetadata().getName()),
+                kt, TopicOperatorUtil.topicName(kt))).toList());
+    }
+
+    /**
+     * A batch of KafkaTopics, built ahead of reconciling it.
+     */
+    public static final class Batch {
+        private final List<ReconcilableTopic> topics;
+
+        private Batch(List<ReconcilableTopic> topics) {
+            this.topics = topics;
+        }
+    }
+
+    /**
+     * A {@link BatchingTopicController}
+     */
+    public static final class Controller {
+        private final BatchingTopicController controller;
+
+        private Controller(BatchingTopicController controller) {
+            this.controller = controller;
+        }
+
+        /**
+         * @param batch The KafkaTopics which have been created or updated
+         * @throws InterruptedException If interrupted.
+         */
+        public void onUpdate(Batch batch) throws InterruptedException {
+            controller.onUpdate(batch.topics);
+        }
+
+        /**
+         * @param batch The KafkaTopics which have been deleted
+         * @throws InterruptedException If interrupted.
+         */
+        public void onDelete(Batch batch) throws InterruptedException {
+            controller.onDelete(batch.topics);
+        }
+
+        /**
+         * Stops the controller
+         */
+        public void stop() {
+            controller.stop();
+        }
+    }
+
+    /**
+     * A {@link BatchingLoop}
+     */
+    public static final class Loop {
+        private final BatchingLoop loop;
+        private final List<TopicUpsert> upserts;
+
+        private Loop(BatchingLoop loop, List<TopicUpsert> upserts) {
+            this.loop = loop;
+            this.upserts = upserts;
+        }
+
+        /**
+         * Starts the threads
+         */
+        public void start() {
+            loop.start();
+        }
+
+        /**
+         * Offers an upsert of each of the loop's KafkaTopics
+         */
+        public void offerAll() {
+            for (var upsert : upserts) {
+                loop.offer(upsert);
+            }
+        }
+
+        /**
+         * Stops the threads
+         * @throws InterruptedException If interrupted while waiting for the threads to stop.
+         */
+        public void stop() throws InterruptedException {
+            loop.stop();
+        }
+    }
+
+    /**
+     * A {@link TopicOperatorMain}
+     */
+    public static final class Operator {
+        private final TopicOperatorMain operator;
+        private final long fullReconciliationIntervalMs;
+
+        private Operator(TopicOperatorMain operator, long fullReconciliationIntervalMs) {
+            this.operator = operator;
+            this.fullReconciliationIntervalMs = fullReconciliationIntervalMs;
+        }
+
+        /**
+         * Starts the operator
+         */
+        public void start() {
+            operator.start();
+        }
+
+        /**
+         * Stops the operator
+         */
+        public void stop() {
+            operator.stop();
+        }
+
+        /**
+         * @return The number of events pending in the operator's queues.
+         */
+        public int queueSize() {
+            return operator.queue.queueSize();
+        }
+
+        /**
+         * @return The operator's full reconciliation interval, in ms.
+         */
+        public long fullReconciliationIntervalMs() {
+            return fullReconciliationIntervalMs;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaTopicStatusWriterTest {
+
+    private static final String NAMESPACE = "ns";
+
+    private final TopicOperatorMetricsHolder metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null,
+            new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    private final Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+
+    @SuppressWarnings("unchecked")
+    private KubernetesClient kubeClient(boolean blockFirstWrite) {
+        KubernetesClient client = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> op = mock(MixedOperation.class);
+        when(client.resources(KafkaTopic.class, KafkaTopicList.class)).thenReturn(op);
+        when(op.resource(any(KafkaTopic.class))).thenAnswer(invocation -> {
+            KafkaTopic kt = invocation.getArgument(0);
+            Resource<KafkaTopic> resource = mock(Resource.class);
+            when(resource.updateStatus()).thenAnswer(i -> {
+                if (blockFirstWrite && firstWriteStarted.getCount() > 0) {
+                    firstWriteStarted.countDown();
+                    releaseFirstWrite.await();
+                }
+                var failure = failures.poll();
+                if (failure != null) {
+                    throw failure;
+                }
+                written.add(kt.getMetadata().getName() + "@" + kt.getStatus().getObservedGeneration());
+                return kt;
+            });
+            return resource;
+        });
+        return client;
+    }
+
+    private static KafkaTopic kafkaTopic(String name, long observedGeneration) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                .endStatus()
+                .build();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, name);
+    }
+
+    private double counter(String name) {
+        return metrics.metricsProvider().meterRegistry().get(name).counter().count();
+    }
+
+    private void awaitWritten(int writes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (written.size() < writes && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void shouldSkipWritesWithEmptyDiff() {
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 0, 0, metrics, false);
+        writer.write(reconciliation("foo"), kafkaTopic("foo", 1), kafkaTopic("foo", 1));
+        assertEquals(List.of(), written);
+        assertEquals(1.0, counter("strimzi.reconciliations.status.writes.skipped"));
+
+        writer.write(reconciliation("foo"), kafkaTopic("foo", 1), kafkaTopic("foo", 2));
+        assertEquals(List.of("foo@2"), written);
+    }
+
+    @Test
+    void shouldCoalescePendingWritesForSameTopic() throws InterruptedException {
+        var writer = new KafkaTopicStatusWriter(kubeClient(true), 2, 0, metrics, false);
+        try {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1));
+            assertTrue(firstWriteStarted.await(10, TimeUnit.SECONDS));
+            // while foo@1 is being written, foo@2 and foo@3 are coalesced into a single pending write
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 2));
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 3));
+            releaseFirstWrite.countDown();
+
+            awaitWritten(2);
+            assertEquals(List.of("foo@1", "foo@3"), written);
+            assertEquals(1.0, counter("strimzi.reconciliations.status.writes.coalesced"));
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldLimitWriteRate() {
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 0, 20, metrics, false);
+        long start = System.nanoTime();
+        for (int i = 1; i <= 5; i++) {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", i));
+        }
+        // 5 writes at 20/s: the last one can't start until 200ms after the first
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(5, written.size());
+    }
+
+    @Test
+    void shouldCountAndPropagateFailedSynchronousWrites() {
+        failures.add(new KubernetesClientException("Boom", 500, null));
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 0, 0, metrics, false);
+        assertThrows(KubernetesClientException.class, () -> writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1)));
+        assertEquals(1.0, metrics.failedReconciliationsCounter(NAMESPACE).count());
+        assertEquals(List.of(), written);
+    }
+
+    @Test
+    void shouldRetryFailedWrites() throws InterruptedException {
+        failures.add(new KubernetesClientException("Boom", 500, null));
+        failures.add(new KubernetesClientException("Boom", 500, null));
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 1, 0, metrics, false);
+        try {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1));
+            awaitWritten(1);
+            assertEquals(List.of("foo@1"), written);
+            // the reconciliation was already counted as successful, and the write succeeded in the end
+            assertEquals(0.0, metrics.failedReconciliationsCounter(NAMESPACE).count());
+            assertEquals(0.0, metrics.statusWritesFailedCounter(NAMESPACE).count());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() throws InterruptedException {
+        for (int i = 0; i < KafkaTopicStatusWriter.MAX_ATTEMPTS; i++) {
+            failures.add(new KubernetesClientException("Boom", 500, null));
+        }
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 1, 0, metrics, false);
+        try {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!failures.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // the write was abandoned, so a later status for the same KafkaTopic is written straight away
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 2));
+            awaitWritten(1);
+            assertEquals(List.of("foo@2"), written);
+            assertEquals(0.0, metrics.failedReconciliationsCounter(NAMESPACE).count());
+            assertEquals(1.0, metrics.statusWritesFailedCounter(NAMESPACE).count());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldNotRetryWritesOfDeletedTopics() throws InterruptedException {
+        failures.add(new KubernetesClientException("Not found", 404, null));
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 1, 0, metrics, false);
+        try {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1));
+            writer.write(reconciliation("bar"), kafkaTopic("bar", 0), kafkaTopic("bar", 1));
+            awaitWritten(1);
+            Thread.sleep(300);
+            assertEquals(List.of("bar@1"), written);
+            assertEquals(0.0, metrics.failedReconciliationsCounter(NAMESPACE).count());
+            assertEquals(0.0, metrics.statusWritesFailedCounter(NAMESPACE).count());
+        } finally {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldNotRetryConflictingWrites() throws InterruptedException {
+        failures.add(new KubernetesClientException("Conflict", 409, null));
+        var writer = new KafkaTopicStatusWriter(kubeClient(false), 1, 0, metrics, false);
+        try {
+            writer.write(reconciliation("foo"), kafkaTopic("foo", 0), kafkaTopic("foo", 1));
+            writer.write(reconciliation("bar"), kafkaTopic("bar", 0), kafkaTopic("bar", 1));
+            awaitWritten(1);
+            Thread.sleep(300);
+            // retrying the same write would conflict again, so it's left for the next reconciliation
+            assertEquals(List.of("bar@1"), written);
+            assertEquals(0.0, metrics.failedReconciliationsCounter(NAMESPACE).count());
+            assertEquals(1.0, metrics.statusWritesFailedCounter(NAMESPACE).count());
+        } finally {
+            writer.stop();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiNamespaceItemStoreTest {
+
+    private static KafkaTopic kafkaTopic(String namespace, String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    void shouldRouteKeysToTheStoreOfTheirNamespace() {
+        var store1 = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        var store2 = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        var store = new MultiNamespaceItemStore(Map.of("ns-1", store1, "ns-2", store2));
+
+        var kt1 = kafkaTopic("ns-1", "my-topic");
+        var kt2 = kafkaTopic("ns-2", "my-topic");
+        store1.put(store1.getKey(kt1), kt1);
+        store.put(store.getKey(kt2), kt2);
+
+        assertEquals(1, store2.size());
+        assertEquals(2, store.size());
+        assertSame(kt1, store.get("ns-1/my-topic"));
+        assertSame(kt2, store.get("ns-2/my-topic"));
+        assertNull(store.get("ns-3/my-topic"));
+        assertNull(store.get("ns/my-topic"));
+        assertEquals(Set.of("ns-1/my-topic", "ns-2/my-topic"), store.keySet().collect(Collectors.toSet()));
+        assertEquals(Set.of(kt1, kt2), store.values().collect(Collectors.toSet()));
+
+        assertSame(kt1, store.remove("ns-1/my-topic"));
+        assertEquals(0, store1.size());
+        assertThrows(IllegalArgumentException.class, () -> store.put("ns-3/my-topic", kafkaTopic("ns-3", "my-topic")));
+    }
+}
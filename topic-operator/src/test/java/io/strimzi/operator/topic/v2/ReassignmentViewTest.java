@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReassignmentViewTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("my-topic", 0);
+
+    private final AtomicInteger listings = new AtomicInteger();
+
+    private Map<TopicPartition, PartitionReassignment> listReassignments() {
+        listings.incrementAndGet();
+        // increasing the RF from 2 to 3, by moving from brokers [0, 1] to [1, 2, 3]
+        return Map.of(PARTITION, new PartitionReassignment(List.of(0, 1, 2, 3), List.of(2, 3), List.of(0)));
+    }
+
+    @Test
+    void shouldBeDisabledByZeroMaxAge() {
+        assertFalse(new ReassignmentView(0).isEnabled());
+        assertTrue(new ReassignmentView(60_000).isEnabled());
+    }
+
+    @Test
+    void shouldComputeTargetReplicationFactors() {
+        assertEquals(Map.of(PARTITION, 3), ReassignmentView.targetReplicationFactors(listReassignments()));
+    }
+
+    @Test
+    void shouldServeFromViewUntilMaxAge() throws ExecutionException, InterruptedException {
+        var view = new ReassignmentView(60_000);
+        var result = view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments);
+        assertFalse(result.fromView());
+        assertEquals(Map.of(PARTITION, 3), result.targetReplicationFactors());
+        assertEquals(1, listings.get());
+
+        result = view.targetReplicationFactors(Set.of("my-topic", "other-topic"), this::listReassignments);
+        assertTrue(result.fromView());
+        assertEquals(Map.of(PARTITION, 3), result.targetReplicationFactors());
+        assertEquals(1, listings.get());
+    }
+
+    @Test
+    void shouldRefreshStaleView() throws ExecutionException, InterruptedException {
+        var view = new ReassignmentView(1);
+        view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments);
+        Thread.sleep(5);
+        var result = view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments);
+        assertFalse(result.fromView());
+        assertEquals(2, listings.get());
+    }
+
+    @Test
+    void shouldRefreshViewForInvalidatedTopic() throws ExecutionException, InterruptedException {
+        var view = new ReassignmentView(60_000);
+        view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments);
+        view.invalidate("my-topic");
+
+        // other topics are still served from the view
+        assertTrue(view.targetReplicationFactors(Set.of("other-topic"), this::listReassignments).fromView());
+        assertEquals(1, listings.get());
+
+        assertFalse(view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments).fromView());
+        assertEquals(2, listings.get());
+
+        // the refresh cleared the invalidation
+        assertTrue(view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments).fromView());
+        assertEquals(2, listings.get());
+    }
+
+    @Test
+    void shouldPruneInvalidationsOlderThanMaxAge() throws ExecutionException, InterruptedException {
+        var view = new ReassignmentView(1);
+        view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments);
+        // the view is never used for these topics, so it's not refreshed
+        for (int i = 0; i < 1_000; i++) {
+            view.invalidate("topic-" + i);
+        }
+        Thread.sleep(5);
+        view.invalidate("my-topic");
+        assertEquals(1, view.invalidatedSize());
+
+        // the pruned invalidations are redundant, because the view is stale
+        assertFalse(view.targetReplicationFactors(Set.of("topic-0"), this::listReassignments).fromView());
+    }
+
+    @Test
+    void shouldRetryAfterFailedRefresh() throws ExecutionException, InterruptedException {
+        var view = new ReassignmentView(60_000);
+        assertThrows(ExecutionException.class, () -> view.targetReplicationFactors(Set.of("my-topic"), () -> {
+            throw new ExecutionException(new TimeoutException());
+        }));
+        assertFalse(view.targetReplicationFactors(Set.of("my-topic"), this::listReassignments).fromView());
+        assertEquals(1, listings.get());
+    }
+}
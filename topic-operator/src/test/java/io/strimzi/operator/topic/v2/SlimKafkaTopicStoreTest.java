@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.api.ResourceAnnotations;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlimKafkaTopicStoreTest {
+
+    private static KafkaTopic kafkaTopic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    // new String(...) so that the strings are not already interned literals
+                    .withNamespace(new String("my-namespace"))
+                    .withName(name)
+                    .withLabels(Map.of(new String("strimzi.io/cluster"), new String("my-cluster")))
+                    .withAnnotations(Map.of(
+                            "kubectl.kubernetes.io/last-applied-configuration", "{\"spec\":{}}",
+                            "example.com/other", "value",
+                            new String(BatchingTopicController.MANAGED), "false",
+                            ResourceAnnotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true"))
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").withOperation("Update").build())
+                    .withFinalizers(new String(BatchingTopicController.FINALIZER))
+                    .withGeneration(1L)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(1)
+                    .addToConfig(new String("retention.ms"), 3_600_000)
+                .endSpec()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType(new String("Ready"))
+                        .withStatus(new String("True"))
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    void shouldRemoveUnusedFields() {
+        var kt = SlimKafkaTopicStore.slim(kafkaTopic("my-topic"));
+        assertTrue(kt.getMetadata().getManagedFields() == null || kt.getMetadata().getManagedFields().isEmpty());
+        assertEquals(Map.of(BatchingTopicController.MANAGED, "false",
+                        ResourceAnnotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true"),
+                kt.getMetadata().getAnnotations());
+        assertTrue(BatchingTopicController.isPaused(kt));
+        assertFalse(BatchingTopicController.isManaged(kt));
+    }
+
+    @Test
+    void shouldRetainUsedFields() {
+        var kt = SlimKafkaTopicStore.slim(kafkaTopic("my-topic"));
+        assertEquals("my-namespace", kt.getMetadata().getNamespace());
+        assertEquals("my-topic", kt.getMetadata().getName());
+        assertEquals(Map.of("strimzi.io/cluster", "my-cluster"), kt.getMetadata().getLabels());
+        assertEquals(List.of(BatchingTopicController.FINALIZER), kt.getMetadata().getFinalizers());
+        assertEquals(1L, kt.getMetadata().getGeneration());
+        assertEquals("1", kt.getMetadata().getResourceVersion());
+        assertEquals(Map.of("retention.ms", 3_600_000), kt.getSpec().getConfig());
+        assertEquals("Ready", kt.getStatus().getConditions().get(0).getType());
+    }
+
+    @Test
+    void shouldShareRepeatedStrings() {
+        var kt1 = SlimKafkaTopicStore.slim(kafkaTopic("my-topic-1"));
+        var kt2 = SlimKafkaTopicStore.slim(kafkaTopic("my-topic-2"));
+        assertSame(kt1.getMetadata().getNamespace(), kt2.getMetadata().getNamespace());
+        assertSame(kt1.getMetadata().getLabels().keySet().iterator().next(), kt2.getMetadata().getLabels().keySet().iterator().next());
+        assertSame(kt1.getMetadata().getLabels().get("strimzi.io/cluster"), kt2.getMetadata().getLabels().get("strimzi.io/cluster"));
+        assertSame(kt1.getMetadata().getFinalizers().get(0), kt2.getMetadata().getFinalizers().get(0));
+        assertSame(kt1.getSpec().getConfig().keySet().iterator().next(), kt2.getSpec().getConfig().keySet().iterator().next());
+        assertSame(kt1.getStatus().getConditions().get(0).getType(), kt2.getStatus().getConditions().get(0).getType());
+    }
+
+    @Test
+    void shouldSlimTopicsPutInTheStore() {
+        var store = new SlimKafkaTopicStore(new BasicItemStore<>(Cache::metaNamespaceKeyFunc));
+        var kt = kafkaTopic("my-topic");
+        var key = store.getKey(kt);
+        assertNull(store.put(key, kt));
+        assertEquals(1, store.size());
+        assertEquals(Map.of(BatchingTopicController.MANAGED, "false",
+                        ResourceAnnotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true"),
+                store.get(key).getMetadata().getAnnotations());
+        assertEquals(List.of(key), store.keySet().toList());
+        assertSame(store.get(key), store.remove(key));
+        assertEquals(0, store.size());
+    }
+}
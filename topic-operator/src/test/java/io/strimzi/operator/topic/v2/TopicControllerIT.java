@@ -1228,11 +1228,11 @@ class TopicControllerIT {
 
     private static TopicOperatorConfig topicOperatorConfig(String ns, KafkaCluster kafkaCluster, boolean useFinalizer, long fullReconciliationIntervalMs) {
         return new TopicOperatorConfig(ns, Labels.fromMap(SELECTOR),
-                kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), fullReconciliationIntervalMs,
+                kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), fullReconciliationIntervalMs, 1,
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 useFinalizer,
-                100, 100, 10, false);
+                100, false, 100, 10, false, 1, false, 0, 0, false, 4, 100, false);
     }
 
     @ParameterizedTest
@@ -1997,11 +1997,11 @@ class TopicControllerIT {
         String ns = namespace(NAMESPACE);
 
         var config = new TopicOperatorConfig(ns, Labels.fromMap(SELECTOR),
-                kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), 10_000,
+                kafkaCluster.getBootstrapServers(), TopicControllerIT.class.getSimpleName(), 10_000, 1,
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 true,
-                1, 100, 5_0000, false);
+                1, false, 100, 5_0000, false, 1, false, 0, 0, false, 4, 100, false);
 
         maybeStartOperator(config);
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicEventQueueTest {
+
+    private static TopicUpsert upsert(String name, String resourceVersion) {
+        return new TopicUpsert(System.nanoTime(), "ns", name, resourceVersion);
+    }
+
+    private static TopicDelete delete(String name, String resourceVersion) {
+        return new TopicDelete(System.nanoTime(), new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build());
+    }
+
+    private static TopicEvent poll(TopicEventQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldBeFifo() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("a", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("b", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("c", "1")));
+        assertEquals(3, queue.size());
+
+        assertEquals("a", poll(queue).name());
+        assertEquals("b", poll(queue).name());
+        assertEquals("c", poll(queue).name());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldCoalesceUpserts() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var first = upsert("a", "1");
+        queue.offer(first);
+        queue.offer(upsert("b", "1"));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "2")));
+        assertEquals(2, queue.size());
+
+        var polled = (TopicUpsert) poll(queue);
+        // keeps the position and start offset of the first upsert, but the latest resourceVersion
+        assertEquals("a", polled.name());
+        assertEquals("2", polled.resourceVersion());
+        assertEquals(first.nanosStartOffset(), polled.nanosStartOffset());
+        assertEquals("b", poll(queue).name());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldCollapseUpsertAndDeleteToDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "1"));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(delete("a", "2")));
+
+        var polled = poll(queue);
+        assertInstanceOf(TopicDelete.class, polled);
+        assertEquals("2", polled.resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldRequeueUpsertFollowingDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(delete("a", "1"));
+        queue.offer(upsert("b", "1"));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "2")));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "3")));
+        assertEquals(2, queue.size());
+
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        // the upsert goes to the tail
+        assertEquals("b", poll(queue).name());
+        var polled = poll(queue);
+        assertInstanceOf(TopicUpsert.class, polled);
+        assertEquals("3", polled.resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldBoundDistinctTopics() throws InterruptedException {
+        var queue = new TopicEventQueue(2);
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("a", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("b", "1")));
+        assertEquals(TopicEventQueue.OfferResult.FULL, queue.offer(upsert("c", "1")));
+        // events for pending topics can still be accepted when full
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(upsert("a", "2")));
+        // and so can events being returned to the head of the queue
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offerFirst(upsert("c", "1")));
+        assertEquals(3, queue.size());
+
+        assertEquals("c", poll(queue).name());
+        assertEquals("a", poll(queue).name());
+        assertEquals("b", poll(queue).name());
+    }
+
+    @Test
+    void shouldCoalesceReturnedEventWithMoreRecentEvent() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "2"));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offerFirst(upsert("a", "1")));
+        assertEquals("2", poll(queue).resourceVersion());
+
+        queue.offer(upsert("a", "4"));
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offerFirst(delete("a", "3")));
+        assertInstanceOf(TopicDelete.class, poll(queue));
+        assertEquals("4", poll(queue).resourceVersion());
+        assertNull(poll(queue));
+    }
+
+    @Test
+    void shouldSpillToOverflowWhenFull() throws InterruptedException {
+        List<Long> throttledNs = new ArrayList<>();
+        var queue = new TopicEventQueue(2, true, throttledNs::add);
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("a", "1")));
+        assertEquals(TopicEventQueue.OfferResult.ADDED, queue.offer(upsert("b", "1")));
+        assertEquals(TopicEventQueue.OfferResult.SPILLED, queue.offer(upsert("c", "1")));
+        assertEquals(TopicEventQueue.OfferResult.SPILLED, queue.offer(upsert("d", "1")));
+        // events in the overflow are coalesced too
+        assertEquals(TopicEventQueue.OfferResult.COALESCED, queue.offer(delete("c", "2")));
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.overflowSize());
+
+        Thread.sleep(10);
+        assertEquals("a", poll(queue).name());
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.overflowSize());
+        // the throttled time is reported while the overflow is still not empty
+        assertEquals(1, throttledNs.size());
+        assertTrue(throttledNs.get(0) >= TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals("b", poll(queue).name());
+        assertEquals(0, queue.overflowSize());
+        assertEquals(2, throttledNs.size());
+        assertTrue(throttledNs.get(1) >= 0);
+
+        // nothing more is reported once the overflow is empty
+        var polled = poll(queue);
+        assertEquals("c", polled.name());
+        assertInstanceOf(TopicDelete.class, polled);
+        assertEquals("d", poll(queue).name());
+        assertNull(poll(queue));
+        assertEquals(2, throttledNs.size());
+    }
+}
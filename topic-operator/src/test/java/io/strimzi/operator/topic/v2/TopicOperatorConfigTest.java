@@ -14,7 +14,9 @@ import org.apache.kafka.common.config.SslConfigs;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -252,6 +254,33 @@ class TopicOperatorConfigTest {
         assertEquals("password_for_keystore", adminConfig.get(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG));
     }
 
+    @Test
+    void shouldParseNamespaces() {
+        assertEquals(Set.of("some-namespace"), namespacesConfig("some-namespace").namespaces());
+        assertEquals(Set.of("ns-1", "ns-2"), namespacesConfig("ns-1, ns-2").namespaces());
+        assertEquals(Set.of("*"), namespacesConfig("*").namespaces());
+        assertThrows(InvalidConfigurationException.class, () -> namespacesConfig("ns-1;ns-2"));
+    }
+
+    @Test
+    void shouldRejectNonPositiveStatusWriterConfigs() {
+        for (var param : List.of(TopicOperatorConfig.STATUS_WRITER_THREADS, TopicOperatorConfig.STATUS_WRITER_MAX_QPS)) {
+            for (var value : List.of("0", "-1")) {
+                assertThrows(InvalidConfigurationException.class, () -> TopicOperatorConfig.buildFromMap(Map.of(
+                        TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                        TopicOperatorConfig.NAMESPACE.key(), "some-namespace",
+                        TopicOperatorConfig.ASYNC_STATUS_UPDATES.key(), "true",
+                        param.key(), value)));
+            }
+        }
+    }
+
+    private static TopicOperatorConfig namespacesConfig(String namespaces) {
+        return TopicOperatorConfig.buildFromMap(Map.of(
+                TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:1234",
+                TopicOperatorConfig.NAMESPACE.key(), namespaces));
+    }
+
     @Test
     void shouldMaskSecuritySensitiveConfigsInToString() {
         var config = TopicOperatorConfig.buildFromMap(Map.ofEntries(
@@ -133,7 +133,11 @@ public class TopicOperatorMetricsTest {
         assertMetricMatches("strimzi.reconciliations.max.queue.size", tags, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_QUEUE_SIZE)));
         assertMetricMatches("strimzi.reconciliations.max.batch.size", tags, "gauge", greaterThan(0.0));
         assertMetricMatches("strimzi.reconciliations.max.batch.size", tags, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_BATCH_SIZE)));
-        assertMetricMatches("strimzi.reconciliations.locked", tags, "counter", greaterThan(0.0));
+        assertMetricMatches("strimzi.reconciliations.coalesced", tags, "counter", greaterThan(0.0));
+        for (int thread = 0; thread < MAX_THREADS; thread++) {
+            String[] threadTags = new String[]{"kind", RESOURCE_KIND, "namespace", NAMESPACE, "thread", String.valueOf(thread)};
+            assertMetricMatches("strimzi.reconciliations.batch.thread.queue.size", threadTags, "gauge", lessThanOrEqualTo(Double.valueOf(MAX_QUEUE_SIZE)));
+        }
         batchingLoop.stop();
     }
     
@@ -143,10 +147,12 @@ public class TopicOperatorMetricsTest {
         Runnable stop = mock(Runnable.class);
         BatchingLoop batchingLoop = new BatchingLoop(
             MAX_QUEUE_SIZE,
+            false,
             controller,
             MAX_THREADS,
             MAX_BATCH_SIZE,
             MAX_BATCH_LINGER_MS,
+            false,
             itemStore,
             stop,
             metrics,
@@ -158,7 +164,11 @@ public class TopicOperatorMetricsTest {
     @Test
     public void shouldHaveMetricsAfterSomeReconciliations(KafkaCluster cluster) throws ExecutionException, InterruptedException {
         Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers()));
-        BatchingTopicController controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE, true);
+        var config = TopicOperatorConfig.buildFromMap(Map.of(
+            TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "localhost:9092",
+            TopicOperatorConfig.NAMESPACE.key(), NAMESPACE,
+            TopicOperatorConfig.ENABLE_ADDITIONAL_METRICS.key(), "true"));
+        BatchingTopicController controller = new BatchingTopicController(config, Map.of("key", "VALUE"), admin, client, metrics);
 
         KafkaTopic t1 = createResource(client, "t1", "t1");
         KafkaTopic t2 = createResource(client, "t2", "t1");
@@ -0,0 +1,150 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.ResourceAnnotations;
+import io.strimzi.api.kafka.model.common.ConditionBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicResyncPacerTest {
+
+    private static final long INTERVAL_MS = 120_000;
+    private static final int SLOTS = 4;
+    private static final long SLOT_NS = INTERVAL_MS / SLOTS * 1_000_000;
+
+    private static KafkaTopic kafkaTopic(String name, long generation, long observedGeneration, String ready, int partitions) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(partitions)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(ready)
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static KafkaTopic settled(String name) {
+        return kafkaTopic(name, 1, 1, "True", 1);
+    }
+
+    @Test
+    void shouldReconcileEveryResyncWithOneSlot() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, 1);
+        assertFalse(pacer.isEnabled());
+        var kt = settled("foo");
+        pacer.onReconcile(kt, 0);
+        assertTrue(pacer.shouldReconcileResync(kt, 1));
+        assertTrue(pacer.shouldReconcileResync(kt, 2));
+    }
+
+    @Test
+    void shouldReconcileUnsettledTopicsOncePerInterval() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, SLOTS);
+        var notReady = kafkaTopic("foo", 1, 1, "False", 1);
+        var notObserved = kafkaTopic("bar", 2, 1, "True", 1);
+        var paused = new KafkaTopicBuilder(settled("baz"))
+                .editMetadata()
+                    .addToAnnotations(ResourceAnnotations.ANNO_STRIMZI_IO_PAUSE_RECONCILIATION, "true")
+                .endMetadata()
+                .editStatus()
+                    .withObservedGeneration(0L)
+                    .withConditions(new ConditionBuilder().withType("ReconciliationPaused").withStatus("True").build())
+                .endStatus()
+                .build();
+        var unsettled = List.of(notReady, notObserved, paused);
+
+        // never seen before
+        for (var kt : unsettled) {
+            assertTrue(pacer.shouldReconcileResync(kt, 0));
+        }
+        // not reconciled on the resyncs of the other slots, which would multiply their reconciliations by the slots
+        for (int resync = 1; resync < SLOTS; resync++) {
+            for (var kt : unsettled) {
+                assertFalse(pacer.shouldReconcileResync(kt, resync * SLOT_NS));
+            }
+        }
+        // but still reconciled once per interval, as without pacing, even if the resync is a bit early
+        for (var kt : unsettled) {
+            assertTrue(pacer.shouldReconcileResync(kt, SLOTS * SLOT_NS - 1_000_000));
+            assertFalse(pacer.shouldReconcileResync(kt, (SLOTS + 1) * SLOT_NS));
+        }
+    }
+
+    @Test
+    void shouldReconcileTopicsWhoseSpecChanged() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, SLOTS);
+        pacer.onReconcile(settled("foo"), 0);
+        assertFalse(pacer.shouldReconcileResync(settled("foo"), 1));
+        assertTrue(pacer.shouldReconcileResync(kafkaTopic("foo", 1, 1, "True", 2), 1));
+    }
+
+    @Test
+    void shouldReverifyEachSettledTopicOncePerInterval() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, SLOTS);
+        List<KafkaTopic> topics = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            var kt = settled("topic-" + i);
+            topics.add(kt);
+            pacer.onReconcile(kt, 0);
+        }
+        // not re-verified within the slot in which they were reconciled
+        for (var kt : topics) {
+            assertFalse(pacer.shouldReconcileResync(kt, 1));
+        }
+
+        int[] reverified = new int[topics.size()];
+        int maxPerResync = 0;
+        for (int resync = 1; resync <= 2 * SLOTS; resync++) {
+            int count = 0;
+            for (int i = 0; i < topics.size(); i++) {
+                if (pacer.shouldReconcileResync(topics.get(i), resync * SLOT_NS)) {
+                    reverified[i]++;
+                    count++;
+                }
+            }
+            maxPerResync = Math.max(maxPerResync, count);
+        }
+        for (int count : reverified) {
+            assertEquals(2, count);
+        }
+        assertTrue(maxPerResync < topics.size(), "Expected re-verification to be spread over the interval, but got " + maxPerResync);
+    }
+
+    @Test
+    void shouldReconcileTopicsWhichMissedTheirSlot() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, SLOTS);
+        var kt = settled("foo");
+        pacer.onReconcile(kt, 0);
+        assertTrue(pacer.shouldReconcileResync(kt, (SLOTS + 1) * SLOT_NS));
+    }
+
+    @Test
+    void shouldForgetDeletedTopics() {
+        var pacer = new TopicResyncPacer(INTERVAL_MS, SLOTS);
+        var kt = settled("foo");
+        pacer.onReconcile(kt, 0);
+        assertFalse(pacer.shouldReconcileResync(kt, 1));
+        pacer.forget(kt);
+        assertTrue(pacer.shouldReconcileResync(kt, 2));
+    }
+}
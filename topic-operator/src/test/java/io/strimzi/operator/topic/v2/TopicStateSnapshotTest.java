@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicStateSnapshotTest {
+
+    private static BatchingTopicController.CurrentState state() {
+        var node = new Node(0, "localhost", 9092);
+        var description = new TopicDescription("my-topic", false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node))));
+        var configs = new Config(List.of(
+                new ConfigEntry("cleanup.policy", "compact", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null),
+                new ConfigEntry("retention.ms", "604800000", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), null, null),
+                new ConfigEntry("segment.bytes", "1073741824", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), null, null)));
+        return new BatchingTopicController.CurrentState(description, configs);
+    }
+
+    @Test
+    void shouldBeDisabledByZeroMaxAge() {
+        var snapshot = new TopicStateSnapshot(0);
+        assertFalse(snapshot.isEnabled());
+        snapshot.put("my-topic", state(), Set.of());
+        assertEquals(0, snapshot.size());
+        assertNull(snapshot.get("my-topic"));
+    }
+
+    @Test
+    void shouldRetainOnlyNonDefaultOrSpecifiedConfigs() {
+        var snapshot = new TopicStateSnapshot(60_000);
+        assertTrue(snapshot.isEnabled());
+        snapshot.put("my-topic", state(), Set.of("retention.ms"));
+
+        var state = snapshot.get("my-topic");
+        assertNotNull(state);
+        assertEquals(1, state.numPartitions());
+        assertEquals("compact", state.configs().get("cleanup.policy").value());
+        assertEquals("604800000", state.configs().get("retention.ms").value());
+        assertNull(state.configs().get("segment.bytes"));
+    }
+
+    @Test
+    void shouldInvalidate() {
+        var snapshot = new TopicStateSnapshot(60_000);
+        snapshot.put("my-topic", state(), Set.of());
+        assertEquals(1, snapshot.size());
+        snapshot.invalidate("my-topic");
+        assertEquals(0, snapshot.size());
+        assertNull(snapshot.get("my-topic"));
+    }
+
+    @Test
+    void shouldExpireEntries() throws InterruptedException {
+        var snapshot = new TopicStateSnapshot(1);
+        snapshot.put("my-topic", state(), Set.of());
+        Thread.sleep(5);
+        assertNull(snapshot.get("my-topic"));
+        assertEquals(0, snapshot.size());
+    }
+}
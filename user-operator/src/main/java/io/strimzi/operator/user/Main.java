@@ -16,8 +16,9 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.CertificateCacheMetrics;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
@@ -28,9 +29,11 @@ import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.KeyPairPool;
 import io.strimzi.operator.user.operator.QuotasOperator;
 import io.strimzi.operator.user.operator.ScramCredentialsOperator;
 import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -78,20 +81,23 @@ public class Main {
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-user-operator", Main.class.getPackage().getImplementationVersion()).build();
         SecretOperator secretOperator = new SecretOperator(kafkaUserOperatorExecutor, client);
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
+        MetricsProvider metricsProvider = createMetricsProvider();
+        CacheRefreshScheduler cacheRefreshScheduler = new CacheRefreshScheduler(metricsProvider);
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
+        CertManager certManager = config.getCertManagerType().create();
+        KeyPairPool keyPairPool = config.getKeyPairPoolSize() > 0 ? new KeyPairPool(certManager, config.getKeyPairPoolSize(), config.getKeyPairPoolRefillIntervalMs(), metricsProvider) : null;
 
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                certManager,
+                keyPairPool,
                 secretOperator,
                 kafkaUserCrdOperator,
-                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
-                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor),
-                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
+                new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor, cacheRefreshScheduler),
+                new QuotasOperator(adminClient, config, kafkaUserOperatorExecutor, cacheRefreshScheduler),
+                config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor, cacheRefreshScheduler) : new DisabledSimpleAclOperator()
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
@@ -117,6 +123,7 @@ public class Main {
 
             LOGGER.info("Requesting KafkaUser operator to stop");
             kafkaUserOperator.stop();
+            cacheRefreshScheduler.stop();
             kafkaUserOperatorExecutor.shutdownNow(); // We do not wait for termination
 
             LOGGER.info("Requesting controller to stop");
@@ -184,6 +191,9 @@ public class Main {
         new ProcessorMetrics().bindTo(registry);
         new JvmThreadMetrics().bindTo(registry);
 
+        // Bind the certificate cache metrics
+        new CertificateCacheMetrics().bindTo(registry);
+
         return new MicrometerMetricsProvider(registry);
     }
 
@@ -35,10 +35,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * User controller is responsible for queueing the reconciliations of the Kafka Users. It does so by watching for the
@@ -64,6 +66,7 @@ public class UserController implements Liveness, Readiness {
     private final SharedIndexInformer<KafkaUser> userInformer;
 
     private final ScheduledExecutorService scheduledExecutor;
+    private final ExecutorService reconciliationExecutor;
 
     /**
      * Creates the User controller responsible for controlling users in a single
@@ -119,10 +122,19 @@ public class UserController implements Liveness, Readiness {
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
-        // Create a thread pool for the reconciliation loops and add the reconciliation loops
-        this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
-        for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+        if (config.getControllerMaxConcurrentReconciliations() > 0) {
+            // A single reconciliation loop dispatches the reconciliations to threads which are created only when needed
+            // and which terminate after being idle for a minute
+            AtomicInteger threadCounter = new AtomicInteger(0);
+            this.reconciliationExecutor = Executors.newCachedThreadPool(r -> new Thread(r, RESOURCE_KIND + "-Reconciliation-" + threadCounter.getAndIncrement()));
+            this.threadPool = List.of(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop", workQueue, lockManager, scheduledExecutor, reconciliationExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+        } else {
+            // Create a thread pool for the reconciliation loops and add the reconciliation loops
+            this.reconciliationExecutor = null;
+            this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
+            for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
+                threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, null, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+            }
         }
     }
 
@@ -131,11 +143,12 @@ public class UserController implements Liveness, Readiness {
      *
      * @param user    User which triggered the event
      * @param action  Type of the event
+     * @param trigger Trigger of the reconciliation (watch or timer)
      */
 
-    private void enqueueKafkaUser(KafkaUser user, String action) {
+    private void enqueueKafkaUser(KafkaUser user, String action, String trigger) {
         LOGGER.infoOp("{} {} in namespace {} was {}", RESOURCE_KIND, user.getMetadata().getName(), user.getMetadata().getNamespace(), action);
-        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName()));
+        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName(), trigger));
     }
 
     /**
@@ -143,18 +156,19 @@ public class UserController implements Liveness, Readiness {
      *
      * @param userSecret    Secret which triggered the event
      * @param action        Type of the event
+     * @param trigger       Trigger of the reconciliation (watch or timer)
      */
-    private void enqueueUserSecret(Secret userSecret, String action) {
+    private void enqueueUserSecret(Secret userSecret, String action, String trigger) {
         LOGGER.infoOp("Secret {} in namespace {} was {}", userSecret.getMetadata().getName(), userSecret.getMetadata().getNamespace(), action);
 
         // When no secret prefix is configured, we reconcile for every secret
         // When prefix is configured and the Secret starts with it, we remove the prefix and use it as username
         // When prefix is configured and the Secret name does not start with it, we ignore it
         if (secretPrefix == null || secretPrefix.isEmpty()) {
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName()));
+            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName(), trigger));
         } else if (userSecret.getMetadata().getName().startsWith(secretPrefix)) {
             String kafkaUser = userSecret.getMetadata().getName().substring(secretPrefix.length());
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), kafkaUser));
+            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), kafkaUser, trigger));
         }
     }
 
@@ -183,6 +197,11 @@ public class UserController implements Liveness, Readiness {
             }
         });
 
+        if (reconciliationExecutor != null) {
+            // The controller loop waits for its reconciliations to finish before stopping
+            reconciliationExecutor.shutdown();
+        }
+
         // Can't stop the informers before the controller, because the controllers depend on the indexers, which depend
         // on the informers. So stopping the informers first would break the controller and cause errors.
         InformerUtils.stopAll(5_000L, userInformer, secretInformer);
@@ -303,7 +322,7 @@ public class UserController implements Liveness, Readiness {
                 metrics.pausedResourceCounter(user.getMetadata().getNamespace()).incrementAndGet();
             }
 
-            enqueueKafkaUser(user, "ADDED");
+            enqueueKafkaUser(user, "ADDED", "watch");
         }
 
         @Override
@@ -316,7 +335,7 @@ public class UserController implements Liveness, Readiness {
                 metrics.pausedResourceCounter(watchedNamespace).incrementAndGet();
             }
 
-            enqueueKafkaUser(newUser, "MODIFIED");
+            enqueueKafkaUser(newUser, "MODIFIED", InformerUtils.updateTrigger(oldUser, newUser));
         }
 
         @Override
@@ -328,7 +347,7 @@ public class UserController implements Liveness, Readiness {
                 metrics.pausedResourceCounter(watchedNamespace).decrementAndGet();
             }
 
-            enqueueKafkaUser(user, "DELETED");
+            enqueueKafkaUser(user, "DELETED", "watch");
         }
     }
 
@@ -338,17 +357,17 @@ public class UserController implements Liveness, Readiness {
     private class SecretEventHandler implements ResourceEventHandler<Secret> {
         @Override
         public void onAdd(Secret secret) {
-            enqueueUserSecret(secret, "ADDED");
+            enqueueUserSecret(secret, "ADDED", "watch");
         }
 
         @Override
         public void onUpdate(Secret oldSecret, Secret newSecret) {
-            enqueueUserSecret(newSecret, "MODIFIED");
+            enqueueUserSecret(newSecret, "MODIFIED", InformerUtils.updateTrigger(oldSecret, newSecret));
         }
 
         @Override
         public void onDelete(Secret secret, boolean deletedFinalStateUnknown) {
-            enqueueUserSecret(secret, "DELETED");
+            enqueueUserSecret(secret, "DELETED", "watch");
         }
     }
 }
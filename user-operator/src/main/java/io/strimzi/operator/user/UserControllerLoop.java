@@ -29,9 +29,11 @@ import io.strimzi.operator.user.operator.KafkaUserOperator;
 
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -41,6 +43,7 @@ import java.util.concurrent.TimeoutException;
  */
 public class UserControllerLoop extends AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerLoop.class);
+    private static final String PERIODIC_TRIGGER = "timer";
 
     private final Lister<KafkaUser> userLister;
     private final Lister<Secret> secretLister;
@@ -61,6 +64,9 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
      * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
      *                              used to run the progress warnings
+     * @param reconciliationExecutor Executor service used to run the reconciliations or null to run them in the thread
+     *                              of this loop. When used, up to STRIMZI_CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS
+     *                              reconciliations run in parallel.
      * @param userLister            The KafkaUser resource lister for getting the resources
      * @param secretLister          The Secret lister for getting the secrets
      * @param userCrdOperator       For operating on KafkaUser resources
@@ -73,6 +79,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerQueue workQueue,
             ReconciliationLockManager lockManager,
             ScheduledExecutorService scheduledExecutor,
+            ExecutorService reconciliationExecutor,
             Lister<KafkaUser> userLister,
             Lister<Secret> secretLister,
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator,
@@ -80,7 +87,8 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, lockManager, scheduledExecutor, reconciliationExecutor,
+                reconciliationExecutor == null ? 1 : config.getControllerMaxConcurrentReconciliations());
 
         this.userLister = userLister;
         this.secretLister = secretLister;
@@ -111,8 +119,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             maybeUpdateStatus(reconciliation, user, status);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
-            CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
-                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
+            CompletionStage<KafkaUserStatus> reconciliationResult = reconcileUser(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
 
             try {
                 KafkaUserStatus status = new KafkaUserStatus();
@@ -144,6 +151,33 @@ public class UserControllerLoop extends AbstractControllerLoop {
         }
     }
 
+    /**
+     * Reconciles the user. The periodic reconciliations of the users which did not change since their last successful
+     * reconciliation are skipped.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param user              The KafkaUser resource or null if it was deleted
+     * @param userSecret        The user Secret or null if it does not exist
+     *
+     * @return  CompletionStage with the status of the user
+     */
+    private CompletionStage<KafkaUserStatus> reconcileUser(Reconciliation reconciliation, KafkaUser user, Secret userSecret) {
+        if (user != null && PERIODIC_TRIGGER.equals(reconciliation.trigger())) {
+            return userOperator.statusIfUnchanged(reconciliation, user, userSecret)
+                    .thenCompose(status -> {
+                        if (status != null) {
+                            LOGGER.debugCr(reconciliation, "{} {} in namespace {} did not change since its last reconciliation", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                            metrics().skippedReconciliationsCounter(reconciliation.namespace()).increment();
+                            return CompletableFuture.completedStage(status);
+                        } else {
+                            return userOperator.reconcile(reconciliation, user, userSecret);
+                        }
+                    });
+        } else {
+            return userOperator.reconcile(reconciliation, user, userSecret);
+        }
+    }
+
     /**
      * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
      *
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
 
@@ -15,6 +16,7 @@ import java.util.Properties;
 import java.util.Set;
 
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.CERT_MANAGER_TYPE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LONG;
@@ -100,7 +102,15 @@ public class UserOperatorConfig {
      */
     public static final ConfigParameter<Integer> CONTROLLER_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CONTROLLER_THREAD_POOL_SIZE", INTEGER, "50", CONFIG_VALUES);
     /**
-     * Refresh interval for the cache storing the resources from the Kafka Admin API
+     * Maximal number of users reconciled in parallel by threads created on demand. When set to 0, the users are
+     * reconciled by the fixed pool of controller threads instead.
+     */
+    public static final ConfigParameter<Integer> CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS", INTEGER, "0", CONFIG_VALUES);
+    /**
+     * Refresh interval for the cache storing the resources from the Kafka Admin API. The caches of unchanged or
+     * expensive resources are refreshed less often, but never less often than every 4 refresh intervals. Changes made
+     * in Kafka outside of the operator are corrected at most 4 refresh intervals plus one full reconciliation interval
+     * after they were made.
      */
     public static final ConfigParameter<Long> CACHE_REFRESH_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CACHE_REFRESH_INTERVAL_MS", LONG, "15000", CONFIG_VALUES);
     /**
@@ -115,10 +125,28 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Maximal number of batches of Kafka Admin API requests which are sent to Kafka at the same time by each
+     * micro-batching reconciler
+     */
+    public static final ConfigParameter<Integer> BATCH_MAXIMUM_IN_FLIGHT_BATCHES = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_IN_FLIGHT_BATCHES", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
     public static final ConfigParameter<Integer> USER_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+    /**
+     * Certificate manager implementation used to generate the user certificates (openssl or java)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER = new ConfigParameter<>("STRIMZI_CERT_MANAGER_TYPE", CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+    /**
+     * Number of pre-generated key pairs used for the new user certificates. When set to 0, the key pairs are generated
+     * together with the certificates.
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_SIZE", INTEGER, "32", CONFIG_VALUES);
+    /**
+     * Minimal delay between generating two key pairs when refilling the key pair pool
+     */
+    public static final ConfigParameter<Long> KEY_PAIR_POOL_REFILL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_REFILL_INTERVAL_MS", LONG, "100", CONFIG_VALUES);
     /**
      * Additional configuration for the Kafka Admin Client
      */
@@ -317,6 +345,14 @@ public class UserOperatorConfig {
         return get(CONTROLLER_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Maximal number of users reconciled in parallel by threads created on demand, or 0 when the fixed pool of
+     *          controller threads is used instead
+     */
+    public int getControllerMaxConcurrentReconciliations() {
+        return get(CONTROLLER_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
     /**
      * @return  Refresh interval for the cache storing the resources from the Kafka Admin API
      */
@@ -345,6 +381,13 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Maximal number of batches which each micro-batching reconciler sends to Kafka at the same time
+     */
+    public int getBatchMaxInFlightBatches() {
+        return get(BATCH_MAXIMUM_IN_FLIGHT_BATCHES);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -352,6 +395,27 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Type of the certificate manager used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER);
+    }
+
+    /**
+     * @return  Number of pre-generated key pairs used for the new user certificates
+     */
+    public int getKeyPairPoolSize() {
+        return get(KEY_PAIR_POOL_SIZE);
+    }
+
+    /**
+     * @return  Minimal delay in milliseconds between generating two key pairs when refilling the key pair pool
+     */
+    public long getKeyPairPoolRefillIntervalMs() {
+        return get(KEY_PAIR_POOL_REFILL_INTERVAL_MS);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -389,11 +453,16 @@ public class UserOperatorConfig {
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
                 "\n\tworkQueueSize=" + getWorkQueueSize() +
                 "\n\tcontrollerThreadPoolSize=" + getControllerThreadPoolSize() +
+                "\n\tcontrollerMaxConcurrentReconciliations=" + getControllerMaxConcurrentReconciliations() +
                 "\n\tcacheRefresh=" + getCacheRefresh() +
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchMaxInFlightBatches=" + getBatchMaxInFlightBatches() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tkeyPairPoolSize=" + getKeyPairPoolSize() +
+                "\n\tkeyPairPoolRefillIntervalMs=" + getKeyPairPoolRefillIntervalMs() +
                 '}';
     }
 }
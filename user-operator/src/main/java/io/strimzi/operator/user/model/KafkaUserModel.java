@@ -28,6 +28,7 @@ import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.user.model.acl.AclRuleInterner;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 
 import javax.naming.InvalidNameException;
@@ -41,6 +42,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -209,6 +211,8 @@ public class KafkaUserModel {
      * @param reconciliation The reconciliation
      * @param certManager CertManager instance for handling certificates creation
      * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param privateKeySupplier Supplier of pre-generated private keys for new certificates or null to generate the
+     *                           private keys together with the certificates
      * @param clientsCaCertSecret The clients CA certificate Secret.
      * @param clientsCaKeySecret The clients CA key Secret.
      * @param userSecret Secret with the user certificate
@@ -220,7 +224,7 @@ public class KafkaUserModel {
      */
     @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
-                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
+                                          Supplier<byte[]> privateKeySupplier, Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
                                           int renewalDays, List<String> maintenanceWindows, Clock clock) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
@@ -236,6 +240,7 @@ public class KafkaUserModel {
                 renewalDays,
                 false,
                 null);
+        clientsCa.setPrivateKeySupplier(privateKeySupplier);
         this.caCert = clientsCa.currentCaCertBase64();
 
         if (userSecret != null) {
@@ -557,7 +562,8 @@ public class KafkaUserModel {
     }
 
     /**
-     * Sets the list of ACL rules for Simple authorization.
+     * Sets the list of ACL rules for Simple authorization. The resulting set of ACL rules is interned, so users with the
+     * same ACL rules share it.
      *
      * @param rules List of ACL rules which should be applied to this user.
      */
@@ -568,7 +574,7 @@ public class KafkaUserModel {
             simpleAclRules.addAll(SimpleAclRule.fromCrd(rule));
         }
 
-        this.simpleAclRules = simpleAclRules;
+        this.simpleAclRules = AclRuleInterner.internSet(simpleAclRules);
     }
 
     /**
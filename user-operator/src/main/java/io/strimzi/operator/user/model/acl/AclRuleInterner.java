@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model.acl;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Interns the ACL rules, their resources and the sets of ACL rules. Most users use the same ACL rules (or even the
+ * same sets of ACL rules), so interning them makes all the users share a single instance of each of them instead of
+ * keeping a copy per user in the ACL cache and in each reconciliation. It also makes comparing the interned rule sets
+ * cheap, because equal interned sets are the same instance.
+ * <p>
+ * The interned instances are referenced only weakly, so the rules which are not used by any user anymore are garbage
+ * collected. The interned rule sets are immutable.</p>
+ */
+public final class AclRuleInterner {
+    private static final Pool<SimpleAclRuleResource> RESOURCES = new Pool<>();
+    private static final Pool<SimpleAclRule> RULES = new Pool<>();
+    private static final Pool<Set<SimpleAclRule>> RULE_SETS = new Pool<>();
+
+    private AclRuleInterner() { }
+
+    /**
+     * Interns the ACL rule resource
+     *
+     * @param resource  The resource
+     *
+     * @return  The canonical instance equal to the resource
+     */
+    public static SimpleAclRuleResource intern(SimpleAclRuleResource resource) {
+        return RESOURCES.intern(resource, UnaryOperator.identity());
+    }
+
+    /**
+     * Interns the ACL rule
+     *
+     * @param rule  The ACL rule
+     *
+     * @return  The canonical instance equal to the ACL rule
+     */
+    public static SimpleAclRule intern(SimpleAclRule rule) {
+        return RULES.intern(rule, UnaryOperator.identity());
+    }
+
+    /**
+     * Interns the set of ACL rules. The set is copied only when no equal set is interned yet.
+     *
+     * @param rules     The set of ACL rules or null
+     *
+     * @return  The canonical immutable set equal to the set of ACL rules or null if the set was null
+     */
+    public static Set<SimpleAclRule> internSet(Set<SimpleAclRule> rules) {
+        if (rules == null) {
+            return null;
+        } else {
+            return RULE_SETS.intern(rules, Set::copyOf);
+        }
+    }
+
+    /**
+     * Pool of canonical instances which does not prevent them from being garbage collected
+     *
+     * @param <T>   Type of the pooled instances
+     */
+    private static class Pool<T> {
+        private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+        /**
+         * Returns the canonical instance equal to the value. If there is none, the canonical form of the value becomes
+         * the canonical instance.
+         *
+         * @param value         The value
+         * @param canonicalize  Function for creating the canonical form of the value
+         *
+         * @return  The canonical instance
+         */
+        synchronized T intern(T value, UnaryOperator<T> canonicalize) {
+            WeakReference<T> ref = pool.get(value);
+            T canonical = ref != null ? ref.get() : null;
+
+            if (canonical == null) {
+                canonical = canonicalize.apply(value);
+                pool.put(canonical, new WeakReference<>(canonical));
+            }
+
+            return canonical;
+        }
+    }
+}
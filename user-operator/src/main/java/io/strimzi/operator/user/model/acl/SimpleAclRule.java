@@ -124,6 +124,7 @@ public class SimpleAclRule {
 
     /**
      * Creates SimpleAclRule instance based on Kafka's AclBinding instance containing the resource the rule should apply to.
+     * The returned instance is interned.
      *
      * @param aclBinding the AclBinding instance which should be used to create the rule
      * @return the SimpleAclRule instance
@@ -132,11 +133,12 @@ public class SimpleAclRule {
         SimpleAclRuleResource resource = SimpleAclRuleResource.fromKafkaResourcePattern(aclBinding.pattern());
         AclRuleType type = fromKafkaAclPermissionType(aclBinding.entry().permissionType());
         AclOperation operation = fromKafkaAclOperation(aclBinding.entry().operation());
-        return new SimpleAclRule(type, resource, aclBinding.entry().host(), operation);
+        return AclRuleInterner.intern(new SimpleAclRule(type, resource, aclBinding.entry().host(), operation));
     }
 
     /**
-     * Creates SimpleAclRule object based on AclRule object which is received as part of the KafkaUser CRD.
+     * Creates SimpleAclRule object based on AclRule object which is received as part of the KafkaUser CRD. The returned
+     * instances are interned.
      *
      * @param rule AclRule object from KafkaUser CR
      * @return The SimpleAclRule.
@@ -148,11 +150,11 @@ public class SimpleAclRule {
         } else if (rule.getOperations() != null) {
             List<SimpleAclRule> simpleAclRules = new ArrayList<>();
             for (AclOperation operation : rule.getOperations()) {
-                simpleAclRules.add(new SimpleAclRule(rule.getType(), SimpleAclRuleResource.fromCrd(rule.getResource()), rule.getHost(), operation));
+                simpleAclRules.add(AclRuleInterner.intern(new SimpleAclRule(rule.getType(), SimpleAclRuleResource.fromCrd(rule.getResource()), rule.getHost(), operation)));
             }
             return simpleAclRules;
         } else {
-            return List.of(new SimpleAclRule(rule.getType(), SimpleAclRuleResource.fromCrd(rule.getResource()), rule.getHost(), rule.getOperation()));
+            return List.of(AclRuleInterner.intern(new SimpleAclRule(rule.getType(), SimpleAclRuleResource.fromCrd(rule.getResource()), rule.getHost(), rule.getOperation())));
         }
     }
 
@@ -144,7 +144,8 @@ public class SimpleAclRuleResource {
     }
 
     /**
-     * Creates SimpleAclRuleResource instance based on Kafka's ResourcePattern instance
+     * Creates SimpleAclRuleResource instance based on Kafka's ResourcePattern instance. The returned instance is
+     * interned.
      *
      * @param kafkaResourcePattern Kafka's ResourcePattern instance
      * @return the SimpleAclRuleResource instance
@@ -211,24 +212,25 @@ public class SimpleAclRuleResource {
                 throw new IllegalArgumentException("Invalid Resource type: " + kafkaResourcePattern.resourceType());
         }
 
-        return new SimpleAclRuleResource(resourceName, resourceType, resourcePattern);
+        return AclRuleInterner.intern(new SimpleAclRuleResource(resourceName, resourceType, resourcePattern));
     }
 
     /**
-     * Creates SimpleAclRuleResource object based on the objects received as part fo the KafkaUser CR
+     * Creates SimpleAclRuleResource object based on the objects received as part fo the KafkaUser CR. The returned
+     * instance is interned.
      *
      * @param resource  AclRuleResource as received in KafkaUser CR
      * @return The resource.
      */
     public static SimpleAclRuleResource fromCrd(AclRuleResource resource)   {
         if (resource instanceof AclRuleTopicResource adapted)   {
-            return new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.TOPIC, adapted.getPatternType());
+            return AclRuleInterner.intern(new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.TOPIC, adapted.getPatternType()));
         } else if (resource instanceof AclRuleGroupResource adapted)   {
-            return new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.GROUP, adapted.getPatternType());
+            return AclRuleInterner.intern(new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.GROUP, adapted.getPatternType()));
         } else if (resource instanceof AclRuleClusterResource)   {
-            return new SimpleAclRuleResource("kafka-cluster", SimpleAclRuleResourceType.CLUSTER, AclResourcePatternType.LITERAL);
+            return AclRuleInterner.intern(new SimpleAclRuleResource("kafka-cluster", SimpleAclRuleResourceType.CLUSTER, AclResourcePatternType.LITERAL));
         } else if (resource instanceof AclRuleTransactionalIdResource adapted)   {
-            return new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.TRANSACTIONAL_ID, adapted.getPatternType());
+            return AclRuleInterner.intern(new SimpleAclRuleResource(adapted.getName(), SimpleAclRuleResourceType.TRANSACTIONAL_ID, adapted.getPatternType()));
         } else  {
             throw new IllegalArgumentException("Invalid Acl resource class: " + resource.getClass());
         }
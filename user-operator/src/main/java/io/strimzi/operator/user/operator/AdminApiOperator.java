@@ -25,6 +25,18 @@ public interface AdminApiOperator<T, S extends Collection<String>> {
      */
     CompletionStage<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String username, T desired);
 
+    /**
+     * Checks whether the current value for the user matches the desired value. This uses only the cache and never
+     * calls Kafka, so it is cheap enough to be used to verify that nothing changed in Kafka since the last
+     * reconciliation of the user.
+     *
+     * @param username  Username of the user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The desired object
+     *
+     * @return  True if the cached value matches the desired value. False otherwise.
+     */
+    boolean isInSync(String username, T desired);
+
     /**
      * Returns set with all usernames which have some value set right now
      *
@@ -32,6 +32,11 @@ public class DisabledSimpleAclOperator implements AdminApiOperator<Set<SimpleAcl
         return CompletableFuture.failedFuture(new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to reconcile users"));
     }
 
+    @Override
+    public boolean isInSync(String username, Set<SimpleAclRule> desired) {
+        throw new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to check users");
+    }
+
     @Override
     public CompletionStage<Set<String>> getAllUsers() {
         return CompletableFuture.failedFuture(new UnsupportedOperationException("DisabledSimpleAclOperator cannot be used to get list of all users"));
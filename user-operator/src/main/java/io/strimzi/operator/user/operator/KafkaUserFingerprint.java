@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
+import io.strimzi.operator.user.model.KafkaUserModel;
+import io.strimzi.operator.user.model.acl.SimpleAclRule;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fingerprint of the last successful reconciliation of a KafkaUser. It captures everything the reconciliation
+ * depended on (the KafkaUser resource, the user Secret and the Secret from which the credentials were generated) and
+ * what it set in Kafka. When a periodic reconciliation finds the same inputs and the caches of the Kafka Admin API
+ * operators still contain the same ACLs, quotas and SCRAM-SHA credentials, the user does not need to be reconciled.
+ *
+ * @param uid                               UID of the KafkaUser resource
+ * @param generation                        Generation of the KafkaUser resource
+ * @param labels                            Labels of the KafkaUser resource (they are copied to the user Secret)
+ * @param annotations                       Annotations of the KafkaUser resource
+ * @param secretResourceVersion             Resource version of the user Secret after the reconciliation or null if there is none
+ * @param credentialsSecretNamespace        Namespace of the Secret from which the credentials were generated or null if there is none
+ * @param credentialsSecretName             Name of the Secret from which the credentials were generated (the clients CA
+ *                                          certificate for TLS users or the desired password for SCRAM-SHA users) or null if there is none
+ * @param credentialsSecretResourceVersion  Resource version of the Secret from which the credentials were generated or null if there is none
+ * @param username                          Username of the user in Kafka (used in the status)
+ * @param secretName                        Name of the user Secret in the status or null if there is none
+ * @param tlsAcls                           ACL rules of the TLS username
+ * @param scramAcls                         ACL rules of the SCRAM-SHA (or none authentication) username
+ * @param tlsQuotas                         Quotas of the TLS username
+ * @param scramQuotas                       Quotas of the SCRAM-SHA (or none authentication) username
+ * @param scramCredentials                  Indicates whether the user has SCRAM-SHA credentials
+ * @param skipped                           Number of periodic reconciliations skipped since the fingerprint was taken
+ */
+record KafkaUserFingerprint(
+        String uid,
+        Long generation,
+        Map<String, String> labels,
+        Map<String, String> annotations,
+        String secretResourceVersion,
+        String credentialsSecretNamespace,
+        String credentialsSecretName,
+        String credentialsSecretResourceVersion,
+        String username,
+        String secretName,
+        Set<SimpleAclRule> tlsAcls,
+        Set<SimpleAclRule> scramAcls,
+        KafkaUserQuotas tlsQuotas,
+        KafkaUserQuotas scramQuotas,
+        boolean scramCredentials,
+        int skipped
+) {
+    /**
+     * Takes the fingerprint of a successful reconciliation
+     *
+     * @param kafkaUser             The reconciled KafkaUser resource
+     * @param userSecret            The user Secret after the reconciliation or null if there is none
+     * @param credentialsSecret     The Secret from which the credentials were generated or null if there is none
+     * @param user                  The model of the reconciled user
+     * @param secretName            Name of the user Secret set in the status or null if there is none
+     *
+     * @return  The fingerprint
+     */
+    static KafkaUserFingerprint of(KafkaUser kafkaUser, Secret userSecret, Secret credentialsSecret, KafkaUserModel user, String secretName) {
+        boolean tls = user.isTlsUser() || user.isTlsExternalUser();
+        boolean scramOrNone = !tls && (user.isScramUser() || user.isNoneUser());
+
+        return new KafkaUserFingerprint(
+                kafkaUser.getMetadata().getUid(),
+                kafkaUser.getMetadata().getGeneration(),
+                kafkaUser.getMetadata().getLabels(),
+                kafkaUser.getMetadata().getAnnotations(),
+                resourceVersion(userSecret),
+                credentialsSecret != null ? credentialsSecret.getMetadata().getNamespace() : null,
+                credentialsSecret != null ? credentialsSecret.getMetadata().getName() : null,
+                resourceVersion(credentialsSecret),
+                user.getUserName(),
+                secretName,
+                tls ? user.getSimpleAclRules() : null,
+                scramOrNone ? user.getSimpleAclRules() : null,
+                tls ? user.getQuotas() : null,
+                scramOrNone ? user.getQuotas() : null,
+                user.getScramSha512Password() != null,
+                0
+        );
+    }
+
+    /**
+     * Checks whether the KafkaUser resource and the user Secret are the same as in the reconciliation which took this
+     * fingerprint
+     *
+     * @param kafkaUser     The current KafkaUser resource
+     * @param userSecret    The current user Secret or null if there is none
+     *
+     * @return  True if they did not change. False otherwise.
+     */
+    boolean matches(KafkaUser kafkaUser, Secret userSecret) {
+        return Objects.equals(uid, kafkaUser.getMetadata().getUid())
+                && Objects.equals(generation, kafkaUser.getMetadata().getGeneration())
+                && Objects.equals(labels, kafkaUser.getMetadata().getLabels())
+                && Objects.equals(annotations, kafkaUser.getMetadata().getAnnotations())
+                && Objects.equals(secretResourceVersion, resourceVersion(userSecret));
+    }
+
+    /**
+     * @return  Copy of this fingerprint with one more skipped reconciliation
+     */
+    KafkaUserFingerprint withSkippedReconciliation() {
+        return new KafkaUserFingerprint(uid, generation, labels, annotations, secretResourceVersion,
+                credentialsSecretNamespace, credentialsSecretName, credentialsSecretResourceVersion, username, secretName,
+                tlsAcls, scramAcls, tlsQuotas, scramQuotas, scramCredentials, skipped + 1);
+    }
+
+    private static String resourceVersion(Secret secret) {
+        return secret != null ? secret.getMetadata().getResourceVersion() : null;
+    }
+}
@@ -33,10 +33,13 @@ import java.time.Clock;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,7 +49,15 @@ import java.util.stream.Collectors;
 public class KafkaUserOperator {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserOperator.class.getName());
 
+    /**
+     * Maximal number of periodic reconciliations skipped in a row. The user is fully reconciled at least every
+     * MAX_SKIPPED_RECONCILIATIONS + 1 periodic reconciliations to renew the certificates which are about to expire and to
+     * correct the changes in Kafka which the caches cannot detect (such as a changed SCRAM-SHA password).
+     */
+    /* test */ static final int MAX_SKIPPED_RECONCILIATIONS = 9;
+
     private final CertManager certManager;
+    private final KeyPairPool keyPairPool;
     private final AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator;
     private final AdminApiOperator<String, List<String>> scramCredentialsOperator;
     private final AdminApiOperator<KafkaUserQuotas, Set<String>> quotasOperator;
@@ -55,12 +66,15 @@ public class KafkaUserOperator {
     private final LabelSelector selector;
     private final SecretOperator secretOperator;
     private final CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator;
+    private final Map<NamespaceAndName, KafkaUserFingerprint> fingerprints = new ConcurrentHashMap<>();
 
     /**
      * Creates the instance of KafkaUserOperator
      *
      * @param config                   User operator configuration
      * @param certManager              For managing certificates.
+     * @param keyPairPool              Pool of pre-generated key pairs for the user certificates or null when the key
+     *                                 pairs should be generated together with the certificates
      * @param secretOperator           For operating on secrets
      * @param kafkaUserCrdOperator     For operating on KafkaUser resources
      * @param scramCredentialsOperator For operating on SCRAM SHA credentials.
@@ -70,6 +84,7 @@ public class KafkaUserOperator {
     public KafkaUserOperator(
             UserOperatorConfig config,
             CertManager certManager,
+            KeyPairPool keyPairPool,
             SecretOperator secretOperator,
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> kafkaUserCrdOperator,
             AdminApiOperator<String, List<String>> scramCredentialsOperator,
@@ -77,6 +92,7 @@ public class KafkaUserOperator {
             AdminApiOperator<Set<SimpleAclRule>, Set<String>> aclOperator
     ) {
         this.certManager = certManager;
+        this.keyPairPool = keyPairPool;
         this.scramCredentialsOperator = scramCredentialsOperator;
         this.quotasOperator = quotasOperator;
         this.aclOperator = aclOperator;
@@ -89,21 +105,29 @@ public class KafkaUserOperator {
     }
 
     /**
-     * Starts the KafkaUserOperator and the Kafka Admin API operators
+     * Starts the KafkaUserOperator, the Kafka Admin API operators and the key pair pool
      */
     public void start() {
+        if (keyPairPool != null) {
+            keyPairPool.start();
+        }
+
         quotasOperator.start();
         aclOperator.start();
         scramCredentialsOperator.start();
     }
 
     /**
-     * Stops the KafkaUserOperator and the Kafka Admin API operators
+     * Stops the KafkaUserOperator, the Kafka Admin API operators and the key pair pool
      */
     public void stop() {
         quotasOperator.stop();
         aclOperator.stop();
         scramCredentialsOperator.stop();
+
+        if (keyPairPool != null) {
+            keyPairPool.stop();
+        }
     }
 
     /**
@@ -207,6 +231,7 @@ public class KafkaUserOperator {
         String secretName = KafkaUserModel.getSecretName(config.getSecretPrefix(), user);
 
         LOGGER.debugCr(reconciliation, "Deleting User {} from namespace {}", user, namespace);
+        fingerprints.remove(new NamespaceAndName(namespace, user));
 
         // Delete everything what can be deleted
         return CompletableFuture.allOf(
@@ -231,9 +256,13 @@ public class KafkaUserOperator {
      * @return a CompletionStage
      */
     private CompletionStage<KafkaUserStatus> createOrUpdate(Reconciliation reconciliation, KafkaUser kafkaUser, Secret userSecret) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
         KafkaUserModel user;
         KafkaUserStatus userStatus = new KafkaUserStatus();
 
+        // The fingerprint is taken again only when this reconciliation succeeds
+        fingerprints.remove(key);
+
         try {
             user = KafkaUserModel.fromCrd(kafkaUser, config.getSecretPrefix(), config.isAclsAdminApiSupported());
             LOGGER.debugCr(reconciliation, "Updating User {} in namespace {}", reconciliation.name(), reconciliation.namespace());
@@ -247,19 +276,88 @@ public class KafkaUserOperator {
         // It does not generate the secret or update the password in Kafka. That happens only later.)
         return maybeGenerateCredentials(reconciliation, user, userSecret)
                 // Reconcile the user: update everything in Kafka and in the Secret
-                .thenCompose(i -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus))
-                .handle((i, e) -> {
+                .thenCompose(credentialsSecret -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus)
+                        .thenApply(currentSecret -> KafkaUserFingerprint.of(kafkaUser, currentSecret, credentialsSecret, user, userStatus.getSecret())))
+                .handle((fingerprint, e) -> {
                     if (e != null)  {
                         throw new CompletionException(e);
                     } else {
                         StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
                         userStatus.setUsername(user.getUserName());
+                        fingerprints.put(key, fingerprint);
                         return null;
                     }
                 })
                 .thenApply(i -> userStatus);
     }
 
+    /**
+     * Checks whether the KafkaUser needs to be reconciled. It compares the KafkaUser, its Secret and the Secret from
+     * which its credentials were generated with the fingerprint of the last successful reconciliation and checks that
+     * the caches of the Kafka Admin API operators still contain what was set in Kafka. This is used by the periodic
+     * reconciliations to skip the users which did not change. At most MAX_SKIPPED_RECONCILIATIONS reconciliations
+     * are skipped in a row.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param kafkaUser         KafkaUser resources with the desired user configuration
+     * @param userSecret        Secret with credentials for the user
+     *
+     * @return  CompletionStage with the status of the user when it does not need to be reconciled or with null when it
+     *          has to be reconciled
+     */
+    public CompletionStage<KafkaUserStatus> statusIfUnchanged(Reconciliation reconciliation, KafkaUser kafkaUser, Secret userSecret) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        KafkaUserFingerprint fingerprint = fingerprints.get(key);
+
+        if (fingerprint == null
+                || fingerprint.skipped() >= MAX_SKIPPED_RECONCILIATIONS
+                || !fingerprint.matches(kafkaUser, userSecret)
+                || !isInSyncWithCaches(reconciliation.name(), fingerprint)) {
+            return CompletableFuture.completedStage(null);
+        }
+
+        CompletionStage<Boolean> credentialsSecretUnchanged;
+        if (fingerprint.credentialsSecretName() != null) {
+            credentialsSecretUnchanged = secretOperator.getAsync(fingerprint.credentialsSecretNamespace(), fingerprint.credentialsSecretName())
+                    .thenApply(secret -> secret != null && Objects.equals(fingerprint.credentialsSecretResourceVersion(), secret.getMetadata().getResourceVersion()));
+        } else {
+            credentialsSecretUnchanged = CompletableFuture.completedStage(true);
+        }
+
+        return credentialsSecretUnchanged
+                .handle((unchanged, e) -> {
+                    if (e != null || !unchanged || !fingerprints.replace(key, fingerprint, fingerprint.withSkippedReconciliation())) {
+                        return null;
+                    } else {
+                        KafkaUserStatus userStatus = new KafkaUserStatus();
+                        StatusUtils.setStatusConditionAndObservedGeneration(kafkaUser, userStatus, (Throwable) null);
+                        userStatus.setUsername(fingerprint.username());
+                        userStatus.setSecret(fingerprint.secretName());
+                        return userStatus;
+                    }
+                });
+    }
+
+    /**
+     * Checks whether the caches of the Kafka Admin API operators contain the ACLs, quotas and SCRAM-SHA credentials
+     * set by the reconciliation which took the fingerprint
+     *
+     * @param name          Name of the user
+     * @param fingerprint   Fingerprint of the last successful reconciliation
+     *
+     * @return  True if the caches are in sync with the fingerprint. False otherwise.
+     */
+    private boolean isInSyncWithCaches(String name, KafkaUserFingerprint fingerprint) {
+        String tlsUsername = KafkaUserModel.getTlsUserName(name);
+        String scramUsername = KafkaUserModel.getScramUserName(name);
+
+        return scramCredentialsOperator.isInSync(scramUsername, fingerprint.scramCredentials() ? "" : null)
+                && quotasOperator.isInSync(tlsUsername, fingerprint.tlsQuotas())
+                && quotasOperator.isInSync(scramUsername, fingerprint.scramQuotas())
+                && (!config.isAclsAdminApiSupported()
+                    || (aclOperator.isInSync(tlsUsername, fingerprint.tlsAcls()) && aclOperator.isInSync(scramUsername, fingerprint.scramAcls())));
+    }
+
     /**
      * Depending on the KafkaUser configuration and the user secret, this method will set or generate the credentials
      * for given user.
@@ -267,8 +365,11 @@ public class KafkaUserOperator {
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  CompletionStage with the Secret from which the credentials were generated (the clients CA certificate
+     *          for TLS users or the desired password for SCRAM-SHA users) or with null if there is none
      */
-    private CompletionStage<Void> maybeGenerateCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
+    private CompletionStage<Secret> maybeGenerateCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
         // Generates the password or user certificate
         if (user.isScramUser()) {
             return maybeGenerateScramCredentials(reconciliation, user, userSecret);
@@ -285,8 +386,10 @@ public class KafkaUserOperator {
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  CompletionStage with the Secret with the desired password or with null if the password is generated
      */
-    private CompletionStage<Void> maybeGenerateScramCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
+    private CompletionStage<Secret> maybeGenerateScramCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
         CompletableFuture<Secret> desiredPasswordPromise;
 
         if (user.isUserWithDesiredPassword()) {
@@ -300,12 +403,16 @@ public class KafkaUserOperator {
             desiredPasswordPromise = CompletableFuture.completedFuture(null);
         }
 
-        return desiredPasswordPromise.thenAccept(desiredPasswordSecret -> user.maybeGeneratePassword(
-                reconciliation,
-                passwordGenerator,
-                userSecret,
-                desiredPasswordSecret
-        ));
+        return desiredPasswordPromise.thenApply(desiredPasswordSecret -> {
+            user.maybeGeneratePassword(
+                    reconciliation,
+                    passwordGenerator,
+                    userSecret,
+                    desiredPasswordSecret
+            );
+
+            return desiredPasswordSecret;
+        });
     }
 
     /**
@@ -314,8 +421,10 @@ public class KafkaUserOperator {
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
      * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  CompletionStage with the Secret with the clients CA certificate
      */
-    private CompletionStage<Void> maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
+    private CompletionStage<Secret> maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret) {
         String namespace = config.getCaNamespaceOrNamespace();
         CompletableFuture<Secret> caCertPromise = getRequiredSecret(
                 namespace,
@@ -329,18 +438,23 @@ public class KafkaUserOperator {
             .toCompletableFuture();
 
         return CompletableFuture.allOf(caCertPromise, caKeyPromise)
-                .thenRun(() -> user.maybeGenerateCertificates(
-                        reconciliation,
-                        certManager,
-                        passwordGenerator,
-                        caCertPromise.join(),
-                        caKeyPromise.join(),
-                        userSecret,
-                        config.getClientsCaValidityDays(),
-                        config.getClientsCaRenewalDays(),
-                        config.getMaintenanceWindows(),
-                        Clock.systemUTC()
-                ));
+                .thenApply(i -> {
+                    user.maybeGenerateCertificates(
+                            reconciliation,
+                            certManager,
+                            passwordGenerator,
+                            keyPairPool,
+                            caCertPromise.join(),
+                            caKeyPromise.join(),
+                            userSecret,
+                            config.getClientsCaValidityDays(),
+                            config.getClientsCaRenewalDays(),
+                            config.getMaintenanceWindows(),
+                            Clock.systemUTC()
+                    );
+
+                    return caCertPromise.join();
+                });
     }
 
     private CompletionStage<Secret> getRequiredSecret(String namespace, String name, Function<String, Throwable> missingSecretError) {
@@ -368,9 +482,9 @@ public class KafkaUserOperator {
      * @param userSecret        Current user secret
      * @param userStatus        Status subresource of the KafkaUser custom resource
      *
-     * @return                  CompletionStage describing the result
+     * @return                  CompletionStage with the user secret after the reconciliation or with null if there is none
      */
-    private CompletionStage<Void> reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret, KafkaUserStatus userStatus)   {
+    private CompletionStage<Secret> reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret, KafkaUserStatus userStatus)   {
         Set<SimpleAclRule> tlsAcls = null;
         Set<SimpleAclRule> scramOrNoneAcls = null;
         KafkaUserQuotas tlsQuotas = null;
@@ -413,7 +527,7 @@ public class KafkaUserOperator {
                 aclsTlsUserFuture.toCompletableFuture(),
                 aclsScramUserFuture.toCompletableFuture(),
                 userSecretFuture.toCompletableFuture()
-        );
+        ).thenApply(i -> userSecretFuture.toCompletableFuture().join().resourceOpt().orElse(null));
     }
 
     /**
@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pool of pre-generated key pairs used for the new user certificates. Generating the key pair is the most expensive
+ * part of issuing a user certificate, so when many TLS users are created at once, their reconciliations take the key
+ * pairs from the pool instead of generating them. When the pool is empty, the key pair is generated together with the
+ * certificate.
+ * <ul>
+ *     <li>The pool is refilled in the background from a single thread whenever it is not full</li>
+ *     <li>The refills are throttled: at most one key pair is generated per refill interval, so that refilling the pool
+ *         does not compete with the reconciliations for the CPU</li>
+ *     <li>When generating a key pair fails, the refill stops until the next key pair is taken from the pool</li>
+ * </ul>
+ * The number of key pairs in the pool and the number of requests which found the pool empty are exposed as metrics.
+ */
+public class KeyPairPool implements Supplier<byte[]> {
+    private final static Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    private final CertManager certManager;
+    private final BlockingQueue<byte[]> keys;
+    private final long refillIntervalNanos;
+    private final Counter missesCounter;
+    private final ScheduledExecutorService refillExecutor;
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    private volatile long lastRefillNanos;
+
+    /**
+     * Constructs the key pair pool
+     *
+     * @param certManager       Certificate manager used to generate the key pairs
+     * @param size              Maximal number of key pairs in the pool
+     * @param refillIntervalMs  Minimal delay between generating two key pairs
+     * @param metricsProvider   Metrics provider for the pool metrics
+     */
+    public KeyPairPool(CertManager certManager, int size, long refillIntervalMs, MetricsProvider metricsProvider) {
+        this.certManager = certManager;
+        this.keys = new ArrayBlockingQueue<>(size);
+        this.refillIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalMs);
+        this.lastRefillNanos = System.nanoTime() - refillIntervalNanos;
+        this.refillExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "key-pair-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("strimzi.key.pair.pool.size", keys::size)
+                .description("Number of pre-generated key pairs in the key pair pool")
+                .register(metricsProvider.meterRegistry());
+        this.missesCounter = metricsProvider.counter("strimzi.key.pair.pool.misses", "Number of key pairs requested while the key pair pool was empty", Tags.empty());
+    }
+
+    /**
+     * Starts filling the pool
+     */
+    public void start() {
+        LOGGER.info("Starting the key pair pool");
+        maybeRefill();
+    }
+
+    /**
+     * Stops the pool: no key pairs are generated anymore
+     */
+    public void stop() {
+        LOGGER.info("Stopping the key pair pool");
+        refillExecutor.shutdownNow();
+    }
+
+    /**
+     * Takes a key pair from the pool. This never blocks.
+     *
+     * @return  Private key in the PEM format or null if the pool is empty
+     */
+    @Override
+    public byte[] get() {
+        byte[] key = keys.poll();
+
+        if (key == null) {
+            LOGGER.debug("The key pair pool is empty");
+            missesCounter.increment();
+        }
+
+        maybeRefill();
+        return key;
+    }
+
+    /**
+     * Schedules the next refill of the pool unless the pool is full or a refill is already scheduled. The refill is
+     * delayed to keep at least the refill interval since the previous refill.
+     */
+    private void maybeRefill() {
+        if (keys.remainingCapacity() > 0 && refilling.compareAndSet(false, true)) {
+            long delayNanos = Math.max(0, lastRefillNanos + refillIntervalNanos - System.nanoTime());
+
+            try {
+                refillExecutor.schedule(this::refill, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Key pair pool is stopped and will not be refilled anymore");
+            }
+        }
+    }
+
+    /**
+     * Generates one key pair, adds it to the pool and schedules the next refill
+     */
+    private void refill() {
+        try {
+            keys.offer(generateKey());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to generate a key pair for the key pair pool", e);
+            return;
+        } finally {
+            lastRefillNanos = System.nanoTime();
+            refilling.set(false);
+        }
+
+        maybeRefill();
+    }
+
+    private byte[] generateKey() throws IOException {
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+
+        try {
+            certManager.generatePrivateKey(keyFile);
+            return Files.readAllBytes(keyFile.toPath());
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+        }
+    }
+}
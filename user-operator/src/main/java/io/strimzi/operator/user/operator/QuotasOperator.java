@@ -12,6 +12,7 @@ import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
 import io.strimzi.operator.user.operator.batching.QuotasBatchReconciler;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import io.strimzi.operator.user.operator.cache.QuotasCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
@@ -42,15 +43,16 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param cacheRefreshScheduler Scheduler which refreshes the cache (its metrics provider is used for the batching metrics)
      */
-    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public QuotasOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, CacheRefreshScheduler cacheRefreshScheduler) {
         this.executor = executor;
 
         // Create cache for querying the Quotas locally
-        this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
+        this.cache = new QuotasCache(adminClient, config.getCacheRefresh(), cacheRefreshScheduler);
 
         // Create micro-batching reconcilers for managing the quotas
-        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlightBatches(), cacheRefreshScheduler.metricsProvider());
     }
 
     /**
@@ -88,6 +90,25 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         }
     }
 
+    /**
+     * Checks whether the cached quotas of the user match the desired quotas
+     *
+     * @param username  Username of the user
+     * @param desired   The desired quotas configuration
+     *
+     * @return  True if the cached quotas match the desired quotas. False otherwise.
+     */
+    @Override
+    public boolean isInSync(String username, KafkaUserQuotas desired) {
+        KafkaUserQuotas current = cache.get(username);
+
+        if (desired == null) {
+            return current == null;
+        } else {
+            return current != null && QuotaUtils.quotasEquals(current, desired);
+        }
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
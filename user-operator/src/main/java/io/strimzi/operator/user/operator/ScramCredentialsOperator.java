@@ -9,6 +9,7 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.operator.batching.ScramShaCredentialsBatchReconciler;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import io.strimzi.operator.user.operator.cache.ScramShaCredentialsCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
@@ -48,15 +49,16 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param cacheRefreshScheduler Scheduler which refreshes the cache (its metrics provider is used for the batching metrics)
      */
-    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public ScramCredentialsOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, CacheRefreshScheduler cacheRefreshScheduler) {
         this.executor = executor;
 
         // Create cache for querying the SCRAM-SHA Credentials locally
-        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
+        this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh(), cacheRefreshScheduler);
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlightBatches(), cacheRefreshScheduler.metricsProvider());
     }
 
     /**
@@ -127,6 +129,20 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     }
 
 
+    /**
+     * Checks whether the user has SCRAM-SHA credentials exactly when it should have them. The cache does not contain
+     * the passwords, so a changed password is not detected.
+     *
+     * @param username  Username of the user
+     * @param desired   The desired password
+     *
+     * @return  True if the credentials exist when desired and do not exist otherwise. False otherwise.
+     */
+    @Override
+    public boolean isInSync(String username, String desired) {
+        return userExists(username) == (desired != null);
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
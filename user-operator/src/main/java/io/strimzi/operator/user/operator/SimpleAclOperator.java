@@ -13,6 +13,7 @@ import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.batching.AddAclsBatchReconciler;
 import io.strimzi.operator.user.operator.batching.DeleteAclsBatchReconciler;
 import io.strimzi.operator.user.operator.cache.AclCache;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -48,16 +49,17 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
      * @param adminClient   Kafka Admin client instance
      * @param config        User operator configuration
      * @param executor      Shared executor for executing async operations
+     * @param cacheRefreshScheduler Scheduler which refreshes the cache (its metrics provider is used for the batching metrics)
      */
-    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor) {
+    public SimpleAclOperator(Admin adminClient, UserOperatorConfig config, ExecutorService executor, CacheRefreshScheduler cacheRefreshScheduler) {
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getCacheRefresh(), cacheRefreshScheduler);
 
         // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlightBatches(), cacheRefreshScheduler.metricsProvider());
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlightBatches(), cacheRefreshScheduler.metricsProvider());
     }
 
     /**
@@ -92,6 +94,26 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         }
     }
 
+    /**
+     * Checks whether the cached ACL rules of the user match the desired ACL rules. The interned rule sets of the users
+     * whose ACLs did not change are the same instances, so this is usually just a reference comparison.
+     *
+     * @param username  Username of the user
+     * @param desired   The desired Acl rules
+     *
+     * @return  True if the cached ACL rules match the desired ACL rules. False otherwise.
+     */
+    @Override
+    public boolean isInSync(String username, Set<SimpleAclRule> desired) {
+        Set<SimpleAclRule> current = cache.getOrDefault(username, Set.of());
+
+        if (desired == null || desired.isEmpty()) {
+            return current.isEmpty();
+        } else {
+            return current == desired || current.equals(desired);
+        }
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
@@ -175,7 +197,8 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
 
     /**
      * Update all ACLs for given user.
-     * This method is using Sets to decide which rules need to be added and which need to be deleted.
+     * This method first checks whether the desired and current rule sets are the same interned instance. Otherwise, it
+     * is using Sets to decide which rules need to be added and which need to be deleted.
      * It delegates to {@link #internalCreate internalCreate} and {@link #internalDelete internalDelete} methods for the actual addition or deletion.
      *
      * @param reconciliation The reconciliation
@@ -185,6 +208,12 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
      * @return the Future with reconcile result
      */
     private CompletionStage<ReconcileResult<Set<SimpleAclRule>>> internalUpdate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired, Set<SimpleAclRule> current) {
+        // The desired and current rule sets are interned, so when they are equal, they are usually the same instance
+        if (desired == current) {
+            LOGGER.debugCr(reconciliation, "Expected Acl rules are the same as the existing Acl rules -> NoOp");
+            return CompletableFuture.completedFuture(ReconcileResult.noop(desired));
+        }
+
         LOGGER.debugCr(reconciliation, "Requesting update of ACLs for user {}", username);
 
         @SuppressWarnings({ "rawtypes" })
@@ -4,58 +4,114 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval.
+ * <p>
+ * Up to a (configurable) number of batches can be in flight at the same time. A new batch is sent while the previous
+ * batches are still waiting for Kafka, but never two requests with the same key (the same user). A request for a key
+ * which is already in flight waits until the previous request for this key completes, so the requests for the same key
+ * are always sent to Kafka in the order in which they were enqueued.</p>
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
-    private final BlockingQueue<T> queue;
+    private final BlockingQueue<Queued<T>> queue;
     private final int maxBatchSize;
     private final int maxBatchTime;
+    private final Function<T, String> keyFunction;
+    private final Semaphore inFlightBatches;
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
     private final Thread batchHandlerThread;
 
+    // Requests which wait for the previous request with the same key => accessed only from the batch handler thread
+    private final Deque<Queued<T>> deferred = new ArrayDeque<>();
+
+    private final AtomicInteger inFlightGauge;
+    private final Timer queueWaitTimer;
+    private final DistributionSummary batchSizeSummary;
+
     private volatile CountDownLatch batchSize;
     private volatile boolean stop = false;
 
     /**
      * Creates the BatchReconciler
      *
-     * @param name          Name of the reconciler
-     * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param name                  Name of the reconciler
+     * @param queueSize             Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time to wait before batch is executed
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
+     * @param keyFunction           Function returning the key of the request. Requests with the same key are never in
+     *                              flight at the same time.
+     * @param metricsProvider       Metrics provider for the batching metrics
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, Function<T, String> keyFunction, MetricsProvider metricsProvider) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
+        if (maxInFlightBatches < 1)   {
+            throw new IllegalArgumentException("Maximum number of in-flight batches has to be at least 1");
+        }
+
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
         this.maxBatchTime = maxBatchTime;
+        this.keyFunction = keyFunction;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
         this.batchHandlerThread = new Thread(new Runner(), name);
+
+        Tags tags = Tags.of("reconciler", name);
+        this.inFlightGauge = metricsProvider.gauge("strimzi.batch.in.flight", "Number of batches sent to Kafka and waiting for the result", tags);
+        this.queueWaitTimer = Timer.builder("strimzi.batch.queue.wait")
+                .description("Time the requests wait in the queue before they are sent to Kafka")
+                .publishPercentileHistogram()
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
+        this.batchSizeSummary = DistributionSummary.builder("strimzi.batch.size")
+                .description("Number of requests in the batches sent to Kafka")
+                .publishPercentileHistogram()
+                .maximumExpectedValue((double) maxBatchSize)
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
     }
 
     /**
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  CompletionStage which completes when the results of all the items are handled
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected abstract CompletionStage<?> reconcile(Collection<T> items);
 
     /**
      * Enqueues a reconciliation request
@@ -65,7 +121,7 @@ public abstract class AbstractBatchReconciler<T> {
      * @throws InterruptedException Thrown when interrupted while enqueuing the resource
      */
     public void enqueue(T item) throws InterruptedException {
-        queue.put(item);
+        queue.put(new Queued<>(item, System.nanoTime()));
 
         if (queue.size() >= maxBatchSize)   {
             batchSize.countDown();
@@ -73,24 +129,95 @@ public abstract class AbstractBatchReconciler<T> {
     }
 
     /**
-     * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
+     * Starts a new batch of requests. It waits until another batch can be in flight, collects the deferred and queued
+     * requests whose key is not in flight yet and passes them to the reconcile method.
      *
      * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
      *                          (true) or the time limit (false)
+     *
+     * @throws InterruptedException Thrown when interrupted while waiting for the in-flight batches
      */
-    private void handleBatch(boolean batchSizeReached)  {
+    private void handleBatch(boolean batchSizeReached) throws InterruptedException {
         if (batchSizeReached) {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
         } else {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
+        inFlightBatches.acquire();
+
+        long nowNanos = System.nanoTime();
         List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        List<String> batchKeys = new ArrayList<>();
+        // Keys which were already seen in this round. Any later request with the same key has to wait.
+        Set<String> seenKeys = new HashSet<>();
+
+        // The deferred requests go first as they were enqueued before the queued requests
+        Iterator<Queued<T>> deferredIterator = deferred.iterator();
+        while (deferredIterator.hasNext() && batch.size() < maxBatchSize)   {
+            if (addToBatch(deferredIterator.next(), batch, batchKeys, seenKeys, nowNanos))  {
+                deferredIterator.remove();
+            }
+        }
+
+        if (batch.size() < maxBatchSize) {
+            List<Queued<T>> drained = new ArrayList<>();
+            queue.drainTo(drained, maxBatchSize - batch.size());
+
+            for (Queued<T> queued : drained)    {
+                if (!addToBatch(queued, batch, batchKeys, seenKeys, nowNanos))   {
+                    deferred.add(queued);
+                }
+            }
+        }
+
+        if (batch.isEmpty())  {
+            inFlightBatches.release();
+            return;
+        }
+
+        LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler ({} records deferred)", batchHandlerThread.getName(), batch.size(), deferred.size());
+        batchSizeSummary.record(batch.size());
+        inFlightKeys.addAll(batchKeys);
+        inFlightGauge.incrementAndGet();
 
-        if (batchSize > 0)  {
-            LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+        CompletionStage<?> completion;
+        try {
+            completion = reconcile(batch);
+        } catch (RuntimeException e) {
+            LOGGER.warn("{}: Failed to send the batch of {} records", batchHandlerThread.getName(), batch.size(), e);
+            completion = CompletableFuture.failedFuture(e);
+        }
+
+        completion.whenComplete((r, e) -> {
+            inFlightKeys.removeAll(batchKeys);
+            inFlightGauge.decrementAndGet();
+            inFlightBatches.release();
+        });
+    }
+
+    /**
+     * Adds the request to the batch if no other request with the same key is in flight, in this batch or waiting
+     * before it.
+     *
+     * @param queued        The queued request
+     * @param batch         The batch
+     * @param batchKeys     Keys of the requests in the batch
+     * @param seenKeys      Keys which were already seen while collecting this batch
+     * @param nowNanos      Time when the batch is collected
+     *
+     * @return  True if the request was added to the batch. False otherwise.
+     */
+    private boolean addToBatch(Queued<T> queued, List<T> batch, List<String> batchKeys, Set<String> seenKeys, long nowNanos)   {
+        String key = keyFunction.apply(queued.item());
+
+        if (seenKeys.add(key) && !inFlightKeys.contains(key)) {
+            batch.add(queued.item());
+            batchKeys.add(key);
+            queueWaitTimer.record(nowNanos - queued.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } else {
+            return false;
         }
     }
 
@@ -114,6 +241,16 @@ public abstract class AbstractBatchReconciler<T> {
         batchHandlerThread.join();
     }
 
+    /**
+     * Request waiting in the queue
+     *
+     * @param item              The request
+     * @param enqueuedNanos     Time when the request was enqueued
+     *
+     * @param <T>   Type of the request
+     */
+    private record Queued<T>(T item, long enqueuedNanos) { }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -9,31 +9,39 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
- * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap which is
+ * regularly updated by the {@link CacheRefreshScheduler} shared by all the caches. It also provides method to access
+ * the cache and its data.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
 
+    private final String name;
     private final long refreshIntervalMs;
-    private final ScheduledExecutorService scheduledExecutor;
+    private final CacheRefreshScheduler scheduler;
 
     private volatile ConcurrentHashMap<String, T> cache = null;
+    private volatile boolean accessed = false;
+    private volatile long lastRefreshNanos = -1;
+    private volatile long lastRefreshDurationMs = 0;
+    private volatile boolean lastRefreshFailed = false;
 
     /**
      * Constructs the abstract cache
      *
      * @param name                  Name of the cache
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param scheduler             Scheduler which refreshes the cache
      */
-    public AbstractCache(String name, long refreshIntervalMs) {
+    public AbstractCache(String name, long refreshIntervalMs, CacheRefreshScheduler scheduler) {
+        this.name = name;
         this.refreshIntervalMs = refreshIntervalMs;
-        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
+        this.scheduler = scheduler;
+
+        scheduler.register(this);
     }
 
     /**
@@ -43,6 +51,81 @@ public abstract class AbstractCache<T> {
      */
     protected abstract ConcurrentHashMap<String, T> loadCache();
 
+    /**
+     * Refreshes the cache. By default, this method loads the new data and replaces the whole map. Implementations can
+     * override it to update the existing map instead.
+     *
+     * @param current   The current map or null if the cache is not loaded yet
+     *
+     * @return  The map which should be used as the cache from now on
+     */
+    protected ConcurrentHashMap<String, T> refreshCache(ConcurrentHashMap<String, T> current) {
+        return loadCache();
+    }
+
+    /**
+     * Returns the delay before the next refresh of the cache. By default, this is the configured refresh interval.
+     * Implementations can override it to adapt the refresh frequency.
+     *
+     * @return  The delay in milliseconds
+     */
+    protected long nextRefreshDelayMs() {
+        return refreshIntervalMs;
+    }
+
+    /**
+     * @return  The configured refresh interval in milliseconds
+     */
+    protected long refreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    /**
+     * @return  Name of the cache
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return  True if the cache was not read since the last refresh. False otherwise.
+     */
+    boolean isIdle() {
+        return !accessed;
+    }
+
+    /**
+     * @return  True if the cache is loaded and its last refresh succeeded. False otherwise.
+     */
+    boolean isHealthy() {
+        return cache != null && !lastRefreshFailed;
+    }
+
+    /**
+     * @return  Time since the last successful refresh of the cache in milliseconds or -1 if it was never refreshed
+     */
+    long ageMs() {
+        long last = lastRefreshNanos;
+        return last < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - last);
+    }
+
+    /**
+     * @return  Duration of the last refresh of the cache in milliseconds
+     */
+    long lastRefreshDurationMs() {
+        return lastRefreshDurationMs;
+    }
+
+    /**
+     * Marks the cache as accessed since the last refresh. The flag is written only when it is not set yet, so that
+     * the reads from the cache do not contend on it.
+     */
+    private void markAccessed() {
+        if (!accessed) {
+            accessed = true;
+        }
+    }
+
     /**
      * Retrieves a value from the cache for given key.
      *
@@ -66,6 +149,7 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
+            markAccessed();
             return cache.getOrDefault(key, defaultValue);
         }
     }
@@ -106,19 +190,20 @@ public abstract class AbstractCache<T> {
         if (cache == null)  {
             throw new RuntimeException(this.getClass().getSimpleName() + " is not ready!");
         } else {
+            markAccessed();
             return cache.keys();
         }
     }
 
     /**
-     * Starts the cache: this method schedules a time which will periodically refresh the cache
+     * Starts the cache: this method loads the cache and lets the scheduler refresh it periodically
      */
     public void start()  {
         LOGGER.info("Starting {}", this.getClass().getSimpleName());
 
         initialize();
 
-        scheduledExecutor.scheduleAtFixedRate(this::updateCache, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.start(this);
     }
 
     /**
@@ -133,21 +218,29 @@ public abstract class AbstractCache<T> {
      */
     public void stop()  {
         LOGGER.info("Stopping {}", this.getClass().getSimpleName());
-        scheduledExecutor.shutdownNow();
+        scheduler.stop(this);
         cache = null;
     }
 
     /**
-     * Called periodically to update the cache
+     * Called periodically by the scheduler to update the cache
      */
-    private void updateCache()  {
+    void updateCache()  {
+        long startNanos = System.nanoTime();
+
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
+            accessed = false;
+            cache = refreshCache(cache);
+            lastRefreshNanos = System.nanoTime();
+            lastRefreshFailed = false;
             LOGGER.debug("{} updated", this.getClass().getSimpleName());
         } catch (Exception e)   {
             LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
             cache = null; // Reset the cache
+            lastRefreshFailed = true;
+        } finally {
+            lastRefreshDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
         }
     }
 }
@@ -4,6 +4,11 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.user.model.acl.AclRuleInterner;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
@@ -14,31 +19,59 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.management.ManagementFactory;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka
+ * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka.
+ * <p>
+ * Kafka cannot list only the ACLs which changed, so each refresh still describes all the ACLs. But instead of
+ * replacing the whole map, it updates only the users whose ACLs changed, and only their ACL rule sets are interned
+ * (other than for the first load). The User Operator
+ * updates the cache whenever it changes the ACLs of a user. So when a refresh does not find any change, nobody else is
+ * changing the ACLs and the cache refreshes less often (up to {@link #MAX_BACKOFF_FACTOR} times the refresh interval).
+ * Any change made outside of the User Operator resets the refresh interval. A random jitter is added to the refresh
+ * interval.
  */
 public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
+    /* test */ static final int MAX_BACKOFF_FACTOR = 4;
+    /* test */ static final double JITTER = 0.1;
+
     private final Admin adminClient;
+    private final Timer refreshTimer;
+    private final Counter allocatedBytesCounter;
+    private final Counter changedPrincipalsCounter;
+
+    // Accessed only from the cache thread
+    private int backoffFactor = 1;
 
     /**
      * Constructs the ACL cache
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param scheduler             Scheduler which refreshes the cache
      */
-    public AclCache(Admin adminClient, long refreshIntervalMs) {
-        super("ACL", refreshIntervalMs);
+    public AclCache(Admin adminClient, long refreshIntervalMs, CacheRefreshScheduler scheduler) {
+        super("ACL", refreshIntervalMs, scheduler);
         this.adminClient = adminClient;
+
+        MetricsProvider metricsProvider = scheduler.metricsProvider();
+        Tags tags = Tags.of("cache", "ACL");
+        this.refreshTimer = metricsProvider.timer("strimzi.cache.refresh.duration", "Time spent refreshing the cache", tags);
+        this.allocatedBytesCounter = metricsProvider.counter("strimzi.cache.refresh.allocated.bytes", "Bytes allocated by the cache thread while refreshing the cache", tags);
+        this.changedPrincipalsCounter = metricsProvider.counter("strimzi.cache.refresh.changed.principals", "Number of users whose ACLs changed since the previous refresh of the cache", tags);
     }
 
     /**
@@ -48,6 +81,22 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      */
     @Override
     protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
+        Map<String, Set<SimpleAclRule>> acls = loadAcls();
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(acls.size());
+
+        // Users with the same ACL rules share the same set
+        acls.forEach((user, rules) -> map.put(user, AclRuleInterner.internSet(rules)));
+
+        return map;
+    }
+
+    /**
+     * Describes all the ACL rules in Kafka and groups the rules of the users by the user name. The ACL rule sets are
+     * not interned.
+     *
+     * @return  Map with all users and their ACLs
+     */
+    private Map<String, Set<SimpleAclRule>> loadAcls() {
         KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
 
         try {
@@ -55,7 +104,7 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
             // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
             // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
             // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            Map<String, Set<SimpleAclRule>> map = new HashMap<>(aclsBindings.size() / 3);
 
             for (AclBinding aclBinding : aclsBindings) {
                 KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
@@ -71,4 +120,103 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
             throw new RuntimeException("Failed to load ACLs", e);
         }
     }
+
+    /**
+     * Loads the ACL rules from Kafka and updates the existing map only for the users whose ACLs changed. The ACL rule
+     * sets of the unchanged users are kept. The first load (or the first load after a failed refresh) creates a new
+     * map and is not counted as a change. When the refresh fails, the backoff is reset, so that the next refresh
+     * happens after the configured interval.
+     *
+     * @param current   The current map or null if the cache is not loaded yet
+     *
+     * @return  The updated map
+     */
+    @Override
+    protected ConcurrentHashMap<String, Set<SimpleAclRule>> refreshCache(ConcurrentHashMap<String, Set<SimpleAclRule>> current) {
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = currentThreadAllocatedBytes();
+
+        ConcurrentHashMap<String, Set<SimpleAclRule>> result;
+
+        try {
+            if (current == null) {
+                result = loadCache();
+                backoffFactor = 1;
+            } else {
+                int changed = diff(current, loadAcls());
+                result = current;
+
+                changedPrincipalsCounter.increment(changed);
+                backoffFactor = changed == 0 ? Math.min(backoffFactor * 2, MAX_BACKOFF_FACTOR) : 1;
+                LOGGER.debug("{} users with changed ACLs found when refreshing the ACL cache", changed);
+            }
+        } catch (RuntimeException e) {
+            backoffFactor = 1;
+            throw e;
+        } finally {
+            refreshTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            long endAllocatedBytes = currentThreadAllocatedBytes();
+            if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+                allocatedBytesCounter.increment(endAllocatedBytes - startAllocatedBytes);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates the current map to match the loaded map. Only the users whose ACLs differ are updated or removed, and
+     * only their ACL rule sets are interned.
+     *
+     * @param current   The current map which will be updated
+     * @param loaded    The map with the ACLs loaded from Kafka
+     *
+     * @return  Number of users whose ACLs changed
+     */
+    /* test */ static int diff(ConcurrentHashMap<String, Set<SimpleAclRule>> current, Map<String, Set<SimpleAclRule>> loaded) {
+        int changed = 0;
+
+        for (Map.Entry<String, Set<SimpleAclRule>> entry : loaded.entrySet()) {
+            Set<SimpleAclRule> existing = current.get(entry.getKey());
+
+            if (!entry.getValue().equals(existing)) {
+                current.put(entry.getKey(), AclRuleInterner.internSet(entry.getValue()));
+                changed++;
+            }
+        }
+
+        for (String user : current.keySet()) {
+            if (!loaded.containsKey(user)) {
+                current.remove(user);
+                changed++;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Returns the delay before the next refresh. This is the refresh interval multiplied by the backoff factor and
+     * with a random jitter.
+     *
+     * @return  The delay in milliseconds
+     */
+    @Override
+    protected long nextRefreshDelayMs() {
+        double jitter = 1.0 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return (long) (refreshIntervalMs() * backoffFactor * jitter);
+    }
+
+    /**
+     * @return  Bytes allocated so far by the current thread or -1 if the JVM does not provide it
+     */
+    private static long currentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        } else {
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler which refreshes all the caches of the User Operator from a single thread, so that the full scans of the
+ * Kafka cluster done by the different caches never run at the same time:
+ * <ul>
+ *     <li>The first refreshes of the caches are staggered over the refresh interval</li>
+ *     <li>The refresh interval of a cache is stretched when its refreshes are expensive, so that refreshing a cache
+ *         does not take more than {@code 1 / COST_FACTOR} of the time</li>
+ *     <li>A refresh is skipped when the cache was not read since its last refresh (when the operator is idle)</li>
+ * </ul>
+ * But the delay between two refreshes of a cache never exceeds {@code MAX_REFRESH_INTERVALS} refresh intervals, whatever
+ * the cache requests, so that a change made in Kafka outside of the operator is always detected by the next periodic
+ * reconciliation after at most that long.
+ * A cache which is not loaded or whose last refresh failed is neither skipped nor stretched, so that it is loaded
+ * again after the interval it requests.
+ * The age of each cache and the duration of its last refresh are exposed as gauges.
+ */
+public class CacheRefreshScheduler {
+    private final static Logger LOGGER = LogManager.getLogger(CacheRefreshScheduler.class);
+
+    /* test */ static final int COST_FACTOR = 10;
+    /* test */ static final int MAX_REFRESH_INTERVALS = 4;
+
+    private final MetricsProvider metricsProvider;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final List<AbstractCache<?>> caches = new CopyOnWriteArrayList<>();
+    private final Map<AbstractCache<?>, ScheduledFuture<?>> refreshes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the cache refresh scheduler
+     *
+     * @param metricsProvider   Metrics provider for the cache metrics
+     */
+    public CacheRefreshScheduler(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return  Metrics provider for the cache metrics
+     */
+    public MetricsProvider metricsProvider() {
+        return metricsProvider;
+    }
+
+    /**
+     * Stops the scheduler: no caches are refreshed anymore
+     */
+    public void stop() {
+        LOGGER.info("Stopping the cache refresh scheduler");
+        scheduledExecutor.shutdownNow();
+    }
+
+    /**
+     * Registers the cache with the scheduler. This is called when the cache is created.
+     *
+     * @param cache     The cache
+     */
+    void register(AbstractCache<?> cache) {
+        caches.add(cache);
+
+        Tags tags = Tags.of("cache", cache.name());
+        Gauge.builder("strimzi.cache.age", () -> cache.ageMs() < 0 ? Double.NaN : cache.ageMs() / 1000.0)
+                .description("Time since the last successful refresh of the cache")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
+        Gauge.builder("strimzi.cache.refresh.latency", () -> cache.lastRefreshDurationMs() / 1000.0)
+                .description("Duration of the last refresh of the cache")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(metricsProvider.meterRegistry());
+    }
+
+    /**
+     * Starts the periodical refreshes of the cache. The first refresh is delayed by a fraction of the refresh interval
+     * depending on the position of the cache among the registered caches, so that the caches refresh one after
+     * another.
+     *
+     * @param cache     The cache
+     */
+    void start(AbstractCache<?> cache) {
+        long staggerMs = cache.refreshIntervalMs() * Math.max(caches.indexOf(cache), 0) / Math.max(caches.size(), 1);
+        ScheduledFuture<?> refresh = schedule(cache, cache.nextRefreshDelayMs() + staggerMs);
+
+        if (refresh != null) {
+            refreshes.put(cache, refresh);
+        }
+    }
+
+    /**
+     * Stops the periodical refreshes of the cache
+     *
+     * @param cache     The cache
+     */
+    void stop(AbstractCache<?> cache) {
+        ScheduledFuture<?> refresh = refreshes.remove(cache);
+
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+    }
+
+    /**
+     * Refreshes the cache unless it is idle and schedules its next refresh
+     *
+     * @param cache     The cache
+     */
+    private void refresh(AbstractCache<?> cache) {
+        if (cache.isHealthy()
+                && cache.isIdle()
+                && cache.ageMs() >= 0
+                && cache.ageMs() < cache.refreshIntervalMs() * MAX_REFRESH_INTERVALS) {
+            LOGGER.debug("{} was not used since its last refresh and will not be refreshed now", cache.getClass().getSimpleName());
+        } else {
+            cache.updateCache();
+        }
+
+        // The cache might have been stopped in the meantime => it is rescheduled only when it is still present
+        refreshes.computeIfPresent(cache, (c, previous) -> schedule(c, nextRefreshDelayMs(c)));
+    }
+
+    /**
+     * Returns the delay before the next refresh of the cache. This is the delay requested by the cache, but at least
+     * {@code COST_FACTOR} times the duration of its last refresh, and at most {@code MAX_REFRESH_INTERVALS} refresh
+     * intervals. The duration of a failed refresh (for example a timeout) says nothing about the cost of the refresh,
+     * so after a failure the delay requested by the cache is used.
+     *
+     * @param cache     The cache
+     *
+     * @return  The delay in milliseconds
+     */
+    static long nextRefreshDelayMs(AbstractCache<?> cache) {
+        long delayMs = cache.isHealthy()
+                ? Math.max(cache.nextRefreshDelayMs(), cache.lastRefreshDurationMs() * COST_FACTOR)
+                : cache.nextRefreshDelayMs();
+
+        return Math.min(delayMs, cache.refreshIntervalMs() * MAX_REFRESH_INTERVALS);
+    }
+
+    private ScheduledFuture<?> schedule(AbstractCache<?> cache, long delayMs) {
+        try {
+            return scheduledExecutor.schedule(() -> refresh(cache), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Cache refresh scheduler is stopped and {} will not be refreshed anymore", cache.getClass().getSimpleName());
+            return null;
+        }
+    }
+}
@@ -32,9 +32,10 @@ public class QuotasCache extends AbstractCache<KafkaUserQuotas> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param scheduler             Scheduler which refreshes the cache
      */
-    public QuotasCache(Admin adminClient, long refreshIntervalMs) {
-        super("Quotas", refreshIntervalMs);
+    public QuotasCache(Admin adminClient, long refreshIntervalMs, CacheRefreshScheduler scheduler) {
+        super("Quotas", refreshIntervalMs, scheduler);
         this.adminClient = adminClient;
     }
 
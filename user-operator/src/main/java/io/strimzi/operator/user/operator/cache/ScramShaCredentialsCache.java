@@ -30,9 +30,10 @@ public class ScramShaCredentialsCache extends AbstractCache<Boolean> {
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param scheduler             Scheduler which refreshes the cache
      */
-    public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs) {
-        super("ScramShaCredentials", refreshIntervalMs);
+    public ScramShaCredentialsCache(Admin adminClient, long refreshIntervalMs, CacheRefreshScheduler scheduler) {
+        super("ScramShaCredentials", refreshIntervalMs, scheduler);
         this.adminClient = adminClient;
     }
 
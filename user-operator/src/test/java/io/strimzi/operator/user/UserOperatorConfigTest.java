@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -58,11 +59,16 @@ public class UserOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(300_000L));
         assertThat(config.getWorkQueueSize(), is(1_024));
         assertThat(config.getControllerThreadPoolSize(), is(50));
+        assertThat(config.getControllerMaxConcurrentReconciliations(), is(0));
         assertThat(config.getCacheRefresh(), is(15_000L));
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
+        assertThat(config.getBatchMaxInFlightBatches(), is(4));
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
+        assertThat(config.getKeyPairPoolSize(), is(32));
+        assertThat(config.getKeyPairPoolRefillIntervalMs(), is(100L));
     }
 
     @Test
@@ -141,6 +147,18 @@ public class UserOperatorConfigTest {
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
 
+    @Test
+    public void testFromMapCertManagerType()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.CERT_MANAGER.key(), "Java");
+
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER.key(), "bouncycastle");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapCaValidityRenewalEnvVarMissingSetsDefault()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
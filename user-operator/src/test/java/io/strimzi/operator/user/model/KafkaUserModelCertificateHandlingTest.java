@@ -62,7 +62,7 @@ public class KafkaUserModelCertificateHandlingTest {
     @Test
     public void testNewUser()    {
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, null, 365, 30, null, Clock.systemUTC());
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, null, 365, 30, null, Clock.systemUTC());
 
         assertThat(model.generateNewCertificateCalled, is(1));
         assertThat(model.reuseCertificateCalled, is(0));
@@ -79,7 +79,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
 
         assertThat(model.generateNewCertificateCalled, is(1));
         assertThat(model.reuseCertificateCalled, is(0));
@@ -98,7 +98,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
 
         assertThat(model.generateNewCertificateCalled, is(1));
         assertThat(model.reuseCertificateCalled, is(0));
@@ -117,7 +117,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 365, 30, null, Clock.systemUTC());
 
         assertThat(model.generateNewCertificateCalled, is(0));
         assertThat(model.reuseCertificateCalled, is(1));
@@ -136,7 +136,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 1000, 500, null, Clock.systemUTC());
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 1000, 500, null, Clock.systemUTC());
 
         assertThat(model.generateNewCertificateCalled, is(1));
         assertThat(model.reuseCertificateCalled, is(0));
@@ -155,7 +155,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 1000, 500, List.of("* * 8-10 * * ?", "* * 14-15 * * ?"), Clock.fixed(Instant.parse("2018-11-26T09:00:00Z"), Clock.systemUTC().getZone()));
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 1000, 500, List.of("* * 8-10 * * ?", "* * 14-15 * * ?"), Clock.fixed(Instant.parse("2018-11-26T09:00:00Z"), Clock.systemUTC().getZone()));
 
         assertThat(model.generateNewCertificateCalled, is(1));
         assertThat(model.reuseCertificateCalled, is(0));
@@ -174,7 +174,7 @@ public class KafkaUserModelCertificateHandlingTest {
                 .build();
 
         MockKafkaUserModel model = new MockKafkaUserModel();
-        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, userSecret, 1000, 500, List.of("* * 8-10 * * ?", "* * 14-15 * * ?"), Clock.fixed(Instant.parse("2018-11-26T11:55:00Z"), Clock.systemUTC().getZone()));
+        model.maybeGenerateCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, null, clientsCaCert, clientsCaKey, userSecret, 1000, 500, List.of("* * 8-10 * * ?", "* * 14-15 * * ?"), Clock.fixed(Instant.parse("2018-11-26T11:55:00Z"), Clock.systemUTC().getZone()));
 
         assertThat(model.generateNewCertificateCalled, is(0));
         assertThat(model.reuseCertificateCalled, is(1));
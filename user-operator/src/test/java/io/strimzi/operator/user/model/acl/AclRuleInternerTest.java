@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.model.acl;
+
+import io.strimzi.api.kafka.model.user.acl.AclOperation;
+import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
+import io.strimzi.api.kafka.model.user.acl.AclRule;
+import io.strimzi.api.kafka.model.user.acl.AclRuleBuilder;
+import io.strimzi.api.kafka.model.user.acl.AclRuleTopicResourceBuilder;
+import io.strimzi.api.kafka.model.user.acl.AclRuleType;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AclRuleInternerTest {
+    private static final AclRule READ_RULE = new AclRuleBuilder()
+            .withType(AclRuleType.ALLOW)
+            .withResource(new AclRuleTopicResourceBuilder().withName("my-topic").withPatternType(AclResourcePatternType.LITERAL).build())
+            .withHost("*")
+            .withOperations(AclOperation.READ, AclOperation.DESCRIBE)
+            .build();
+    private static final AclBinding READ_BINDING = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+            new AccessControlEntry("User:my-user", "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW)
+    );
+
+    @Test
+    public void testRulesAreInterned()  {
+        List<SimpleAclRule> rules = SimpleAclRule.fromCrd(READ_RULE);
+        List<SimpleAclRule> otherRules = SimpleAclRule.fromCrd(READ_RULE);
+
+        assertThat(otherRules.get(0), is(sameInstance(rules.get(0))));
+        assertThat(otherRules.get(1), is(sameInstance(rules.get(1))));
+        assertThat(rules.get(1).getResource(), is(sameInstance(rules.get(0).getResource())));
+
+        // Rules from Kafka and from the custom resource share the same instance
+        assertThat(SimpleAclRule.fromAclBinding(READ_BINDING), is(sameInstance(rules.get(0))));
+
+        // Rules created directly are equal, but not interned
+        SimpleAclRule rule = new SimpleAclRule(AclRuleType.ALLOW, new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL), "*", AclOperation.READ);
+        assertThat(rule, is(rules.get(0)));
+        assertThat(rule, is(not(sameInstance(rules.get(0)))));
+        assertThat(AclRuleInterner.intern(rule), is(sameInstance(rules.get(0))));
+    }
+
+    @Test
+    public void testRuleSetsAreInterned()  {
+        Set<SimpleAclRule> rules = new HashSet<>(SimpleAclRule.fromCrd(READ_RULE));
+        Set<SimpleAclRule> interned = AclRuleInterner.internSet(rules);
+
+        assertThat(interned, is(rules));
+        assertThat(interned, is(not(sameInstance(rules))));
+        assertThat(AclRuleInterner.internSet(new HashSet<>(SimpleAclRule.fromCrd(READ_RULE))), is(sameInstance(interned)));
+        assertThat(AclRuleInterner.internSet(interned), is(sameInstance(interned)));
+
+        // Interned sets are immutable
+        assertThrows(UnsupportedOperationException.class, () -> interned.add(SimpleAclRule.fromAclBinding(READ_BINDING)));
+
+        assertThat(AclRuleInterner.internSet(null), is(nullValue()));
+    }
+}
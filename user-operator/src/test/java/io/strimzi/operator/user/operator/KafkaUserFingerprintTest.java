@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.model.KafkaUserModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaUserFingerprintTest {
+    private static final Secret USER_SECRET = new SecretBuilder(ResourceUtils.createUserSecretTls(ResourceUtils.NAMESPACE))
+            .editMetadata()
+                .withResourceVersion("100")
+            .endMetadata()
+            .build();
+    private static final Secret CA_CERT_SECRET = new SecretBuilder(ResourceUtils.createClientsCaCertSecret(ResourceUtils.NAMESPACE))
+            .editMetadata()
+                .withResourceVersion("10")
+            .endMetadata()
+            .build();
+
+    private static KafkaUser kafkaUser(KafkaUser user) {
+        return new KafkaUserBuilder(user)
+                .editMetadata()
+                    .withUid("my-uid")
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testTlsUser() {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(ResourceUtils.NAMESPACE));
+        KafkaUserModel model = KafkaUserModel.fromCrd(user, "", true);
+
+        KafkaUserFingerprint fingerprint = KafkaUserFingerprint.of(user, USER_SECRET, CA_CERT_SECRET, model, ResourceUtils.NAME);
+
+        assertThat(fingerprint.secretResourceVersion(), is("100"));
+        assertThat(fingerprint.credentialsSecretNamespace(), is(ResourceUtils.NAMESPACE));
+        assertThat(fingerprint.credentialsSecretName(), is(ResourceUtils.CA_CERT_NAME));
+        assertThat(fingerprint.credentialsSecretResourceVersion(), is("10"));
+        assertThat(fingerprint.username(), is("CN=" + ResourceUtils.NAME));
+        assertThat(fingerprint.secretName(), is(ResourceUtils.NAME));
+        assertThat(fingerprint.tlsAcls(), is(model.getSimpleAclRules()));
+        assertThat(fingerprint.scramAcls(), is(nullValue()));
+        assertThat(fingerprint.tlsQuotas(), is(model.getQuotas()));
+        assertThat(fingerprint.scramQuotas(), is(nullValue()));
+        assertThat(fingerprint.scramCredentials(), is(false));
+        assertThat(fingerprint.skipped(), is(0));
+    }
+
+    @Test
+    public void testScramShaUser() {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserScramSha(ResourceUtils.NAMESPACE));
+        KafkaUserModel model = KafkaUserModel.fromCrd(user, "", true);
+        model.maybeGeneratePassword(Reconciliation.DUMMY_RECONCILIATION, new PasswordGenerator(12), null, null);
+
+        KafkaUserFingerprint fingerprint = KafkaUserFingerprint.of(user, USER_SECRET, null, model, ResourceUtils.NAME);
+
+        assertThat(fingerprint.credentialsSecretName(), is(nullValue()));
+        assertThat(fingerprint.credentialsSecretResourceVersion(), is(nullValue()));
+        assertThat(fingerprint.username(), is(ResourceUtils.NAME));
+        assertThat(fingerprint.tlsAcls(), is(nullValue()));
+        assertThat(fingerprint.scramAcls(), is(model.getSimpleAclRules()));
+        assertThat(fingerprint.tlsQuotas(), is(nullValue()));
+        assertThat(fingerprint.scramQuotas(), is(model.getQuotas()));
+        assertThat(fingerprint.scramCredentials(), is(true));
+    }
+
+    @Test
+    public void testMatches() {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(ResourceUtils.NAMESPACE));
+        KafkaUserFingerprint fingerprint = KafkaUserFingerprint.of(user, USER_SECRET, CA_CERT_SECRET, KafkaUserModel.fromCrd(user, "", true), ResourceUtils.NAME);
+
+        assertThat(fingerprint.matches(user, USER_SECRET), is(true));
+        assertThat(fingerprint.matches(kafkaUser(ResourceUtils.createKafkaUserTls(ResourceUtils.NAMESPACE)), new SecretBuilder(USER_SECRET).build()), is(true));
+
+        // Changed KafkaUser
+        assertThat(fingerprint.matches(new KafkaUserBuilder(user).editMetadata().withGeneration(2L).endMetadata().build(), USER_SECRET), is(false));
+        assertThat(fingerprint.matches(new KafkaUserBuilder(user).editMetadata().withUid("other-uid").endMetadata().build(), USER_SECRET), is(false));
+        assertThat(fingerprint.matches(new KafkaUserBuilder(user).editMetadata().withLabels(Map.of("foo", "baz")).endMetadata().build(), USER_SECRET), is(false));
+        assertThat(fingerprint.matches(new KafkaUserBuilder(user).editMetadata().withAnnotations(Map.of("foo", "bar")).endMetadata().build(), USER_SECRET), is(false));
+
+        // Changed or deleted user Secret
+        assertThat(fingerprint.matches(user, new SecretBuilder(USER_SECRET).editMetadata().withResourceVersion("101").endMetadata().build()), is(false));
+        assertThat(fingerprint.matches(user, null), is(false));
+    }
+
+    @Test
+    public void testSkippedReconciliations() {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(ResourceUtils.NAMESPACE));
+        KafkaUserFingerprint fingerprint = KafkaUserFingerprint.of(user, USER_SECRET, CA_CERT_SECRET, KafkaUserModel.fromCrd(user, "", true), ResourceUtils.NAME);
+
+        KafkaUserFingerprint skipped = fingerprint.withSkippedReconciliation().withSkippedReconciliation();
+
+        assertThat(skipped.skipped(), is(2));
+        assertThat(skipped.matches(user, USER_SECRET), is(true));
+        assertThat(skipped.tlsAcls(), is(fingerprint.tlsAcls()));
+        assertThat(skipped.credentialsSecretResourceVersion(), is(fingerprint.credentialsSecretResourceVersion()));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserStatus;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
+import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
+import io.strimzi.operator.user.ResourceUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the skipping of the periodic reconciliations of unchanged users without Kubernetes or Kafka. The Secrets are
+ * kept in a map and every update of a Secret gives it a new resource version.
+ */
+public class KafkaUserOperatorTest {
+    private static final String NAMESPACE = ResourceUtils.NAMESPACE;
+    private static final Reconciliation RECONCILIATION = new Reconciliation("timer", KafkaUser.RESOURCE_KIND, NAMESPACE, ResourceUtils.NAME);
+
+    private final Map<String, Secret> secrets = new ConcurrentHashMap<>();
+    private final AtomicInteger resourceVersion = new AtomicInteger(0);
+
+    private SecretOperator secretOps;
+    private SimpleAclOperator aclOps;
+    private ScramCredentialsOperator scramOps;
+    private QuotasOperator quotasOps;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void beforeEach() {
+        secretOps = mock(SecretOperator.class);
+        when(secretOps.getAsync(eq(NAMESPACE), any())).thenAnswer(invocation -> CompletableFuture.completedStage(secrets.get(invocation.<String>getArgument(1))));
+        when(secretOps.reconcile(any(), eq(NAMESPACE), any(), any(), any())).thenAnswer(invocation -> {
+            Secret desired = invocation.getArgument(4);
+            return CompletableFuture.completedStage(ReconcileResult.patched(putSecret(desired)));
+        });
+        putSecret(ResourceUtils.createClientsCaCertSecret(NAMESPACE));
+        putSecret(ResourceUtils.createClientsCaKeySecret(NAMESPACE));
+
+        aclOps = mock(SimpleAclOperator.class);
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(CompletableFuture.completedStage(ReconcileResult.noop(null)));
+        when(aclOps.isInSync(any(), any())).thenReturn(true);
+
+        scramOps = mock(ScramCredentialsOperator.class);
+        when(scramOps.reconcile(any(), any(), any())).thenReturn(CompletableFuture.completedStage(ReconcileResult.noop(null)));
+        when(scramOps.isInSync(any(), any())).thenReturn(true);
+
+        quotasOps = mock(QuotasOperator.class);
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(CompletableFuture.completedStage(ReconcileResult.noop(null)));
+        when(quotasOps.isInSync(any(), any())).thenReturn(true);
+    }
+
+    private Secret putSecret(Secret secret) {
+        Secret updated = new SecretBuilder(secret)
+                .editMetadata()
+                    .withResourceVersion(String.valueOf(resourceVersion.incrementAndGet()))
+                .endMetadata()
+                .build();
+        secrets.put(updated.getMetadata().getName(), updated);
+        return updated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private KafkaUserOperator kafkaUserOperator() {
+        return new KafkaUserOperator(ResourceUtils.createUserOperatorConfig(NAMESPACE), new MockCertManager(), null, secretOps,
+                mock(CrdOperator.class), scramOps, quotasOps, aclOps);
+    }
+
+    private static KafkaUser kafkaUser(KafkaUser user) {
+        return new KafkaUserBuilder(user)
+                .editMetadata()
+                    .withUid("my-uid")
+                    .withGeneration(1L)
+                .endMetadata()
+                .build();
+    }
+
+    private static KafkaUserStatus statusIfUnchanged(KafkaUserOperator op, KafkaUser user, Secret userSecret) throws ExecutionException, InterruptedException {
+        return op.statusIfUnchanged(RECONCILIATION, user, userSecret).toCompletableFuture().get();
+    }
+
+    @Test
+    public void testPeriodicReconciliationSkippedWhenUserDidNotChange() throws ExecutionException, InterruptedException {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(NAMESPACE));
+        KafkaUserOperator op = kafkaUserOperator();
+
+        // The user was never reconciled => it cannot be skipped
+        assertThat(statusIfUnchanged(op, user, null), is(nullValue()));
+
+        op.reconcile(RECONCILIATION, user, null).toCompletableFuture().get();
+        Secret userSecret = secrets.get(ResourceUtils.NAME);
+
+        // Nothing changed => the reconciliation is skipped with the same status
+        KafkaUserStatus status = statusIfUnchanged(op, user, userSecret);
+        assertThat(status, is(notNullValue()));
+        assertThat(status.getUsername(), is("CN=" + ResourceUtils.NAME));
+        assertThat(status.getSecret(), is(ResourceUtils.NAME));
+        assertThat(status.getObservedGeneration(), is(1L));
+        assertThat(status.getConditions().size(), is(1));
+        assertThat(status.getConditions().get(0).getStatus(), is("True"));
+        assertThat(status.getConditions().get(0).getType(), is("Ready"));
+
+        // The user Secret changed => the user has to be reconciled
+        Secret changedUserSecret = new SecretBuilder(userSecret).editMetadata().withResourceVersion("changed").endMetadata().build();
+        assertThat(statusIfUnchanged(op, user, changedUserSecret), is(nullValue()));
+
+        // The user Secret was deleted => the user has to be reconciled
+        assertThat(statusIfUnchanged(op, user, null), is(nullValue()));
+
+        // The KafkaUser changed => the user has to be reconciled
+        KafkaUser changedUser = new KafkaUserBuilder(user).editMetadata().withGeneration(2L).endMetadata().build();
+        assertThat(statusIfUnchanged(op, changedUser, userSecret), is(nullValue()));
+
+        // The KafkaUser was recreated => the user has to be reconciled
+        KafkaUser recreatedUser = new KafkaUserBuilder(user).editMetadata().withUid("other-uid").endMetadata().build();
+        assertThat(statusIfUnchanged(op, recreatedUser, userSecret), is(nullValue()));
+
+        // The user is still unchanged
+        assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+    }
+
+    @Test
+    public void testPeriodicReconciliationNotSkippedWhenCachesDiffer() throws ExecutionException, InterruptedException {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(NAMESPACE));
+        KafkaUserOperator op = kafkaUserOperator();
+
+        op.reconcile(RECONCILIATION, user, null).toCompletableFuture().get();
+        Secret userSecret = secrets.get(ResourceUtils.NAME);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+
+        // The ACLs were changed in Kafka => the user has to be reconciled
+        when(aclOps.isInSync(any(), any())).thenReturn(false);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(nullValue()));
+        when(aclOps.isInSync(any(), any())).thenReturn(true);
+
+        // The quotas were changed in Kafka => the user has to be reconciled
+        when(quotasOps.isInSync(any(), any())).thenReturn(false);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(nullValue()));
+        when(quotasOps.isInSync(any(), any())).thenReturn(true);
+
+        // The SCRAM-SHA credentials were changed in Kafka => the user has to be reconciled
+        when(scramOps.isInSync(any(), any())).thenReturn(false);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(nullValue()));
+        when(scramOps.isInSync(any(), any())).thenReturn(true);
+
+        assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+    }
+
+    @Test
+    public void testPeriodicReconciliationNotSkippedWhenCaChanged() throws ExecutionException, InterruptedException {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(NAMESPACE));
+        KafkaUserOperator op = kafkaUserOperator();
+
+        op.reconcile(RECONCILIATION, user, null).toCompletableFuture().get();
+        Secret userSecret = secrets.get(ResourceUtils.NAME);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+
+        // Renew the clients CA certificate
+        putSecret(new SecretBuilder(secrets.get(ResourceUtils.CA_CERT_NAME))
+                .addToData("ca.crt", Base64.getEncoder().encodeToString("new-clients-ca-crt".getBytes(StandardCharsets.UTF_8)))
+                .build());
+
+        assertThat(statusIfUnchanged(op, user, userSecret), is(nullValue()));
+    }
+
+    @Test
+    public void testPeriodicReconciliationNotSkippedForever() throws ExecutionException, InterruptedException {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserScramSha(NAMESPACE));
+        KafkaUserOperator op = kafkaUserOperator();
+
+        op.reconcile(RECONCILIATION, user, null).toCompletableFuture().get();
+        Secret userSecret = secrets.get(ResourceUtils.NAME);
+
+        for (int i = 0; i < KafkaUserOperator.MAX_SKIPPED_RECONCILIATIONS; i++) {
+            assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+        }
+
+        assertThat(statusIfUnchanged(op, user, userSecret), is(nullValue()));
+
+        // The full reconciliation takes a new fingerprint
+        op.reconcile(RECONCILIATION, user, userSecret).toCompletableFuture().get();
+        assertThat(statusIfUnchanged(op, user, secrets.get(ResourceUtils.NAME)), is(notNullValue()));
+    }
+
+    @Test
+    public void testPeriodicReconciliationNotSkippedAfterFailure() throws ExecutionException, InterruptedException {
+        KafkaUser user = kafkaUser(ResourceUtils.createKafkaUserTls(NAMESPACE));
+        KafkaUserOperator op = kafkaUserOperator();
+
+        op.reconcile(RECONCILIATION, user, null).toCompletableFuture().get();
+        Secret userSecret = secrets.get(ResourceUtils.NAME);
+        assertThat(statusIfUnchanged(op, user, userSecret), is(notNullValue()));
+
+        // A failed reconciliation drops the fingerprint
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(CompletableFuture.failedStage(new RuntimeException("Failed")));
+        assertThat(op.reconcile(RECONCILIATION, user, userSecret).toCompletableFuture().isCompletedExceptionally(), is(true));
+        assertThat(statusIfUnchanged(op, user, secrets.get(ResourceUtils.NAME)), is(nullValue()));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class KeyPairPoolTest {
+    private MeterRegistry registry;
+    private KeyPairPool pool;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    private double poolSize() {
+        return registry.get("strimzi.key.pair.pool.size").gauge().value();
+    }
+
+    private void waitForPoolSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (poolSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(poolSize(), is((double) size));
+    }
+
+    @Test
+    public void testPoolIsFilledAndRefilled() throws InterruptedException {
+        CountingCertManager certManager = new CountingCertManager();
+        pool = new KeyPairPool(certManager, 3, 0, new MicrometerMetricsProvider(registry));
+
+        // Nothing is generated before the pool is started
+        assertThat(pool.get(), is(nullValue()));
+        assertThat(registry.get("strimzi.key.pair.pool.misses").counter().count(), is(1.0));
+
+        pool.start();
+        waitForPoolSize(3);
+        assertThat(certManager.keys.get(), is(3));
+
+        // Taking the keys from the pool
+        for (int i = 0; i < 3; i++) {
+            byte[] key = pool.get();
+            assertThat(key, is(notNullValue()));
+            assertThat(new String(key, StandardCharsets.US_ASCII), is(MockCertManager.userKey()));
+        }
+
+        // The pool is refilled
+        waitForPoolSize(3);
+        assertThat(certManager.keys.get(), is(6));
+        assertThat(registry.get("strimzi.key.pair.pool.misses").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void testRefillIsThrottled() throws InterruptedException {
+        CountingCertManager certManager = new CountingCertManager();
+        pool = new KeyPairPool(certManager, 3, 200, new MicrometerMetricsProvider(registry));
+
+        long start = System.nanoTime();
+        pool.start();
+        waitForPoolSize(3);
+
+        // The first key is generated right away and the others after the refill interval
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(greaterThanOrEqualTo(400L)));
+    }
+
+    @Test
+    public void testFailedGenerationStopsTheRefill() throws InterruptedException {
+        CountingCertManager certManager = new CountingCertManager();
+        certManager.fail = true;
+        pool = new KeyPairPool(certManager, 3, 0, new MicrometerMetricsProvider(registry));
+
+        pool.start();
+        Thread.sleep(100);
+        assertThat(certManager.keys.get(), is(1));
+        assertThat(poolSize(), is(0.0));
+
+        // Taking a key retries the refill
+        certManager.fail = false;
+        assertThat(pool.get(), is(nullValue()));
+        assertThat(registry.get("strimzi.key.pair.pool.misses").counter().count(), is(1.0));
+        waitForPoolSize(3);
+    }
+
+    static class CountingCertManager extends MockCertManager {
+        private final AtomicInteger keys = new AtomicInteger(0);
+        private volatile boolean fail = false;
+
+        @Override
+        public void generatePrivateKey(File keyFile) throws IOException {
+            keys.incrementAndGet();
+
+            if (fail) {
+                throw new IOException("Failed to generate the key");
+            }
+
+            super.generatePrivateKey(keyFile);
+        }
+    }
+}
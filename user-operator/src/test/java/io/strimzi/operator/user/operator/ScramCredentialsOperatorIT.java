@@ -4,7 +4,10 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -18,7 +21,7 @@ public class ScramCredentialsOperatorIT extends AdminApiOperatorIT<String, List<
 
     @Override
     AdminApiOperator<String, List<String>> operator() {
-        return new ScramCredentialsOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor());
+        return new ScramCredentialsOperator(adminClient, ResourceUtils.createUserOperatorConfig(), Executors.newSingleThreadExecutor(), new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
     }
 
     @Override
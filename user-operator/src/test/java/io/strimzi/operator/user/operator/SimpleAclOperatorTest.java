@@ -4,15 +4,19 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.model.user.acl.AclOperation;
 import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
 import io.strimzi.api.kafka.model.user.acl.AclRuleType;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.model.acl.AclRuleInterner;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.strimzi.operator.user.operator.cache.CacheRefreshScheduler;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
@@ -55,6 +59,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SimpleAclOperatorTest {
@@ -88,7 +94,7 @@ public class SimpleAclOperatorTest {
 
         assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, aclBindings));
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
         aclOp.start();
 
         try {
@@ -126,7 +132,7 @@ public class SimpleAclOperatorTest {
             mockCreateAcls(mockAdminClient, aclBindingsCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
         aclOp.start();
 
         try {
@@ -170,7 +176,7 @@ public class SimpleAclOperatorTest {
             mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
         aclOp.start();
 
         try {
@@ -201,6 +207,34 @@ public class SimpleAclOperatorTest {
         }
     }
 
+    @Test
+    public void testReconcileWithUnchangedAclsIsNoop() throws ExecutionException, InterruptedException {
+        Admin mockAdminClient = mock(AdminClient.class);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding)));
+
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+        aclOp.start();
+
+        try {
+            Set<SimpleAclRule> desired = AclRuleInterner.internSet(Set.of(SimpleAclRule.fromAclBinding(readAclBinding)));
+            ReconcileResult<Set<SimpleAclRule>> result = aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", desired)
+                    .toCompletableFuture().get();
+
+            assertThat(result, is(notNullValue()));
+            assertThat(result.toString(), is("NOOP"));
+            verify(mockAdminClient, never()).createAcls(any());
+            verify(mockAdminClient, never()).deleteAcls(any());
+        } finally {
+            aclOp.stop();
+        }
+    }
+
     @Test
     public void testReconcileInternalDelete() throws ExecutionException, InterruptedException {
         Admin mockAdminClient = mock(AdminClient.class);
@@ -216,7 +250,7 @@ public class SimpleAclOperatorTest {
             mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
         });
 
-        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR);
+        SimpleAclOperator aclOp = new SimpleAclOperator(mockAdminClient, ResourceUtils.createUserOperatorConfig(), EXECUTOR, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
         aclOp.start();
 
         try {
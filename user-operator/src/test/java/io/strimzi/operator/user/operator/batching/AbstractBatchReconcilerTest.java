@@ -4,28 +4,51 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class AbstractBatchReconcilerTest {
-    Set<Integer> reconciled;
+    List<Integer> reconciled;
     CountDownLatch reconciliationFinished;
+    MeterRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+    }
 
     @Test
     public void testBatching() throws InterruptedException {
         int numberOfItems = 15;
 
-        reconciled = new HashSet<>(numberOfItems);
+        reconciled = Collections.synchronizedList(new ArrayList<>(numberOfItems));
         reconciliationFinished = new CountDownLatch(numberOfItems);
 
-        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100, 1, String::valueOf, 0);
         batcher.start();
 
         Thread producer = new Thread(() -> {
@@ -48,17 +71,98 @@ public class AbstractBatchReconcilerTest {
 
         producer.interrupt();
         batcher.stop();
+
+        assertThat(registry.get("strimzi.batch.size").tag("reconciler", "TestBatchReconciler").summary().totalAmount(), is((double) numberOfItems));
+        assertThat(registry.get("strimzi.batch.queue.wait").tag("reconciler", "TestBatchReconciler").timer().count(), is((long) numberOfItems));
+        assertThat(registry.get("strimzi.batch.in.flight").tag("reconciler", "TestBatchReconciler").gauge().value(), lessThanOrEqualTo(1.0));
+    }
+
+    @Test
+    public void testInFlightBatchesAreLimited() throws InterruptedException {
+        int numberOfItems = 20;
+
+        reconciled = Collections.synchronizedList(new ArrayList<>(numberOfItems));
+        reconciliationFinished = new CountDownLatch(numberOfItems);
+
+        // Batches of a single request => each request is a separate batch
+        TestBatchReconciler batcher = new TestBatchReconciler(20, 1, 10, 3, String::valueOf, 50);
+        batcher.start();
+
+        for (int i = 0; i < numberOfItems; i++)    {
+            batcher.enqueue(i);
+        }
+
+        assertThat(reconciliationFinished.await(10_000, TimeUnit.MILLISECONDS), is(true));
+        batcher.stop();
+
+        assertThat(reconciled.size(), is(numberOfItems));
+        assertThat(batcher.maxInFlight.get(), lessThanOrEqualTo(3));
+        assertThat(batcher.maxInFlight.get(), greaterThan(1));
+    }
+
+    @Test
+    public void testRequestsWithSameKeyAreNotInFlightAtTheSameTime() throws InterruptedException {
+        int numberOfItems = 30;
+
+        reconciled = Collections.synchronizedList(new ArrayList<>(numberOfItems));
+        reconciliationFinished = new CountDownLatch(numberOfItems);
+
+        // Only 3 different keys => most requests have to wait for the previous request with the same key
+        TestBatchReconciler batcher = new TestBatchReconciler(30, 5, 10, 5, i -> String.valueOf(i % 3), 20);
+        batcher.start();
+
+        for (int i = 0; i < numberOfItems; i++)    {
+            batcher.enqueue(i);
+        }
+
+        assertThat(reconciliationFinished.await(10_000, TimeUnit.MILLISECONDS), is(true));
+        batcher.stop();
+
+        assertThat(reconciled.size(), is(numberOfItems));
+        assertThat(batcher.keyConflict.get(), is(false));
+
+        // The requests with the same key are reconciled in the order in which they were enqueued
+        for (int key = 0; key < 3; key++) {
+            int previous = -1;
+
+            for (int item : reconciled) {
+                if (item % 3 == key) {
+                    assertThat(item, greaterThan(previous));
+                    previous = item;
+                }
+            }
+        }
     }
 
     class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
-        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+        private final Function<Integer, String> keyFunction;
+        private final long reconciliationMs;
+        private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+        final AtomicInteger inFlight = new AtomicInteger(0);
+        final AtomicInteger maxInFlight = new AtomicInteger(0);
+        final AtomicBoolean keyConflict = new AtomicBoolean(false);
+
+        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, Function<Integer, String> keyFunction, long reconciliationMs) {
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches, keyFunction, new MicrometerMetricsProvider(registry));
+            this.keyFunction = keyFunction;
+            this.reconciliationMs = reconciliationMs;
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
-            reconciled.addAll(items);
-            reconciliationFinished.countDown();
+        protected CompletionStage<Void> reconcile(Collection<Integer> items) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            items.forEach(item -> {
+                if (!inFlightKeys.add(keyFunction.apply(item))) {
+                    keyConflict.set(true);
+                }
+            });
+
+            return CompletableFuture.runAsync(() -> {
+                reconciled.addAll(items);
+                items.forEach(item -> inFlightKeys.remove(keyFunction.apply(item)));
+                inFlight.decrementAndGet();
+                items.forEach(item -> reconciliationFinished.countDown());
+            }, CompletableFuture.delayedExecutor(reconciliationMs, TimeUnit.MILLISECONDS));
         }
     }
 }
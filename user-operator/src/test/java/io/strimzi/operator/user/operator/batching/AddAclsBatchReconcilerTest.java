@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -81,7 +83,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -143,7 +145,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -194,7 +196,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
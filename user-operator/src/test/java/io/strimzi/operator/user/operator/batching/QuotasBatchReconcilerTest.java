@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.operator.AdminApiOperator;
@@ -66,7 +68,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -117,7 +119,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
@@ -165,7 +167,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 1, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
         reconciler.start();
 
         try {
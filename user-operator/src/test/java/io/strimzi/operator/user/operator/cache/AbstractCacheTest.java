@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -50,8 +53,9 @@ public class AbstractCacheTest {
         assertThat(cache.get("two"), is(nullValue()));
         assertThat(cache.get("three"), is(true));
 
-        // Wait for cache refresh
+        // Wait for cache refresh (the latch is released just before the refreshed data are set in the cache)
         reload.await();
+        TestUtils.waitFor("Cache refresh", 10, 5_000, () -> cache.get("one"));
 
         // Check refreshed values
         assertThat(cache.get("one"), is(true));
@@ -73,7 +77,7 @@ public class AbstractCacheTest {
 
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
-            super("Test", 100L);
+            super("Test", 100L, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
         }
 
         @Override
@@ -4,6 +4,9 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
@@ -21,22 +24,45 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class AclCacheTest {
+    private static final AclBinding MY_USER_READ = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+            new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+    );
+    private static final AclBinding MY_USER_WRITE = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+            new AccessControlEntry("User:my-user", "*", AclOperation.WRITE, AclPermissionType.ALLOW)
+    );
+    private static final AclBinding MY_USER2_READ = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+            new AccessControlEntry("User:my-user2", "*", AclOperation.READ, AclPermissionType.ALLOW)
+    );
+    private static final AclBinding MY_USER3_READ = new AclBinding(
+            new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+            new AccessControlEntry("User:my-user3", "*", AclOperation.READ, AclPermissionType.ALLOW)
+    );
+
     // Tests the cache in the following way:
     //   * Mocks the Admin API call
     //   * Makes the mock return two different results (initial data and updated data) to test the changes
@@ -91,7 +117,7 @@ public class AclCacheTest {
             return mockResult;
         });
 
-        AclCache cache = new AclCache(mockClient, 10);
+        AclCache cache = new AclCache(mockClient, 10, new CacheRefreshScheduler(new MicrometerMetricsProvider(new SimpleMeterRegistry())));
 
         try {
             cache.start();
@@ -119,4 +145,124 @@ public class AclCacheTest {
             cache.stop();
         }
     }
+
+    @Test
+    public void testRefreshUpdatesOnlyChangedUsers() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicReference<List<AclBinding>> acls = new AtomicReference<>(List.of(MY_USER_READ, MY_USER_WRITE, MY_USER2_READ));
+
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+        when(mockFuture.get(anyLong(), any())).thenAnswer(i -> acls.get());
+        DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+        when(mockResult.values()).thenReturn(mockFuture);
+        when(mockClient.describeAcls(any())).thenReturn(mockResult);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AclCache cache = new AclCache(mockClient, 1_000, new CacheRefreshScheduler(new MicrometerMetricsProvider(registry)));
+
+        // Initial load => not counted as a change
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = cache.refreshCache(null);
+        assertThat(map.size(), is(2));
+        assertThat(changedPrincipals(registry), is(0.0));
+        Set<SimpleAclRule> myUser2Acls = map.get("my-user2");
+
+        // Refresh without any change => the map and the ACL sets are kept and the refresh backs off
+        assertThat(cache.refreshCache(map), is(sameInstance(map)));
+        assertThat(map.get("my-user2"), is(sameInstance(myUser2Acls)));
+        assertThat(changedPrincipals(registry), is(0.0));
+        assertThat(cache.nextRefreshDelayMs(), is(greaterThanOrEqualTo(1_800L)));
+
+        cache.refreshCache(map);
+        assertThat(cache.nextRefreshDelayMs(), is(greaterThanOrEqualTo(3_600L)));
+        cache.refreshCache(map);
+        assertThat(cache.nextRefreshDelayMs(), is(lessThanOrEqualTo(4_400L)));
+
+        // ACLs changed outside of the operator => only the changed users are updated and the backoff is reset
+        acls.set(List.of(MY_USER_READ, MY_USER2_READ, MY_USER3_READ));
+        assertThat(cache.refreshCache(map), is(sameInstance(map)));
+        assertThat(map.get("my-user"), is(Set.of(SimpleAclRule.fromAclBinding(MY_USER_READ))));
+        assertThat(map.get("my-user2"), is(sameInstance(myUser2Acls)));
+        assertThat(map.get("my-user3"), is(Set.of(SimpleAclRule.fromAclBinding(MY_USER3_READ))));
+        assertThat(changedPrincipals(registry), is(2.0));
+        assertThat(cache.nextRefreshDelayMs(), is(lessThanOrEqualTo(1_100L)));
+
+        // Removed user
+        acls.set(List.of(MY_USER2_READ, MY_USER3_READ));
+        cache.refreshCache(map);
+        assertThat(map.get("my-user"), is(nullValue()));
+        assertThat(map.size(), is(2));
+        assertThat(changedPrincipals(registry), is(3.0));
+
+        assertThat(registry.get("strimzi.cache.refresh.duration").tag("cache", "ACL").timer().count(), is(6L));
+    }
+
+    @Test
+    public void testOperatorUpdatesDoNotCountAsChanges() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicReference<List<AclBinding>> acls = new AtomicReference<>(List.of(MY_USER2_READ));
+
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+        when(mockFuture.get(anyLong(), any())).thenAnswer(i -> acls.get());
+        DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+        when(mockResult.values()).thenReturn(mockFuture);
+        when(mockClient.describeAcls(any())).thenReturn(mockResult);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AclCache cache = new AclCache(mockClient, 1_000, new CacheRefreshScheduler(new MicrometerMetricsProvider(registry)));
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = cache.refreshCache(null);
+
+        // The operator creates the ACLs and updates the cache itself
+        acls.set(List.of(MY_USER_READ, MY_USER2_READ));
+        map.put("my-user", Set.of(SimpleAclRule.fromAclBinding(MY_USER_READ)));
+
+        cache.refreshCache(map);
+        assertThat(changedPrincipals(registry), is(0.0));
+        assertThat(cache.nextRefreshDelayMs(), is(greaterThanOrEqualTo(1_800L)));
+    }
+
+    @Test
+    public void testFailedRefreshResetsBackoff() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicBoolean fail = new AtomicBoolean(false);
+
+        // Mock Admin client
+        Admin mockClient = mock(Admin.class);
+        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
+        when(mockFuture.get(anyLong(), any())).thenAnswer(i -> {
+            if (fail.get()) {
+                throw new TimeoutException("Timed out");
+            } else {
+                return List.of(MY_USER_READ, MY_USER2_READ);
+            }
+        });
+        DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+        when(mockResult.values()).thenReturn(mockFuture);
+        when(mockClient.describeAcls(any())).thenReturn(mockResult);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AclCache cache = new AclCache(mockClient, 1_000, new CacheRefreshScheduler(new MicrometerMetricsProvider(registry)));
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = cache.refreshCache(null);
+
+        // No change => the refresh backs off
+        cache.refreshCache(map);
+        cache.refreshCache(map);
+        assertThat(cache.nextRefreshDelayMs(), is(greaterThanOrEqualTo(3_600L)));
+
+        // Failed refresh => the backoff is reset
+        fail.set(true);
+        assertThrows(RuntimeException.class, () -> cache.refreshCache(map));
+        assertThat(cache.nextRefreshDelayMs(), is(lessThanOrEqualTo(1_100L)));
+
+        // The cache is reset after a failure => the next load is not counted as a change
+        fail.set(false);
+        assertThat(cache.refreshCache(null).size(), is(2));
+        assertThat(changedPrincipals(registry), is(0.0));
+        assertThat(cache.nextRefreshDelayMs(), is(lessThanOrEqualTo(1_100L)));
+        assertThat(registry.get("strimzi.cache.refresh.duration").tag("cache", "ACL").timer().count(), is(5L));
+    }
+
+    private static double changedPrincipals(MeterRegistry registry) {
+        return registry.get("strimzi.cache.refresh.changed.principals").tag("cache", "ACL").counter().count();
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class CacheRefreshSchedulerTest {
+    private MeterRegistry registry;
+    private CacheRefreshScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        scheduler = new CacheRefreshScheduler(new MicrometerMetricsProvider(registry));
+    }
+
+    @AfterEach
+    public void teardown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void testRefreshesAreStaggered() throws InterruptedException {
+        List<String> refreshes = new CopyOnWriteArrayList<>();
+        CountDownLatch refreshed = new CountDownLatch(6);
+
+        TestCache first = new TestCache("first", 300, 0, refreshes, refreshed);
+        TestCache second = new TestCache("second", 300, 0, refreshes, refreshed);
+        TestCache third = new TestCache("third", 300, 0, refreshes, refreshed);
+
+        first.start();
+        second.start();
+        third.start();
+
+        // Keep the caches in use, so that their refreshes are not skipped
+        while (!refreshed.await(10, TimeUnit.MILLISECONDS)) {
+            first.get("key");
+            second.get("key");
+            third.get("key");
+        }
+
+        // The initial loads are followed by the periodical refreshes in the order of the stagger offsets
+        assertThat(refreshes.subList(0, 6), is(List.of("first", "second", "third", "first", "second", "third")));
+
+        first.stop();
+        second.stop();
+        third.stop();
+    }
+
+    @Test
+    public void testIdleCacheIsNotRefreshed() throws InterruptedException {
+        TestCache cache = new TestCache("idle", 50, 0, new CopyOnWriteArrayList<>(), new CountDownLatch(0));
+        cache.start();
+
+        // Without reads, the cache is refreshed only after MAX_REFRESH_INTERVALS refresh intervals
+        Thread.sleep(50 * CacheRefreshScheduler.MAX_REFRESH_INTERVALS - 50);
+        assertThat(cache.loads.get(), is(1));
+
+        // Reads make it refresh again
+        cache.get("key");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.loads.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.loads.get() >= 2, is(true));
+
+        cache.stop();
+    }
+
+    @Test
+    public void testExpensiveRefreshesAreStretched() {
+        TestCache cache = new TestCache("expensive", 100, 20, new CopyOnWriteArrayList<>(), new CountDownLatch(0));
+        cache.updateCache();
+
+        assertThat(cache.lastRefreshDurationMs(), is(greaterThanOrEqualTo(20L)));
+        assertThat(CacheRefreshScheduler.nextRefreshDelayMs(cache), is(greaterThanOrEqualTo(20L * CacheRefreshScheduler.COST_FACTOR)));
+    }
+
+    @Test
+    public void testRefreshesAreNotStretchedBeyondMaxRefreshIntervals() {
+        TestCache cache = new TestCache("very-expensive", 10, 20, new CopyOnWriteArrayList<>(), new CountDownLatch(0));
+        cache.updateCache();
+
+        // 10 times the refresh duration would be more than MAX_REFRESH_INTERVALS refresh intervals
+        assertThat(cache.lastRefreshDurationMs(), is(greaterThanOrEqualTo(20L)));
+        assertThat(CacheRefreshScheduler.nextRefreshDelayMs(cache), is(10L * CacheRefreshScheduler.MAX_REFRESH_INTERVALS));
+    }
+
+    @Test
+    public void testFailedRefreshIsNotSkippedOrStretched() throws InterruptedException {
+        TestCache cache = new TestCache("failing", 100, 0, new CopyOnWriteArrayList<>(), new CountDownLatch(0));
+        cache.start();
+
+        // The refresh fails after 50ms => without the failure, the next refresh would be delayed by 400ms
+        cache.loadMs = 50;
+        cache.fail = true;
+        cache.get("key");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.failures.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // The cache is not read anymore after the failure, but it is refreshed again after the refresh interval
+        assertThat(cache.failures.size() >= 2, is(true));
+        long gapMs = TimeUnit.NANOSECONDS.toMillis(cache.failures.get(1) - cache.failures.get(0));
+        assertThat(gapMs < 100 * CacheRefreshScheduler.MAX_REFRESH_INTERVALS, is(true));
+        assertThat(CacheRefreshScheduler.nextRefreshDelayMs(cache), is(100L));
+
+        // Once the cache loads again, it is skipped when idle and stretched when expensive
+        cache.fail = false;
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!cache.isHealthy() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(CacheRefreshScheduler.nextRefreshDelayMs(cache), is(100L * CacheRefreshScheduler.MAX_REFRESH_INTERVALS));
+
+        cache.stop();
+    }
+
+    @Test
+    public void testMetrics() {
+        TestCache cache = new TestCache("metrics", 60_000, 0, new CopyOnWriteArrayList<>(), new CountDownLatch(0));
+
+        // The cache was not loaded yet
+        assertThat(Double.isNaN(registry.get("strimzi.cache.age").tag("cache", "metrics").gauge().value()), is(true));
+
+        cache.start();
+        assertThat(registry.get("strimzi.cache.age").tag("cache", "metrics").gauge().value() >= 0.0, is(true));
+        assertThat(registry.get("strimzi.cache.refresh.latency").tag("cache", "metrics").gauge().value() >= 0.0, is(true));
+        cache.stop();
+    }
+
+    class TestCache extends AbstractCache<Boolean> {
+        private final String name;
+        private final List<String> refreshes;
+        private final CountDownLatch refreshed;
+        final AtomicInteger loads = new AtomicInteger(0);
+        final List<Long> failures = new CopyOnWriteArrayList<>();
+        volatile long loadMs;
+        volatile boolean fail = false;
+
+        TestCache(String name, long refreshIntervalMs, long loadMs, List<String> refreshes, CountDownLatch refreshed) {
+            super(name, refreshIntervalMs, scheduler);
+            this.name = name;
+            this.loadMs = loadMs;
+            this.refreshes = refreshes;
+            this.refreshed = refreshed;
+        }
+
+        @Override
+        protected ConcurrentHashMap<String, Boolean> loadCache() {
+            if (loadMs > 0) {
+                try {
+                    Thread.sleep(loadMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (fail) {
+                failures.add(System.nanoTime());
+                throw new RuntimeException("Failed to load");
+            }
+
+            loads.incrementAndGet();
+            refreshes.add(name);
+            refreshed.countDown();
+
+            return new ConcurrentHashMap<>();
+        }
+    }
+}